@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.NotificationChain;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+
+/**
+ * Bulk copier of a standard library resource, used to copy the standard libraries in each editing context.
+ *
+ * <p>
+ * The standard libraries never change, so everything which does not depend on the copy is computed once: the
+ * traversal order of the elements, the index of each element in this order, their IDs and the features to copy for
+ * each {@link EClass}. A copy then only allocates the copied elements and one array mapping the index of a source
+ * element to its copy. Attribute values (e.g. strings) are immutable and shared with the source elements, and the
+ * elements are appended to the copied lists without uniqueness checks nor lookups, so a copy is linear in the size of
+ * the library.
+ * </p>
+ *
+ * <p>
+ * Like the {@link EcoreUtil.Copier} used previously, each root element is copied separately: references to elements
+ * outside of the copied root (e.g. to another library) target the source elements.
+ * </p>
+ *
+ * @author agent
+ */
+public class StandardLibraryCopier {
+
+    private final Resource sourceResource;
+
+    /**
+     * The features to copy for the EClasses of the source elements, only modified by the constructor so that several
+     * copies can be made at the same time.
+     */
+    private final Map<EClass, CopiedFeatures> copiedFeatures = new HashMap<>();
+
+    private final List<CopyPlan> copyPlans = new ArrayList<>();
+
+    private int size;
+
+    public StandardLibraryCopier(Resource sourceResource) {
+        this.sourceResource = Objects.requireNonNull(sourceResource);
+        for (EObject root : sourceResource.getContents()) {
+            CopyPlan copyPlan = this.createCopyPlan(root);
+            this.copyPlans.add(copyPlan);
+            this.size += copyPlan.sources().length;
+        }
+    }
+
+    public Resource getSourceResource() {
+        return this.sourceResource;
+    }
+
+    /**
+     * Returns the number of elements copied by {@link #copy(JsonResource)}.
+     *
+     * @return the number of copied elements
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Copies the content of the source resource. The copied elements have the IDs of their source elements in the
+     * given target resource, but are not added to its contents.
+     *
+     * @param targetResource
+     *            the resource which will contain the copy
+     * @return the copies of the root elements of the source resource
+     */
+    public List<EObject> copy(JsonResource targetResource) {
+        List<EObject> roots = new ArrayList<>(this.copyPlans.size());
+        for (CopyPlan copyPlan : this.copyPlans) {
+            roots.add(this.copy(copyPlan, targetResource));
+        }
+        return roots;
+    }
+
+    private CopyPlan createCopyPlan(EObject root) {
+        List<EObject> sources = new ArrayList<>();
+        sources.add(root);
+        for (int i = 0; i < sources.size(); i++) {
+            EObject source = sources.get(i);
+            for (EReference containment : this.getCopiedFeatures(source.eClass()).containments()) {
+                this.getValues(source, containment).forEachRemaining(sources::add);
+            }
+        }
+
+        Map<EObject, Integer> indexes = new IdentityHashMap<>(sources.size());
+        String[] ids = new String[sources.size()];
+        for (int i = 0; i < sources.size(); i++) {
+            EObject source = sources.get(i);
+            indexes.put(source, i);
+            for (var adapter : source.eAdapters()) {
+                if (adapter instanceof IDAdapter idAdapter) {
+                    ids[i] = idAdapter.getId().toString();
+                }
+            }
+        }
+        return new CopyPlan(sources.toArray(EObject[]::new), ids, indexes);
+    }
+
+    private EObject copy(CopyPlan copyPlan, JsonResource targetResource) {
+        EObject[] sources = copyPlan.sources();
+        EObject[] copies = new EObject[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            copies[i] = EcoreUtil.create(sources[i].eClass());
+            if (sources[i].eIsProxy()) {
+                ((InternalEObject) copies[i]).eSetProxyURI(((InternalEObject) sources[i]).eProxyURI());
+            }
+            if (copyPlan.ids()[i] != null) {
+                targetResource.setID(copies[i], copyPlan.ids()[i]);
+            }
+        }
+        for (int i = 0; i < sources.length; i++) {
+            CopiedFeatures features = this.copiedFeatures.get(sources[i].eClass());
+            for (EAttribute attribute : features.attributes()) {
+                this.copyAttribute(attribute, sources[i], copies[i]);
+            }
+            for (EReference containment : features.containments()) {
+                this.copyReference(containment, sources[i], copies[i], copyPlan, copies);
+            }
+        }
+        for (int i = 0; i < sources.length; i++) {
+            for (EReference reference : this.copiedFeatures.get(sources[i].eClass()).references()) {
+                this.copyReference(reference, sources[i], copies[i], copyPlan, copies);
+            }
+        }
+        return copies[0];
+    }
+
+    private void copyAttribute(EAttribute attribute, EObject source, EObject copy) {
+        if (source.eIsSet(attribute)) {
+            Object value = source.eGet(attribute);
+            if (attribute.isMany()) {
+                ((InternalEList<Object>) copy.eGet(attribute)).addAllUnique((List<Object>) value);
+            } else {
+                copy.eSet(attribute, value);
+            }
+        }
+    }
+
+    /**
+     * Copies a reference, with the same semantic as {@link EcoreUtil.Copier}: references to elements which have not
+     * been copied are kept, unless the reference is bidirectional.
+     *
+     * <p>
+     * Each copied list is filled once, in the order of the source list, without looking up its current content: the
+     * single-valued side of a one-to-many bidirectional reference is not copied (see
+     * {@link #isSetByOpposite(EReference)}) since it is set when the many-valued side is copied, and both sides of a
+     * many-to-many bidirectional reference are copied without updating their opposite.
+     * </p>
+     */
+    private void copyReference(EReference reference, EObject source, EObject copy, CopyPlan copyPlan, EObject[] copies) {
+        if (source.eIsSet(reference)) {
+            // The contained elements are always copied and are never already in the list of their container.
+            boolean isBidirectional = reference.getEOpposite() != null && !reference.isContainment();
+            boolean updateOpposite = !isBidirectional || !reference.getEOpposite().isMany();
+            if (reference.isMany()) {
+                InternalEList<EObject> targetValues = (InternalEList<EObject>) copy.eGet(reference);
+                Iterator<EObject> sourceValues = this.getValues(source, reference);
+                while (sourceValues.hasNext()) {
+                    EObject value = sourceValues.next();
+                    EObject copiedValue = this.getCopy(value, copyPlan, copies);
+                    if (copiedValue == null && !isBidirectional) {
+                        targetValues.addUnique(value);
+                    } else if (copiedValue != null && updateOpposite) {
+                        targetValues.addUnique(copiedValue);
+                    } else if (copiedValue != null) {
+                        NotificationChain notifications = targetValues.basicAdd(copiedValue, null);
+                        if (notifications != null) {
+                            notifications.dispatch();
+                        }
+                    }
+                }
+            } else if (source.eGet(reference) instanceof EObject value) {
+                EObject copiedValue = this.getCopy(value, copyPlan, copies);
+                if (copiedValue != null) {
+                    copy.eSet(reference, copiedValue);
+                } else if (!isBidirectional) {
+                    copy.eSet(reference, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indicates if the given reference is the single-valued side of a one-to-many bidirectional reference, whose value
+     * is set when the many-valued side is copied.
+     */
+    private boolean isSetByOpposite(EReference reference) {
+        EReference opposite = reference.getEOpposite();
+        return !reference.isMany() && opposite != null && opposite.isMany() && opposite.isChangeable() && !opposite.isDerived();
+    }
+
+    private EObject getCopy(EObject source, CopyPlan copyPlan, EObject[] copies) {
+        EObject copy = null;
+        Integer index = copyPlan.indexes().get(source);
+        if (index != null) {
+            copy = copies[index];
+        }
+        return copy;
+    }
+
+    private Iterator<EObject> getValues(EObject source, EReference reference) {
+        Iterator<EObject> values = List.<EObject> of().iterator();
+        Object value = source.eGet(reference);
+        if (reference.isMany()) {
+            values = ((List<EObject>) value).iterator();
+        } else if (value instanceof EObject eObject) {
+            values = List.of(eObject).iterator();
+        }
+        return values;
+    }
+
+    private CopiedFeatures getCopiedFeatures(EClass eClass) {
+        return this.copiedFeatures.computeIfAbsent(eClass, key -> {
+            List<EAttribute> attributes = new ArrayList<>();
+            List<EReference> containments = new ArrayList<>();
+            List<EReference> references = new ArrayList<>();
+            for (EStructuralFeature feature : key.getEAllStructuralFeatures()) {
+                if (feature.isChangeable() && !feature.isDerived()) {
+                    if (feature instanceof EAttribute attribute) {
+                        attributes.add(attribute);
+                    } else if (feature instanceof EReference reference && reference.isContainment()) {
+                        containments.add(reference);
+                    } else if (feature instanceof EReference reference && !reference.isContainer() && !this.isSetByOpposite(reference)) {
+                        references.add(reference);
+                    }
+                }
+            }
+            return new CopiedFeatures(List.copyOf(attributes), List.copyOf(containments), List.copyOf(references));
+        });
+    }
+
+    /**
+     * The elements of a root element of the standard library, in the order in which they are copied.
+     *
+     * @param sources
+     *            the elements to copy, the root element first
+     * @param ids
+     *            the IDs of the elements to copy, with the same indexes as the elements
+     * @param indexes
+     *            the index of each element to copy
+     * @author agent
+     */
+    private record CopyPlan(EObject[] sources, String[] ids, Map<EObject, Integer> indexes) {
+        CopyPlan {
+            Objects.requireNonNull(sources);
+            Objects.requireNonNull(ids);
+            Objects.requireNonNull(indexes);
+        }
+    }
+
+    /**
+     * The features copied for an {@link EClass}.
+     *
+     * @param attributes
+     *            the attributes
+     * @param containments
+     *            the containment references
+     * @param references
+     *            the other references
+     * @author agent
+     */
+    private record CopiedFeatures(List<EAttribute> attributes, List<EReference> containments, List<EReference> references) {
+        CopiedFeatures {
+            Objects.requireNonNull(attributes);
+            Objects.requireNonNull(containments);
+            Objects.requireNonNull(references);
+        }
+    }
+}
@@ -17,18 +17,18 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 
-import org.eclipse.emf.common.util.EList;
-import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
-import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.syson.application.monitoring.EditingContextStatisticsRegistry;
+import org.eclipse.syson.util.SysONCrossReferenceAdapter;
 import org.eclipse.syson.util.SysONEContentAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,20 +43,38 @@ import org.springframework.stereotype.Service;
 @Service
 public class SysMLEditingContextProcessor implements IEditingContextProcessor {
 
+    /**
+     * The pre-processing phase attaching the SysON adapters to the editing context.
+     */
+    public static final String ADAPTERS_PHASE = "adapters";
+
+    /**
+     * The pre-processing phase copying the standard libraries in the editing context.
+     */
+    public static final String STANDARD_LIBRARIES_COPY_PHASE = "standard-libraries-copy";
+
     private final Logger logger = LoggerFactory.getLogger(SysMLEditingContextProcessor.class);
 
     private final SysMLStandardLibrariesConfiguration standardLibraries;
 
-    public SysMLEditingContextProcessor(SysMLStandardLibrariesConfiguration standardLibraries) {
+    private final EditingContextStatisticsRegistry statisticsRegistry;
+
+    public SysMLEditingContextProcessor(SysMLStandardLibrariesConfiguration standardLibraries, EditingContextStatisticsRegistry statisticsRegistry) {
         this.standardLibraries = Objects.requireNonNull(standardLibraries);
+        this.statisticsRegistry = Objects.requireNonNull(statisticsRegistry);
     }
 
     @Override
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof IEMFEditingContext siriusWebEditingContext) {
-            siriusWebEditingContext.getDomain().getResourceSet().eAdapters().add(new SysONEContentAdapter());
+            this.statisticsRegistry.register(siriusWebEditingContext);
 
             Instant start = Instant.now();
+            siriusWebEditingContext.getDomain().getResourceSet().eAdapters().add(new SysONEContentAdapter());
+            this.replaceCrossReferenceAdapter(siriusWebEditingContext.getDomain().getResourceSet());
+            this.statisticsRegistry.recordPreProcessingPhase(editingContext.getId(), ADAPTERS_PHASE, Duration.between(start, Instant.now()));
+
+            start = Instant.now();
             ResourceSet sourceResourceSet = this.standardLibraries.getLibrariesResourceSet();
             ResourceSet targetResourceSet = siriusWebEditingContext.getDomain().getResourceSet();
             sourceResourceSet.getResources().forEach(sourceResource -> {
@@ -71,15 +89,15 @@ public class SysMLEditingContextProcessor implements IEditingContextProcessor {
                         targetResource.eAdapters().add(new ResourceMetadataAdapter(resourceAdapter.get().getName()));
                     }
                     targetResourceSet.getResources().add(targetResource);
-                    EList<EObject> contents = sourceResource.getContents();
-                    for (EObject eObject : contents) {
-                        targetResource.getContents().add(this.copy(eObject, (JsonResource) targetResource));
-                    }
+                    StandardLibraryCopier copier = this.standardLibraries.getLibraryCopier(sourceResource);
+                    targetResource.getContents().addAll(copier.copy((JsonResource) targetResource));
                 }
             });
             Instant finish = Instant.now();
-            long timeElapsed = Duration.between(start, finish).toMillis();
-            this.logger.info("Copy all standard libraries in the editing context in {} ms", timeElapsed);
+            Duration timeElapsed = Duration.between(start, finish);
+            this.statisticsRegistry.recordPreProcessingPhase(editingContext.getId(), STANDARD_LIBRARIES_COPY_PHASE, timeElapsed);
+            this.logger.info("Copy all standard libraries in the editing context in {} ms", timeElapsed.toMillis());
+            this.statisticsRegistry.refresh(siriusWebEditingContext);
         }
     }
 
@@ -87,47 +105,18 @@ public class SysMLEditingContextProcessor implements IEditingContextProcessor {
     public void postProcess(IEditingContext editingContext) {
     }
 
-    private EObject copy(EObject eObject, JsonResource resource) {
-        SysONCopier copier = new SysONCopier(resource);
-        EObject result = copier.copy(eObject);
-        copier.copyReferences();
-        return result;
-    }
-
     /**
-     * Copier that also copies the IDAdapter.
-     *
-     * @author arichard
+     * Replaces the default cross referencer of the editing context by a {@link SysONCrossReferenceAdapter}, which does
+     * not track the references internal to the standard libraries. This has to be done before the copy of the
+     * standard libraries, so their elements are never adapted.
      */
-    private class SysONCopier extends Copier {
-
-        private static final long serialVersionUID = 1L;
-
-        private final JsonResource resource;
-
-        SysONCopier(JsonResource resource) {
-            super();
-            this.resource = resource;
-        }
-
-        @Override
-        public EObject copy(EObject eObject) {
-            EObject copy = super.copy(eObject);
-            var adapter = this.findIDAdapter(eObject);
-            if (adapter != null) {
-                var oldId = adapter.getId().toString();
-                this.resource.setID(copy, oldId);
-            }
-            return copy;
-        }
-
-        private IDAdapter findIDAdapter(EObject eObject) {
-            for (var adapter : eObject.eAdapters()) {
-                if (adapter instanceof IDAdapter idAdapter) {
-                    return idAdapter;
-                }
-            }
-            return null;
+    private void replaceCrossReferenceAdapter(ResourceSet resourceSet) {
+        Optional<Adapter> crossReferenceAdapter = resourceSet.eAdapters().stream()
+                .filter(adapter -> EditingContextCrossReferenceAdapter.class.equals(adapter.getClass()))
+                .findFirst();
+        if (crossReferenceAdapter.isPresent()) {
+            resourceSet.eAdapters().remove(crossReferenceAdapter.get());
+            resourceSet.eAdapters().add(new SysONCrossReferenceAdapter(this.standardLibraries.getLibraryCrossReferences()));
         }
     }
 }
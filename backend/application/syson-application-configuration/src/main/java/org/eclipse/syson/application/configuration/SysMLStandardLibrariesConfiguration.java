@@ -16,6 +16,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +32,8 @@ import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.helper.EMFUtils;
+import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.util.LibraryCrossReferences;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
@@ -46,14 +49,18 @@ import org.springframework.core.io.support.ResourcePatternResolver;
 @Configuration
 public class SysMLStandardLibrariesConfiguration {
 
-    public static final String KERML_LIBRARY_SCHEME = "kermllibrary";
+    public static final String KERML_LIBRARY_SCHEME = ElementUtil.KERML_LIBRARY_SCHEME;
 
-    public static final String SYSML_LIBRARY_SCHEME = "sysmllibrary";
+    public static final String SYSML_LIBRARY_SCHEME = ElementUtil.SYSML_LIBRARY_SCHEME;
 
     private final Logger logger = LoggerFactory.getLogger(SysMLStandardLibrariesConfiguration.class);
 
     private final ResourceSet librariesResourceSet;
 
+    private final LibraryCrossReferences libraryCrossReferences;
+
+    private final Map<Resource, StandardLibraryCopier> libraryCopiers;
+
     public SysMLStandardLibrariesConfiguration() {
         Instant start = Instant.now();
         this.librariesResourceSet = new ResourceSetImpl();
@@ -66,12 +73,46 @@ public class SysMLStandardLibrariesConfiguration {
         Instant finish = Instant.now();
         long timeElapsed = Duration.between(start, finish).toMillis();
         this.logger.info("KerML & SysML standard libraries initialization completed in {} ms", timeElapsed);
+
+        start = Instant.now();
+        this.libraryCrossReferences = new LibraryCrossReferences(this.librariesResourceSet.getResources());
+        finish = Instant.now();
+        timeElapsed = Duration.between(start, finish).toMillis();
+        this.logger.info("KerML & SysML standard libraries cross references ({} references) computed in {} ms", this.libraryCrossReferences.size(), timeElapsed);
+
+        start = Instant.now();
+        Map<Resource, StandardLibraryCopier> copiers = new LinkedHashMap<>();
+        this.librariesResourceSet.getResources().forEach(resource -> copiers.put(resource, new StandardLibraryCopier(resource)));
+        this.libraryCopiers = copiers;
+        finish = Instant.now();
+        timeElapsed = Duration.between(start, finish).toMillis();
+        this.logger.info("KerML & SysML standard libraries copiers initialization completed in {} ms", timeElapsed);
     }
 
     public ResourceSet getLibrariesResourceSet() {
         return this.librariesResourceSet;
     }
 
+    public LibraryCrossReferences getLibraryCrossReferences() {
+        return this.libraryCrossReferences;
+    }
+
+    /**
+     * Returns the copier of the given standard library resource.
+     *
+     * @param libraryResource
+     *            a resource of {@link #getLibrariesResourceSet()}
+     * @return the copier of the resource
+     */
+    public StandardLibraryCopier getLibraryCopier(Resource libraryResource) {
+        StandardLibraryCopier copier = this.libraryCopiers.get(libraryResource);
+        if (copier == null) {
+            // The resource has been added after the initialization, its copier cannot be shared.
+            copier = new StandardLibraryCopier(libraryResource);
+        }
+        return copier;
+    }
+
     private void loadResourcesFrom(ResourceSet resourceSet, String librariesDirectoryPath, String scheme) {
         try {
             PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Statistics about an open editing context.
+ *
+ * @param editingContextId
+ *            the id of the editing context
+ * @param resources
+ *            the statistics of the resources of the editing context
+ * @param elementCount
+ *            the number of elements of the editing context
+ * @param estimatedSize
+ *            the estimated size in bytes of the elements of the editing context
+ * @param crossReferencesCount
+ *            the number of references tracked incrementally by the cross referencer of the editing context
+ * @param sharedLibraryCrossReferencesCount
+ *            the number of references internal to the standard libraries, shared by all the editing contexts
+ * @param typeIndexSize
+ *            the number of elements in the type index of the editing context
+ * @param preProcessingTimings
+ *            the duration in milliseconds of each pre-processing phase of the editing context
+ * @param computedAt
+ *            the instant at which the statistics have been computed
+ * @author agent
+ */
+public record EditingContextStatistics(String editingContextId, List<ResourceStatistics> resources, int elementCount, long estimatedSize, int crossReferencesCount,
+        int sharedLibraryCrossReferencesCount, int typeIndexSize, Map<String, Long> preProcessingTimings, Instant computedAt) {
+    public EditingContextStatistics {
+        Objects.requireNonNull(editingContextId);
+        Objects.requireNonNull(resources);
+        Objects.requireNonNull(preProcessingTimings);
+        Objects.requireNonNull(computedAt);
+    }
+
+    /**
+     * Returns a copy of these statistics with the given pre-processing timings.
+     *
+     * @param timings
+     *            the duration in milliseconds of each pre-processing phase of the editing context
+     * @return the statistics with the given timings
+     */
+    public EditingContextStatistics withPreProcessingTimings(Map<String, Long> timings) {
+        return new EditingContextStatistics(this.editingContextId, this.resources, this.elementCount, this.estimatedSize, this.crossReferencesCount,
+                this.sharedLibraryCrossReferencesCount, this.typeIndexSize, timings, this.computedAt);
+    }
+}
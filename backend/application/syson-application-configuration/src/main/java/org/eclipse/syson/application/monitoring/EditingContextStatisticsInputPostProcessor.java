@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.monitoring;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Refreshes the statistics of an editing context after its inputs, on the thread of the editing context.
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextStatisticsInputPostProcessor implements IInputPostProcessor {
+
+    private final EditingContextStatisticsRegistry statisticsRegistry;
+
+    public EditingContextStatisticsInputPostProcessor(EditingContextStatisticsRegistry statisticsRegistry) {
+        this.statisticsRegistry = Objects.requireNonNull(statisticsRegistry);
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext, IInput input, Many<ChangeDescription> changeDescriptionSink) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            this.statisticsRegistry.refreshIfStale(emfEditingContext);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.util.SemanticChangeTracker;
+import org.eclipse.syson.util.SysONCrossReferenceAdapter;
+import org.eclipse.syson.util.SysONEContentAdapter;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps track of the editing contexts opened in SysON to provide statistics about their memory usage and the duration
+ * of their pre-processing.
+ *
+ * <p>
+ * Editing contexts are weakly referenced, so the registry does not prevent them from being garbage collected once they
+ * have been disposed. The statistics of an editing context are computed by its own thread, at the end of its
+ * pre-processing and then after the inputs it processes (at most once per {@link #REFRESH_INTERVAL}), and published as
+ * an immutable snapshot. The actuator endpoint and the Micrometer gauges only read these snapshots, so they never
+ * access the model, the type index or the cross referencer of an editing context while it is being modified.
+ * </p>
+ *
+ * <p>
+ * The standard libraries never change and are the same in all the editing contexts, so the statistics of each library
+ * resource are computed once and shared by all the editing contexts. The statistics of a user resource are only
+ * computed again if its content has changed since they have been computed, according to the
+ * {@link SemanticChangeTracker} of the editing context.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextStatisticsRegistry {
+
+    /**
+     * The minimal duration between two computations of the statistics of an editing context after its inputs.
+     */
+    public static final Duration REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private static final String PRE_PROCESSING_TIMER = "syson.editingcontext.preprocessing";
+
+    private final Map<String, MonitoredEditingContext> editingContexts = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final EditingContextMemoryEstimator memoryEstimator = new EditingContextMemoryEstimator();
+
+    /**
+     * The statistics of the standard libraries resources, by URI.
+     */
+    private final Map<String, ResourceStatistics> libraryStatistics = new ConcurrentHashMap<>();
+
+    public EditingContextStatisticsRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        Gauge.builder("syson.editingcontexts.open", this, registry -> registry.getSnapshots().size())
+                .description("The number of open SysON editing contexts")
+                .register(meterRegistry);
+        Gauge.builder("syson.editingcontexts.indexed.elements", this, registry -> registry.sum(EditingContextStatistics::typeIndexSize))
+                .description("The number of elements indexed by type in the open SysON editing contexts")
+                .register(meterRegistry);
+        Gauge.builder("syson.editingcontexts.crossreferences", this, registry -> registry.sum(EditingContextStatistics::crossReferencesCount))
+                .description("The number of references tracked by the cross referencers of the open SysON editing contexts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the given editing context.
+     *
+     * @param editingContext
+     *            the editing context being pre-processed
+     */
+    public void register(IEMFEditingContext editingContext) {
+        this.editingContexts.put(editingContext.getId(),
+                new MonitoredEditingContext(new WeakReference<>(editingContext), Collections.synchronizedMap(new LinkedHashMap<>()), new AtomicReference<>(), new HashMap<>()));
+    }
+
+    /**
+     * Records the duration of a pre-processing phase of the given editing context.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @param phase
+     *            the name of the phase
+     * @param duration
+     *            the duration of the phase
+     */
+    public void recordPreProcessingPhase(String editingContextId, String phase, Duration duration) {
+        Timer.builder(PRE_PROCESSING_TIMER)
+                .description("The duration of the pre-processing phases of the SysON editing contexts")
+                .tag("phase", phase)
+                .register(this.meterRegistry)
+                .record(duration);
+        MonitoredEditingContext monitoredEditingContext = this.editingContexts.get(editingContextId);
+        if (monitoredEditingContext != null) {
+            monitoredEditingContext.preProcessingTimings().merge(phase, duration.toMillis(), Long::sum);
+        }
+    }
+
+    /**
+     * Computes and publishes the statistics of the given editing context.
+     *
+     * <p>
+     * This method reads the whole content of the editing context, it must only be called by the thread processing the
+     * inputs of the editing context, or during its pre-processing.
+     * </p>
+     *
+     * @param editingContext
+     *            a registered editing context
+     */
+    public void refresh(IEMFEditingContext editingContext) {
+        MonitoredEditingContext monitoredEditingContext = this.editingContexts.get(editingContext.getId());
+        if (monitoredEditingContext != null) {
+            monitoredEditingContext.snapshot().set(this.computeStatistics(editingContext, monitoredEditingContext));
+        }
+    }
+
+    /**
+     * Computes and publishes the statistics of the given editing context if they are older than
+     * {@link #REFRESH_INTERVAL}.
+     *
+     * <p>
+     * Like {@link #refresh(IEMFEditingContext)}, this method must only be called by the thread processing the inputs of
+     * the editing context.
+     * </p>
+     *
+     * @param editingContext
+     *            a registered editing context
+     */
+    public void refreshIfStale(IEMFEditingContext editingContext) {
+        MonitoredEditingContext monitoredEditingContext = this.editingContexts.get(editingContext.getId());
+        if (monitoredEditingContext != null) {
+            EditingContextStatistics snapshot = monitoredEditingContext.snapshot().get();
+            if (snapshot == null || snapshot.computedAt().plus(REFRESH_INTERVAL).isBefore(Instant.now())) {
+                monitoredEditingContext.snapshot().set(this.computeStatistics(editingContext, monitoredEditingContext));
+            }
+        }
+    }
+
+    /**
+     * Returns the last statistics published by the open editing contexts.
+     *
+     * @return the statistics of the open editing contexts
+     */
+    public List<EditingContextStatistics> getStatistics() {
+        List<EditingContextStatistics> statistics = new ArrayList<>();
+        for (String editingContextId : this.editingContexts.keySet()) {
+            this.getStatistics(editingContextId).ifPresent(statistics::add);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the last statistics published by the given editing context.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @return the statistics of the editing context, if it is open and its statistics have been computed
+     */
+    public Optional<EditingContextStatistics> getStatistics(String editingContextId) {
+        Optional<EditingContextStatistics> statistics = Optional.empty();
+        MonitoredEditingContext monitoredEditingContext = this.editingContexts.get(editingContextId);
+        if (monitoredEditingContext != null) {
+            if (monitoredEditingContext.editingContext().get() == null) {
+                this.editingContexts.remove(editingContextId, monitoredEditingContext);
+            } else {
+                statistics = Optional.ofNullable(monitoredEditingContext.snapshot().get())
+                        .map(snapshot -> snapshot.withPreProcessingTimings(this.copyOf(monitoredEditingContext.preProcessingTimings())));
+            }
+        }
+        return statistics;
+    }
+
+    private List<EditingContextStatistics> getSnapshots() {
+        return this.editingContexts.keySet().stream()
+                .map(this::getStatistics)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private double sum(ToIntFunction<EditingContextStatistics> metric) {
+        return this.getSnapshots().stream()
+                .mapToInt(metric)
+                .sum();
+    }
+
+    private EditingContextStatistics computeStatistics(IEMFEditingContext editingContext, MonitoredEditingContext monitoredEditingContext) {
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        SysONEContentAdapter contentAdapter = null;
+        if (EcoreUtil.getAdapter(resourceSet.eAdapters(), SysONEContentAdapter.class) instanceof SysONEContentAdapter sysONEContentAdapter) {
+            contentAdapter = sysONEContentAdapter;
+        }
+        Map<String, UserResourceStatistics> previousUserStatistics = monitoredEditingContext.userResourceStatistics();
+        Map<String, UserResourceStatistics> userStatistics = new HashMap<>();
+        List<ResourceStatistics> resources = new ArrayList<>();
+        for (Resource resource : resourceSet.getResources()) {
+            String uri = resource.getURI().toString();
+            if (ElementUtil.isStandardLibraryResource(resource)) {
+                resources.add(this.libraryStatistics.computeIfAbsent(uri, key -> this.computeStatistics(resource)));
+            } else {
+                UserResourceStatistics statistics = previousUserStatistics.get(uri);
+                if (contentAdapter == null || statistics == null || statistics.hasChanged(resource, contentAdapter.getChangeTracker())) {
+                    long modificationCount = 0;
+                    if (contentAdapter != null) {
+                        modificationCount = contentAdapter.getModificationCount();
+                    }
+                    statistics = new UserResourceStatistics(this.computeStatistics(resource), resource.getContents().size(), modificationCount);
+                }
+                userStatistics.put(uri, statistics);
+                resources.add(statistics.statistics());
+            }
+        }
+        // Only the statistics of the current user resources are kept
+        previousUserStatistics.clear();
+        previousUserStatistics.putAll(userStatistics);
+        int crossReferencesCount = 0;
+        int sharedLibraryCrossReferencesCount = 0;
+        if (EcoreUtil.getAdapter(resourceSet.eAdapters(), SysONCrossReferenceAdapter.class) instanceof SysONCrossReferenceAdapter crossReferenceAdapter) {
+            crossReferencesCount = crossReferenceAdapter.getTrackedReferencesCount();
+            sharedLibraryCrossReferencesCount = crossReferenceAdapter.getLibraryCrossReferences().size();
+        }
+        int typeIndexSize = 0;
+        if (contentAdapter != null) {
+            typeIndexSize = contentAdapter.getTypeIndex().size();
+        }
+        return new EditingContextStatistics(editingContext.getId(), List.copyOf(resources),
+                resources.stream().mapToInt(ResourceStatistics::elementCount).sum(),
+                resources.stream().mapToLong(ResourceStatistics::estimatedSize).sum(),
+                crossReferencesCount,
+                sharedLibraryCrossReferencesCount,
+                typeIndexSize,
+                Map.of(),
+                Instant.now());
+    }
+
+    private Map<String, Long> copyOf(Map<String, Long> preProcessingTimings) {
+        synchronized (preProcessingTimings) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(preProcessingTimings));
+        }
+    }
+
+    private ResourceStatistics computeStatistics(Resource resource) {
+        int elementCount = 0;
+        long estimatedSize = 0;
+        TreeIterator<EObject> allContents = resource.getAllContents();
+        while (allContents.hasNext()) {
+            elementCount++;
+            estimatedSize += this.memoryEstimator.estimate(allContents.next());
+        }
+        String name = resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .map(ResourceMetadataAdapter::getName)
+                .findFirst()
+                .orElse("");
+        return new ResourceStatistics(resource.getURI().toString(), name, ElementUtil.isStandardLibraryResource(resource), elementCount, estimatedSize);
+    }
+
+    /**
+     * An editing context tracked by the registry.
+     *
+     * @param editingContext
+     *            a weak reference to the editing context
+     * @param preProcessingTimings
+     *            the duration in milliseconds of each pre-processing phase of the editing context
+     * @param snapshot
+     *            the last statistics computed by the thread of the editing context
+     * @param userResourceStatistics
+     *            the last statistics of the user resources of the editing context by URI, only used by the thread of
+     *            the editing context
+     * @author agent
+     */
+    public record MonitoredEditingContext(WeakReference<IEMFEditingContext> editingContext, Map<String, Long> preProcessingTimings, AtomicReference<EditingContextStatistics> snapshot,
+            Map<String, UserResourceStatistics> userResourceStatistics) {
+        public MonitoredEditingContext {
+            Objects.requireNonNull(editingContext);
+            Objects.requireNonNull(preProcessingTimings);
+            Objects.requireNonNull(snapshot);
+            Objects.requireNonNull(userResourceStatistics);
+        }
+    }
+
+    /**
+     * The statistics of a user resource, computed after a change of its editing context.
+     *
+     * @param statistics
+     *            the statistics of the resource
+     * @param rootCount
+     *            the number of roots of the resource when the statistics have been computed
+     * @param modificationCount
+     *            the modification count of the {@link SysONEContentAdapter} of the editing context when the statistics
+     *            have been computed
+     * @author agent
+     */
+    public record UserResourceStatistics(ResourceStatistics statistics, int rootCount, long modificationCount) {
+        public UserResourceStatistics {
+            Objects.requireNonNull(statistics);
+        }
+
+        /**
+         * Returns {@code true} if the roots of the given resource or their contents have changed since these
+         * statistics have been computed.
+         *
+         * @param resource
+         *            the resource
+         * @param changeTracker
+         *            the change tracker of the editing context
+         * @return {@code true} if the statistics of the resource have to be computed again
+         */
+        public boolean hasChanged(Resource resource, SemanticChangeTracker changeTracker) {
+            return resource.getContents().size() != this.rootCount
+                    || resource.getContents().stream().anyMatch(root -> changeTracker.hasChangedSince(root, this.modificationCount));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.monitoring;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the open editing contexts with their memory usage and pre-processing timings.
+ *
+ * <p>
+ * Like any actuator endpoint, it has to be exposed explicitly, for example with
+ * <code>management.endpoints.web.exposure.include=health,sysoneditingcontexts</code>.
+ * </p>
+ *
+ * @author agent
+ */
+@Component
+@Endpoint(id = "sysoneditingcontexts")
+public class EditingContextsEndpoint {
+
+    private final EditingContextStatisticsRegistry statisticsRegistry;
+
+    public EditingContextsEndpoint(EditingContextStatisticsRegistry statisticsRegistry) {
+        this.statisticsRegistry = Objects.requireNonNull(statisticsRegistry);
+    }
+
+    @ReadOperation
+    public List<EditingContextStatistics> editingContexts() {
+        return this.statisticsRegistry.getStatistics();
+    }
+
+    @ReadOperation
+    public EditingContextStatistics editingContext(@Selector String editingContextId) {
+        return this.statisticsRegistry.getStatistics(editingContextId).orElse(null);
+    }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.monitoring;
+
+import java.util.Objects;
+
+/**
+ * Statistics about a resource of an editing context.
+ *
+ * @param uri
+ *            the URI of the resource
+ * @param name
+ *            the name of the resource
+ * @param library
+ *            whether the resource contains a standard library
+ * @param elementCount
+ *            the number of elements contained in the resource
+ * @param estimatedSize
+ *            the estimated size in bytes of the elements contained in the resource
+ * @author agent
+ */
+public record ResourceStatistics(String uri, String name, boolean library, int elementCount, long estimatedSize) {
+    public ResourceStatistics {
+        Objects.requireNonNull(uri);
+        Objects.requireNonNull(name);
+    }
+}
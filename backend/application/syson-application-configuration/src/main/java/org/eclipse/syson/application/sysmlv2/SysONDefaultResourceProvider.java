@@ -14,16 +14,23 @@
 package org.eclipse.syson.application.sysmlv2;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
 import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
 import org.eclipse.sirius.components.emf.migration.MigrationService;
 import org.eclipse.sirius.components.emf.migration.api.IMigrationParticipant;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.syson.application.sysmlv2.api.IDefaultSysMLv2ResourceProvider;
+import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.SysmlFactory;
 import org.eclipse.syson.sysml.util.ElementUtil;
 import org.slf4j.Logger;
@@ -34,6 +41,13 @@ import org.springframework.stereotype.Service;
 /**
  * Provides the content of a default SysMLv2 resource.
  *
+ * <p>
+ * The templates (the default SysMLv2 content and the ones stored in the classpath) are created, or loaded and migrated,
+ * only once, when this service is created. Each call then returns a copy of the template in which all the IDs
+ * (resource IDs and element IDs) have been regenerated, so that several projects created from the same template never
+ * share an ID.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
@@ -41,12 +55,20 @@ public class SysONDefaultResourceProvider implements IDefaultSysMLv2ResourceProv
 
     private static final String BATMOBILE_DOCUMENT_NAME = "Batmobile.sysml";
 
+    private static final String BATMOBILE_TEMPLATE_PATH = "templates/Batmobile.json";
+
     private final List<IMigrationParticipant> migrationParticipants;
 
     private final Logger logger = LoggerFactory.getLogger(SysONDefaultResourceProvider.class);
 
+    private final Resource defaultSysMLv2Template;
+
+    private final Resource batmobileTemplate;
+
     public SysONDefaultResourceProvider(List<IMigrationParticipant> migrationParticipants) {
         this.migrationParticipants = Objects.requireNonNull(migrationParticipants);
+        this.defaultSysMLv2Template = this.createDefaultSysMLv2Template();
+        this.batmobileTemplate = this.loadTemplate(BATMOBILE_TEMPLATE_PATH, BATMOBILE_DOCUMENT_NAME);
     }
 
     @Override
@@ -65,7 +87,16 @@ public class SysONDefaultResourceProvider implements IDefaultSysMLv2ResourceProv
 
     @Override
     public Resource getDefaultSysMLv2Resource(UUID resourcePath, String name) {
-        var resource = this.getEmptyResource(resourcePath, name);
+        return this.copyTemplate(this.defaultSysMLv2Template, resourcePath, name);
+    }
+
+    @Override
+    public Resource getBatmobileResource() {
+        return this.copyTemplate(this.batmobileTemplate, UUID.randomUUID(), BATMOBILE_DOCUMENT_NAME);
+    }
+
+    private Resource createDefaultSysMLv2Template() {
+        var resource = this.getEmptyResource(UUID.randomUUID(), "");
 
         var rootNamespace = SysmlFactory.eINSTANCE.createNamespace();
         var rootMembership = SysmlFactory.eINSTANCE.createOwningMembership();
@@ -79,16 +110,43 @@ public class SysONDefaultResourceProvider implements IDefaultSysMLv2ResourceProv
         return resource;
     }
 
-    @Override
-    public Resource getBatmobileResource() {
-        var resource = this.getEmptyResource(UUID.randomUUID(), BATMOBILE_DOCUMENT_NAME);
+    private Resource loadTemplate(String path, String name) {
+        Instant start = Instant.now();
+        var resource = this.getEmptyResource(UUID.randomUUID(), name);
 
-        try (var inputStream = new ClassPathResource("templates/Batmobile.json").getInputStream()) {
+        try (var inputStream = new ClassPathResource(path).getInputStream()) {
             resource.load(inputStream, null);
         } catch (IOException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
 
+        this.logger.debug("Load the template {} in {} ms", path, Duration.between(start, Instant.now()).toMillis());
+        return resource;
+    }
+
+    /**
+     * Copies the content of the given template in a new resource, with new IDs.
+     *
+     * <p>
+     * The template is only read, so it can be copied by several threads at the same time.
+     * </p>
+     */
+    private Resource copyTemplate(Resource template, UUID resourcePath, String name) {
+        var resource = this.getEmptyResource(resourcePath, name);
+
+        Copier copier = new Copier();
+        Collection<EObject> contents = copier.copyAll(template.getContents());
+        copier.copyReferences();
+        resource.getContents().addAll(contents);
+        if (resource instanceof JsonResource jsonResource) {
+            for (EObject copy : copier.values()) {
+                jsonResource.setID(copy, UUID.randomUUID().toString());
+                if (copy instanceof Element element && element.getElementId() != null) {
+                    element.setElementId(UUID.randomUUID().toString());
+                }
+            }
+        }
+
         return resource;
     }
 }
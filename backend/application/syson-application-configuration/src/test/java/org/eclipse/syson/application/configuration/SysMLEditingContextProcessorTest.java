@@ -12,27 +12,52 @@
  *******************************************************************************/
 package org.eclipse.syson.application.configuration;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreAdapterFactory;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.ReflectiveItemProviderAdapterFactory;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.syson.application.monitoring.EditingContextStatistics;
+import org.eclipse.syson.application.monitoring.EditingContextStatisticsRegistry;
+import org.eclipse.syson.application.monitoring.ResourceStatistics;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.EMFUtils;
+import org.eclipse.syson.util.SysONCrossReferenceAdapter;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -49,6 +74,17 @@ public class SysMLEditingContextProcessorTest {
     
     private static ResourceSet resourceSet;
 
+    private static SysMLStandardLibrariesConfiguration standardLibraries;
+
+    private static EditingContextStatisticsRegistry statisticsRegistry;
+
+    private static String editingContextId;
+
+    /**
+     * Strongly referenced since the statistics registry only keeps weak references on editing contexts.
+     */
+    private static EditingContext editingContext;
+
     @BeforeAll
     static void loadLibraries() {
         ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory();
@@ -61,9 +97,12 @@ public class SysMLEditingContextProcessorTest {
         AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(composedAdapterFactory, new BasicCommandStack());
         resourceSet = editingDomain.getResourceSet();
         resourceSet.setPackageRegistry(ePackageRegistry);
-        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
-        EditingContext editingContext = new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of());
-        SysMLEditingContextProcessor editingContextProcessor = new SysMLEditingContextProcessor(new SysMLStandardLibrariesConfiguration());
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        editingContextId = UUID.randomUUID().toString();
+        editingContext = new EditingContext(editingContextId, editingDomain, Map.of(), List.of());
+        statisticsRegistry = new EditingContextStatisticsRegistry(new SimpleMeterRegistry());
+        standardLibraries = new SysMLStandardLibrariesConfiguration();
+        SysMLEditingContextProcessor editingContextProcessor = new SysMLEditingContextProcessor(standardLibraries, statisticsRegistry);
         editingContextProcessor.preProcess(editingContext);
         assertNotNull(resourceSet);
     }
@@ -95,4 +134,114 @@ public class SysMLEditingContextProcessorTest {
             assertNotNull(emfResource, "Unable to load " + libraryFilePath);
         }
     }
+
+    @Test
+    void copyLibrariesWithTheirIds() {
+        for (Resource sourceResource : standardLibraries.getLibrariesResourceSet().getResources()) {
+            Resource targetResource = resourceSet.getResource(sourceResource.getURI(), false);
+            assertNotNull(targetResource);
+            assertTrue(EcoreUtil.equals(sourceResource.getContents(), targetResource.getContents()));
+            TreeIterator<EObject> sourceContents = sourceResource.getAllContents();
+            TreeIterator<EObject> targetContents = targetResource.getAllContents();
+            while (sourceContents.hasNext()) {
+                EObject source = sourceContents.next();
+                EObject target = targetContents.next();
+                assertNotSame(source, target);
+                assertEquals(sourceResource.getURIFragment(source), targetResource.getURIFragment(target));
+            }
+        }
+    }
+
+    @Test
+    void replaceCrossReferenceAdapter() {
+        List<Adapter> crossReferenceAdapters = resourceSet.eAdapters().stream()
+                .filter(ECrossReferenceAdapter.class::isInstance)
+                .toList();
+        assertEquals(1, crossReferenceAdapters.size());
+        assertTrue(crossReferenceAdapters.get(0) instanceof SysONCrossReferenceAdapter);
+        SysONCrossReferenceAdapter crossReferenceAdapter = (SysONCrossReferenceAdapter) crossReferenceAdapters.get(0);
+        assertTrue(crossReferenceAdapter.getLibraryCrossReferences().size() > 0);
+
+        Optional<FeatureTyping> optionalFeatureTyping = findLibraryFeatureTyping();
+        assertTrue(optionalFeatureTyping.isPresent());
+        FeatureTyping featureTyping = optionalFeatureTyping.get();
+        assertFalse(featureTyping.eAdapters().contains(crossReferenceAdapter));
+        assertFalse(featureTyping.getType().eAdapters().contains(crossReferenceAdapter));
+
+        // The references internal to the standard libraries are provided by the shared table
+        assertEquals(crossReferenceAdapter, EMFUtils.getCrossReferenceAdapter(featureTyping.getType()).orElse(null));
+        List<EObject> typings = EMFUtils.getInverse(featureTyping.getType(), SysmlPackage.eINSTANCE.getFeatureTyping_Type()).stream()
+                .map(Setting::getEObject)
+                .toList();
+        assertTrue(typings.contains(featureTyping));
+    }
+
+    @Test
+    void computeEditingContextStatistics() {
+        Optional<EditingContextStatistics> optionalStatistics = statisticsRegistry.getStatistics(editingContextId);
+        assertTrue(optionalStatistics.isPresent());
+        EditingContextStatistics statistics = optionalStatistics.get();
+        assertEquals(resourceSet.getResources().size(), statistics.resources().size());
+        assertTrue(statistics.resources().stream().allMatch(ResourceStatistics::library));
+        assertTrue(statistics.elementCount() > 0);
+        assertTrue(statistics.estimatedSize() > 0);
+        assertTrue(statistics.typeIndexSize() > 0);
+        assertTrue(statistics.preProcessingTimings().containsKey(SysMLEditingContextProcessor.ADAPTERS_PHASE));
+        assertTrue(statistics.preProcessingTimings().containsKey(SysMLEditingContextProcessor.STANDARD_LIBRARIES_COPY_PHASE));
+
+        // Reading the statistics does not compute them again, only the thread of the editing context does
+        assertEquals(statistics.computedAt(), statisticsRegistry.getStatistics(editingContextId).map(EditingContextStatistics::computedAt).orElse(null));
+        statisticsRegistry.refreshIfStale(editingContext);
+        assertEquals(statistics.computedAt(), statisticsRegistry.getStatistics(editingContextId).map(EditingContextStatistics::computedAt).orElse(null));
+    }
+
+    @Test
+    void computeStatisticsOfChangedUserResourcesOnly() {
+        statisticsRegistry.refresh(editingContext);
+        List<ResourceStatistics> libraryStatistics = statisticsRegistry.getStatistics(editingContextId).orElseThrow().resources();
+
+        Resource userResource = new ResourceImpl(URI.createURI("syson:///user"));
+        Namespace rootNamespace = SysmlFactory.eINSTANCE.createNamespace();
+        userResource.getContents().add(rootNamespace);
+        resourceSet.getResources().add(userResource);
+        try {
+            statisticsRegistry.refresh(editingContext);
+            List<ResourceStatistics> resources = statisticsRegistry.getStatistics(editingContextId).orElseThrow().resources();
+            // The statistics of the standard libraries are computed once
+            assertTrue(libraryStatistics.stream().allMatch(statistics -> resources.stream().anyMatch(resource -> resource == statistics)));
+            ResourceStatistics userStatistics = findStatistics(userResource);
+            assertEquals(1, userStatistics.elementCount());
+            statisticsRegistry.refresh(editingContext);
+            assertSame(userStatistics, findStatistics(userResource));
+
+            OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+            membership.getOwnedRelatedElement().add(SysmlFactory.eINSTANCE.createPackage());
+            rootNamespace.getOwnedRelationship().add(membership);
+            statisticsRegistry.refresh(editingContext);
+            assertEquals(3, findStatistics(userResource).elementCount());
+        } finally {
+            resourceSet.getResources().remove(userResource);
+            statisticsRegistry.refresh(editingContext);
+        }
+    }
+
+    private static ResourceStatistics findStatistics(Resource resource) {
+        return statisticsRegistry.getStatistics(editingContextId).orElseThrow().resources().stream()
+                .filter(statistics -> statistics.uri().equals(resource.getURI().toString()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Optional<FeatureTyping> findLibraryFeatureTyping() {
+        Optional<FeatureTyping> result = Optional.empty();
+        for (Resource resource : resourceSet.getResources()) {
+            TreeIterator<EObject> allContents = resource.getAllContents();
+            while (result.isEmpty() && allContents.hasNext()) {
+                if (allContents.next() instanceof FeatureTyping featureTyping && featureTyping.getType() != null && featureTyping.getType().eResource() != null) {
+                    result = Optional.of(featureTyping);
+                }
+            }
+        }
+        return result;
+    }
 }
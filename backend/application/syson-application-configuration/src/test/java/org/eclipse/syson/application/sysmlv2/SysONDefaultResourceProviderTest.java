@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.sysmlv2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the copies of the templates made by {@link SysONDefaultResourceProvider}.
+ *
+ * @author agent
+ */
+public class SysONDefaultResourceProviderTest {
+
+    private final SysONDefaultResourceProvider resourceProvider = new SysONDefaultResourceProvider(List.of());
+
+    @Test
+    public void testBatmobileCopiesHaveFreshIds() {
+        Resource firstCopy = this.resourceProvider.getBatmobileResource();
+        Resource secondCopy = this.resourceProvider.getBatmobileResource();
+        assertNotEquals(firstCopy.getURI(), secondCopy.getURI());
+        this.assertFreshIds(firstCopy, secondCopy);
+    }
+
+    @Test
+    public void testDefaultSysMLv2CopiesHaveFreshIds() {
+        UUID firstPath = UUID.randomUUID();
+        Resource firstCopy = this.resourceProvider.getDefaultSysMLv2Resource(firstPath, "First.sysml");
+        Resource secondCopy = this.resourceProvider.getDefaultSysMLv2Resource(UUID.randomUUID(), "Second.sysml");
+        assertTrue(firstCopy.getURI().toString().contains(firstPath.toString()));
+        this.assertFreshIds(firstCopy, secondCopy);
+
+        assertEquals(1, firstCopy.getContents().size());
+        Namespace rootNamespace = (Namespace) firstCopy.getContents().get(0);
+        assertEquals(1, rootNamespace.getOwnedMember().size());
+        Package package1 = (Package) rootNamespace.getOwnedMember().get(0);
+        assertEquals("Package 1", package1.getDeclaredName());
+        assertNotNull(package1.getElementId());
+    }
+
+    private void assertFreshIds(Resource firstCopy, Resource secondCopy) {
+        Set<String> firstResourceIds = new HashSet<>();
+        Set<String> firstElementIds = new HashSet<>();
+        int firstCount = this.collectIds(firstCopy, firstResourceIds, firstElementIds);
+        Set<String> secondResourceIds = new HashSet<>();
+        Set<String> secondElementIds = new HashSet<>();
+        int secondCount = this.collectIds(secondCopy, secondResourceIds, secondElementIds);
+
+        assertTrue(firstCount > 0);
+        assertEquals(firstCount, secondCount);
+        // Each element has its own resource ID
+        assertEquals(firstCount, firstResourceIds.size());
+        assertEquals(secondCount, secondResourceIds.size());
+        assertFalse(firstElementIds.isEmpty());
+        assertEquals(firstElementIds.size(), secondElementIds.size());
+        assertTrue(Collections.disjoint(firstResourceIds, secondResourceIds));
+        assertTrue(Collections.disjoint(firstElementIds, secondElementIds));
+    }
+
+    private int collectIds(Resource resource, Set<String> resourceIds, Set<String> elementIds) {
+        int count = 0;
+        TreeIterator<EObject> allContents = resource.getAllContents();
+        while (allContents.hasNext()) {
+            EObject eObject = allContents.next();
+            count++;
+            resourceIds.add(resource.getURIFragment(eObject));
+            if (eObject instanceof Element element && element.getElementId() != null) {
+                elementIds.add(element.getElementId());
+            }
+        }
+        return count;
+    }
+}
@@ -33,6 +33,7 @@ import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
 import org.eclipse.syson.AbstractIntegrationTests;
 import org.eclipse.syson.application.controllers.diagrams.testers.NodeCreationTester;
 import org.eclipse.syson.application.data.SysMLv2Identifiers;
+import org.eclipse.syson.diagram.common.view.services.AddExistingElementsBudgetService;
 import org.eclipse.syson.services.diagrams.DiagramDescriptionIdProvider;
 import org.eclipse.syson.services.diagrams.api.IGivenDiagramDescription;
 import org.eclipse.syson.services.diagrams.api.IGivenDiagramReference;
@@ -92,6 +93,11 @@ public class GVAddExistingElementsTests extends AbstractIntegrationTests {
     @Autowired
     private NodeCreationTester nodeCreationTester;
 
+    @Autowired
+    private AddExistingElementsBudgetService addExistingElementsBudgetService;
+
+    private int defaultBudget;
+
     private DiagramDescriptionIdProvider diagramDescriptionIdProvider;
 
     private Step<DiagramRefreshedEventPayload> verifier;
@@ -112,10 +118,12 @@ public class GVAddExistingElementsTests extends AbstractIntegrationTests {
         this.diagramDescription = this.givenDiagramDescription.getDiagramDescription(SysMLv2Identifiers.GENERAL_VIEW_ADD_EXISTING_ELEMENTS_PROJECT,
                 SysMLv2Identifiers.GENERAL_VIEW_DIAGRAM_DESCRIPTION_ID);
         this.diagramDescriptionIdProvider = new DiagramDescriptionIdProvider(this.diagramDescription, this.diagramIdProvider);
+        this.defaultBudget = this.addExistingElementsBudgetService.getBudget();
     }
 
     @AfterEach
     public void tearDown() {
+        this.addExistingElementsBudgetService.setBudget(this.defaultBudget);
         if (this.verifier != null) {
             this.verifier.thenCancel()
                     .verify(Duration.ofSeconds(10));
@@ -233,6 +241,31 @@ public class GVAddExistingElementsTests extends AbstractIntegrationTests {
         this.verifier.consumeNextWith(updatedDiagramConsumer);
     }
 
+    @Sql(scripts = { "/scripts/syson-test-database.sql" }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = { "/scripts/cleanup.sql" }, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    @Test
+    public void addExistingElementsRecursiveOnDiagramWithBudget() {
+        // part1 and part2, the first element and its content, exhaust the budget before action1 and Package1 are added
+        this.addExistingElementsBudgetService.setBudget(2);
+        String creationToolId = this.diagramDescriptionIdProvider.getDiagramCreationToolId("Add existing elements (recursive)");
+        assertThat(creationToolId).as("The tool 'Add existing elements (recursive)' should exist on the diagram").isNotNull();
+        this.verifier.then(() -> this.nodeCreationTester.createNodeOnDiagram(SysMLv2Identifiers.GENERAL_VIEW_ADD_EXISTING_ELEMENTS_PROJECT, this.diagram, creationToolId));
+
+        Consumer<DiagramRefreshedEventPayload> updatedDiagramConsumer = payload -> Optional.of(payload)
+                .map(DiagramRefreshedEventPayload::diagram)
+                .ifPresentOrElse(newDiagram -> {
+                    assertThat(newDiagram.getNodes()).as("2 nodes should be visible on the diagram").hasSize(2);
+                    assertThat(newDiagram.getNodes())
+                            .as(MessageFormat.format(NODE_SHOULD_BE_ON_DIAGRAM_MESSAGE, PART1))
+                            .anyMatch(n -> Objects.equals(n.getTargetObjectLabel(), PART1))
+                            .as(MessageFormat.format(NODE_SHOULD_BE_ON_DIAGRAM_MESSAGE, PART2))
+                            .anyMatch(n -> Objects.equals(n.getTargetObjectLabel(), PART2))
+                            .as("The siblings of part1 should not be added before its content")
+                            .noneMatch(n -> Objects.equals(n.getTargetObjectLabel(), ACTION1) || Objects.equals(n.getTargetObjectLabel(), PACKAGE1));
+                }, () -> fail("Missing diagram"));
+        this.verifier.consumeNextWith(updatedDiagramConsumer);
+    }
+
     private Optional<Node> getCompartment(Node node, String compartmentName) {
         return node.getChildNodes().stream()
                 .filter(n -> Objects.equals(n.getInsideLabel().getText(), compartmentName))
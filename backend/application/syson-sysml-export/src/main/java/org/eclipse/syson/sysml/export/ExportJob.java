@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.eclipse.syson.sysml.export.utils.ExportProfile;
+import org.eclipse.syson.sysml.export.utils.ExportProgress;
+
+/**
+ * An export running in the background, created by the {@link SysMLv2ExportJobService}.
+ *
+ * @author agent
+ */
+public class ExportJob {
+
+    private final UUID id;
+
+    private final String fileName;
+
+    private final ExportProgress progress;
+
+    private final ExportProfile profile;
+
+    private final FutureTask<Path> task;
+
+    private volatile boolean started;
+
+    private volatile Instant finishTime;
+
+    /**
+     * Creates a job.
+     *
+     * @param fileName
+     *            the name of the exported file
+     * @param progress
+     *            the progress of the export
+     * @param profile
+     *            the profile of the export, or <code>null</code> if it is not profiled
+     * @param export
+     *            the export, which has to report its progress and returns the temporary file containing the exported
+     *            content
+     */
+    ExportJob(String fileName, ExportProgress progress, ExportProfile profile, Callable<Path> export) {
+        this.id = UUID.randomUUID();
+        this.fileName = Objects.requireNonNull(fileName);
+        this.progress = Objects.requireNonNull(progress);
+        this.profile = profile;
+        Objects.requireNonNull(export);
+        this.task = new FutureTask<>(() -> {
+            this.started = true;
+            return export.call();
+        }) {
+            @Override
+            protected void done() {
+                ExportJob.this.finishTime = Instant.now();
+            }
+        };
+    }
+
+    public UUID getId() {
+        return this.id;
+    }
+
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    public ExportProgress getProgress() {
+        return this.progress;
+    }
+
+    /**
+     * Returns the state of the export.
+     *
+     * @return the state of the export
+     */
+    public ExportJobState getState() {
+        ExportJobState state;
+        if (this.progress.isCanceled() || this.task.isCancelled()) {
+            state = ExportJobState.CANCELED;
+        } else if (!this.task.isDone()) {
+            if (this.started) {
+                state = ExportJobState.RUNNING;
+            } else {
+                state = ExportJobState.PENDING;
+            }
+        } else if (this.getResult().isPresent()) {
+            state = ExportJobState.DONE;
+        } else {
+            state = ExportJobState.FAILED;
+        }
+        return state;
+    }
+
+    /**
+     * Returns the temporary file containing the exported content, once the export is done.
+     *
+     * @return the temporary file containing the exported content, or an empty optional if the export is not done yet,
+     *         has been canceled or has failed
+     */
+    public Optional<Path> getResult() {
+        Optional<Path> result = Optional.empty();
+        if (this.task.isDone() && !this.task.isCancelled()) {
+            try {
+                result = Optional.ofNullable(this.task.get());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException exception) {
+                // The export has failed, the state of the job is FAILED
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the report of the profile of the export, once it is done.
+     *
+     * @return the report of the profile, or an empty optional if the export is not profiled or is not done
+     */
+    public Optional<String> getProfileReport() {
+        Optional<String> profileReport = Optional.empty();
+        if (this.profile != null && this.getResult().isPresent()) {
+            profileReport = Optional.of(this.profile.getReport());
+        }
+        return profileReport;
+    }
+
+    /**
+     * Returns the time at which the export has finished, i.e. has been done, has failed or has been canceled.
+     *
+     * @return the time at which the export has finished, or an empty optional if it is still pending or running
+     */
+    public Optional<Instant> getFinishTime() {
+        return Optional.ofNullable(this.finishTime);
+    }
+
+    /**
+     * Cancels the export. A running export stops at the serialization of its next element.
+     */
+    public void cancel() {
+        this.progress.cancel();
+        this.task.cancel(false);
+    }
+
+    Runnable getTask() {
+        return this.task;
+    }
+
+    /**
+     * The states of an export job.
+     *
+     * @author agent
+     */
+    public enum ExportJobState {
+        PENDING, RUNNING, DONE, FAILED, CANCELED
+    }
+}
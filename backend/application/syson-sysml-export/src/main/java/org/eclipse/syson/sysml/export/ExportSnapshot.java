@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.syson.sysml.helper.EMFUtils;
+import org.eclipse.syson.sysml.util.ElementUtil;
+
+/**
+ * A copy of the resources of a model to export, which is never modified once created.
+ *
+ * <p>
+ * The exports are long running and may be executed by several threads, while the model can only be read by the thread
+ * owning it, e.g. the thread of its editing context. A snapshot has to be created by this thread, then it can be
+ * exported from any thread while the model is edited.
+ * </p>
+ *
+ * <p>
+ * The copied elements keep the IDs of the elements of the model, so that they are identified like them, e.g. by the
+ * {@link org.eclipse.syson.sysml.export.utils.IncrementalExportCache} of the model.
+ * </p>
+ *
+ * <p>
+ * The standard libraries are never copied: they never change, so the copied elements keep referencing the elements of
+ * the libraries of the model, which can be read by any thread.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ExportSnapshot {
+
+    private final ResourceSet resourceSet;
+
+    private final ECrossReferenceAdapter crossReferenceAdapter;
+
+    private final Map<Resource, Resource> copies;
+
+    private final Map<Resource, Long> elementCounts = new HashMap<>();
+
+    private ExportSnapshot(ResourceSet resourceSet, ECrossReferenceAdapter crossReferenceAdapter, Map<Resource, Resource> copies) {
+        this.resourceSet = Objects.requireNonNull(resourceSet);
+        this.crossReferenceAdapter = Objects.requireNonNull(crossReferenceAdapter);
+        this.copies = Objects.requireNonNull(copies);
+        for (Resource copy : copies.values()) {
+            long count = 0;
+            TreeIterator<EObject> iterator = copy.getAllContents();
+            while (iterator.hasNext()) {
+                iterator.next();
+                count++;
+            }
+            this.elementCounts.put(copy, count);
+        }
+    }
+
+    /**
+     * Copies the given resources of a model. This method has to be called by the thread owning the model.
+     *
+     * <p>
+     * The user resources referenced by the exported resources, directly or not, are copied too, so that the names of
+     * the referenced elements are computed in the snapshot only, as in the model. The references to the standard
+     * libraries target the elements of the libraries of the model. The resource set of the snapshot has a cross
+     * referencer, used to find the memberships from which an element can be reached when its name is computed. The
+     * references between elements of the standard libraries are looked up once, for the library elements referenced
+     * by the copied elements.
+     * </p>
+     *
+     * @param resources
+     *            the resources to export
+     * @return the snapshot
+     */
+    public static ExportSnapshot copy(List<Resource> resources) {
+        Set<EObject> libraryTargets = new LinkedHashSet<>();
+        Set<Resource> referencedResources = getReferencedResources(resources, libraryTargets);
+        SnapshotCrossReferenceAdapter crossReferenceAdapter = new SnapshotCrossReferenceAdapter(getLibraryInverseReferences(libraryTargets));
+        ResourceSet resourceSetSnapshot = new ResourceSetImpl();
+        resourceSetSnapshot.eAdapters().add(crossReferenceAdapter);
+        Map<Resource, Resource> copies = new LinkedHashMap<>();
+        Copier copier = new Copier();
+        for (Resource resource : referencedResources) {
+            JsonResource copy = (JsonResource) new JSONResourceFactory().createResource(resource.getURI());
+            List<EObject> roots = new ArrayList<>(copier.copyAll(resource.getContents()));
+            TreeIterator<EObject> allContents = resource.getAllContents();
+            while (allContents.hasNext()) {
+                EObject original = allContents.next();
+                String id = getId(original);
+                if (id != null && copier.get(original) != null) {
+                    copy.setID(copier.get(original), id);
+                }
+            }
+            copy.getContents().addAll(roots);
+            for (Adapter adapter : resource.eAdapters()) {
+                if (adapter instanceof ResourceMetadataAdapter resourceMetadataAdapter) {
+                    copy.eAdapters().add(new ResourceMetadataAdapter(resourceMetadataAdapter.getName()));
+                }
+            }
+            resourceSetSnapshot.getResources().add(copy);
+            copies.put(resource, copy);
+        }
+        copier.copyReferences();
+        Map<Resource, Resource> exportedCopies = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            exportedCopies.put(resource, copies.get(resource));
+        }
+        return new ExportSnapshot(resourceSetSnapshot, crossReferenceAdapter, exportedCopies);
+    }
+
+    public ResourceSet getResourceSet() {
+        return this.resourceSet;
+    }
+
+    /**
+     * Returns the cross referencer of the snapshot, which also finds the references to the elements of the standard
+     * libraries from the copied elements and from the other elements of the standard libraries.
+     *
+     * @return the cross referencer of the snapshot
+     */
+    public ECrossReferenceAdapter getCrossReferenceAdapter() {
+        return this.crossReferenceAdapter;
+    }
+
+    /**
+     * Returns the copies of the exported resources, in the order of the resources given to
+     * {@link #copy(List)}.
+     *
+     * @return the copies of the exported resources
+     */
+    public List<Resource> getExportedResources() {
+        return List.copyOf(this.copies.values());
+    }
+
+    /**
+     * Returns the copy of the given resource.
+     *
+     * @param resource
+     *            a resource of the model
+     * @return the copy of the resource, if it has been exported
+     */
+    public Optional<Resource> getCopy(Resource resource) {
+        return Optional.ofNullable(this.copies.get(resource));
+    }
+
+    /**
+     * Returns the number of elements of the exported resources.
+     *
+     * @return the number of exported elements
+     */
+    public long getElementCount() {
+        return this.elementCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the number of elements of the given copy of an exported resource.
+     *
+     * @param copy
+     *            the copy of an exported resource
+     * @return the number of elements of the copy
+     */
+    public long getElementCount(Resource copy) {
+        return this.elementCounts.getOrDefault(copy, 0L);
+    }
+
+    /**
+     * Returns the given resources and the user resources they reference, directly or not, through the references
+     * copied by a {@link Copier}. The referenced elements of the standard libraries are added to the given set.
+     */
+    private static Set<Resource> getReferencedResources(List<Resource> resources, Set<EObject> libraryTargets) {
+        Set<Resource> referencedResources = new LinkedHashSet<>(resources);
+        Deque<Resource> resourcesToVisit = new ArrayDeque<>(resources);
+        while (!resourcesToVisit.isEmpty()) {
+            TreeIterator<EObject> allContents = resourcesToVisit.poll().getAllContents();
+            while (allContents.hasNext()) {
+                EObject eObject = allContents.next();
+                for (EReference eReference : eObject.eClass().getEAllReferences()) {
+                    if (!eReference.isContainment() && !eReference.isContainer() && eReference.isChangeable() && !eReference.isDerived() && eObject.eIsSet(eReference)) {
+                        for (EObject target : getTargets(eObject, eReference)) {
+                            Resource resource = target.eResource();
+                            if (!target.eIsProxy() && ElementUtil.isStandardLibraryResource(resource)) {
+                                libraryTargets.add(target);
+                            } else if (!target.eIsProxy() && resource != null && referencedResources.add(resource)) {
+                                resourcesToVisit.add(resource);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return referencedResources;
+    }
+
+    /**
+     * Returns the references from other elements of the standard libraries to the given elements of the standard
+     * libraries, found by the cross referencer of the model. These references never change.
+     */
+    private static Map<EObject, List<Setting>> getLibraryInverseReferences(Set<EObject> libraryTargets) {
+        Map<EObject, List<Setting>> libraryInverseReferences = new HashMap<>();
+        for (EObject libraryTarget : libraryTargets) {
+            List<Setting> settings = EMFUtils.getCrossReferenceAdapter(libraryTarget)
+                    .map(crossReferenceAdapter -> crossReferenceAdapter.getInverseReferences(libraryTarget, false))
+                    .orElse(List.of())
+                    .stream()
+                    .filter(setting -> ElementUtil.isStandardLibraryResource(setting.getEObject().eResource()))
+                    .toList();
+            if (!settings.isEmpty()) {
+                libraryInverseReferences.put(libraryTarget, settings);
+            }
+        }
+        return libraryInverseReferences;
+    }
+
+    private static List<EObject> getTargets(EObject eObject, EReference eReference) {
+        List<EObject> targets = new ArrayList<>();
+        Object value = eObject.eGet(eReference, false);
+        if (value instanceof Collection<?> values) {
+            values.stream().filter(EObject.class::isInstance).map(EObject.class::cast).forEach(targets::add);
+        } else if (value instanceof EObject target) {
+            targets.add(target);
+        }
+        return targets;
+    }
+
+    private static String getId(EObject eObject) {
+        String id = null;
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter idAdapter && idAdapter.getId() != null) {
+                id = idAdapter.getId().toString();
+            }
+        }
+        return id;
+    }
+
+    /**
+     * The cross referencer of a snapshot. The copied elements are tracked as usual, the references between elements of
+     * the standard libraries are the ones found when the snapshot has been created.
+     *
+     * @author agent
+     */
+    private static final class SnapshotCrossReferenceAdapter extends ECrossReferenceAdapter {
+
+        private final Map<EObject, List<Setting>> libraryInverseReferences;
+
+        SnapshotCrossReferenceAdapter(Map<EObject, List<Setting>> libraryInverseReferences) {
+            this.libraryInverseReferences = Objects.requireNonNull(libraryInverseReferences);
+        }
+
+        @Override
+        public Collection<Setting> getInverseReferences(EObject eObject, boolean resolve) {
+            return this.withLibraryReferences(eObject, null, super.getInverseReferences(eObject, resolve));
+        }
+
+        @Override
+        public Collection<Setting> getInverseReferences(EObject eObject, EReference eReference, boolean resolve) {
+            return this.withLibraryReferences(eObject, eReference, super.getInverseReferences(eObject, eReference, resolve));
+        }
+
+        private Collection<Setting> withLibraryReferences(EObject eObject, EReference eReference, Collection<Setting> settings) {
+            Collection<Setting> result = settings;
+            List<Setting> librarySettings = this.libraryInverseReferences.getOrDefault(eObject, List.of());
+            if (!librarySettings.isEmpty()) {
+                result = new ArrayList<>(settings);
+                librarySettings.stream()
+                        .filter(setting -> eReference == null || eReference.equals(setting.getEStructuralFeature()))
+                        .forEach(result::add);
+            }
+            return result;
+        }
+    }
+}
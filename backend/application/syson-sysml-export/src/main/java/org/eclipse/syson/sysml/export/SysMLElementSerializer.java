@@ -20,12 +20,16 @@ import static org.eclipse.syson.sysml.export.SysMLRelationPredicates.IS_IMPORT;
 import static org.eclipse.syson.sysml.export.SysMLRelationPredicates.IS_MEMBERSHIP;
 import static org.eclipse.syson.sysml.export.SysMLRelationPredicates.IS_METADATA_USAGE;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -121,12 +125,21 @@ import org.eclipse.syson.sysml.VerificationCaseUsage;
 import org.eclipse.syson.sysml.ViewpointDefinition;
 import org.eclipse.syson.sysml.VisibilityKind;
 import org.eclipse.syson.sysml.export.utils.Appender;
+import org.eclipse.syson.sysml.export.utils.ExportOptions;
+import org.eclipse.syson.sysml.export.utils.ExportProfile;
+import org.eclipse.syson.sysml.export.utils.ExportProgress;
+import org.eclipse.syson.sysml.export.utils.IncrementalExportCache;
+import org.eclipse.syson.sysml.export.utils.IncrementalExportCache.CachedUnit;
+import org.eclipse.syson.sysml.export.utils.IndentedContentWriter;
 import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.eclipse.syson.sysml.export.utils.PrintableNames;
 import org.eclipse.syson.sysml.export.utils.Status;
 import org.eclipse.syson.sysml.export.utils.SysMLKeywordSwitch;
 import org.eclipse.syson.sysml.helper.EMFUtils;
 import org.eclipse.syson.sysml.helper.LabelConstants;
 import org.eclipse.syson.sysml.util.SysmlSwitch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Convert a SysML {@link Element} to its textual representation.
@@ -135,6 +148,8 @@ import org.eclipse.syson.sysml.util.SysmlSwitch;
  */
 public class SysMLElementSerializer extends SysmlSwitch<String> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SysMLElementSerializer.class);
+
     private static final Predicate<Object> NOT_NULL = s -> s != null;
 
     private String lineSeparator;
@@ -145,8 +160,44 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
 
     private final SysMLKeywordSwitch keywordProvider = new SysMLKeywordSwitch();
 
+    private final PrintableNames printableNames = new PrintableNames();
+
     private final Consumer<Status> reportConsumer;
 
+    private final IncrementalExportCache exportCache;
+
+    private final long exportCacheStamp;
+
+    private final ExportProfile profile;
+
+    private final ExportProgress progress;
+
+    /**
+     * The collector of the dependencies of the cached top-level elements, created with the first one.
+     */
+    private IncrementalExportCache.DependencyCollector dependencyCollector;
+
+    /**
+     * The statuses and the name dependencies recorded during the serialization of the top-level elements being
+     * serialized, which are cached with their textual representation.
+     */
+    private final Deque<SerializedUnit> serializedUnits = new ArrayDeque<>();
+
+    /**
+     * The number of elements serialized so far.
+     */
+    private long serializedElements;
+
+    /**
+     * The number of elements being serialized, used to detect the serialization of a root element.
+     */
+    private int switchDepth;
+
+    /**
+     * The body of the element serialized last, which is written after the content of the element.
+     */
+    private Body tail;
+
     /**
      * Simple constructor.
      *
@@ -156,16 +207,34 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
      *            the string used to indent the file
      */
     public SysMLElementSerializer(String lineSeparator, String indentation, NameDeresolver nameDeresolver, Consumer<Status> reportConsumer) {
+        this(lineSeparator, indentation, ExportOptions.newExportOptions().nameDeresolver(nameDeresolver).build(), reportConsumer);
+    }
+
+    /**
+     * Constructor using the name deresolver, the cache, the profile and the progress of the given export options.
+     *
+     * @param newLine
+     *            the string used to separate line
+     * @param indentation
+     *            the string used to indent the file
+     * @param exportOptions
+     *            the options of the export
+     */
+    public SysMLElementSerializer(String lineSeparator, String indentation, ExportOptions exportOptions, Consumer<Status> reportConsumer) {
         super();
         this.lineSeparator = lineSeparator;
         this.indentation = indentation;
-        this.nameDeresolver = nameDeresolver;
-        if (reportConsumer == null) {
-            this.reportConsumer = r -> {
-            };
-        } else {
-            this.reportConsumer = reportConsumer;
-        }
+        this.nameDeresolver = exportOptions.getNameDeresolver();
+        this.exportCache = exportOptions.getExportCache().orElse(null);
+        this.exportCacheStamp = exportOptions.getExportCacheStamp();
+        this.profile = exportOptions.getProfile().orElse(null);
+        this.progress = exportOptions.getProgress().orElse(null);
+        this.reportConsumer = r -> {
+            if (reportConsumer != null) {
+                reportConsumer.accept(r);
+            }
+            this.serializedUnits.forEach(serializedUnit -> serializedUnit.statuses().add(r));
+        };
     }
 
     public SysMLElementSerializer(Consumer<Status> reportConsumer) {
@@ -174,11 +243,224 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
 
     @Override
     public String doSwitch(EObject eObject) {
-        String value = super.doSwitch(eObject);
-        if (value != null && value.trim().isBlank()) {
-            return null;
+        String value = null;
+        if (this.switchDepth == 0) {
+            StringBuilder builder = new StringBuilder();
+            try {
+                if (this.write(eObject, builder)) {
+                    value = builder.toString();
+                }
+            } catch (IOException exception) {
+                // A StringBuilder never throws IOException
+                LOGGER.error(exception.getMessage(), exception);
+            }
+        } else {
+            value = this.serialize(eObject);
+        }
+        return value;
+    }
+
+    /**
+     * Writes the textual representation of the given element in the given sink.
+     *
+     * <p>
+     * The children of the elements are serialized while the bodies of their parents are written, one level deeper,
+     * in the sink: the textual representation of the whole element is never built.
+     * </p>
+     *
+     * @param eObject
+     *            the element to serialize
+     * @param appendable
+     *            the sink
+     * @return <code>true</code> if the element has a textual representation, <code>false</code> otherwise
+     * @throws IOException
+     *             if the textual representation cannot be written in the sink
+     */
+    public boolean write(EObject eObject, Appendable appendable) throws IOException {
+        boolean written = false;
+        String value = this.serialize(eObject);
+        Body body = this.takeTail();
+        if (value != null) {
+            IndentedContentWriter contentWriter = new IndentedContentWriter(appendable, this.lineSeparator, this.indentation);
+            contentWriter.append(value);
+            if (body != null) {
+                this.writeBody(body, contentWriter);
+            }
+            written = true;
+        }
+        return written;
+    }
+
+    private String serialize(EObject eObject) {
+        String value;
+        if (this.isCanceled()) {
+            // The remaining elements of a canceled export are skipped
+            value = null;
+        } else if (this.exportCache != null && eObject instanceof Element element && this.exportCache.isUnit(element)) {
+            value = this.serializeUnit(element);
+        } else {
+            value = this.doSerialize(eObject);
+        }
+        return value;
+    }
+
+    /**
+     * Serializes a top-level element, reusing its cached textual representation if it is still up to date. The cached
+     * textual representation is complete, including the body of the element, so that it can be reused whatever the
+     * serialization it is part of. The body of an element which is not cached yet is written like the other bodies,
+     * and copied in the cache while it is written, see {@link #writeUnitBody(Body, IndentedContentWriter)}.
+     */
+    private String serializeUnit(Element unit) {
+        String value;
+        Optional<CachedUnit> cachedUnit = this.exportCache.get(unit, this.lineSeparator, this.indentation);
+        if (cachedUnit.isPresent()) {
+            cachedUnit.get().statuses().forEach(this.reportConsumer);
+            if (this.progress != null) {
+                this.progress.worked(cachedUnit.get().elementCount());
+            }
+            value = cachedUnit.get().text();
+        } else {
+            long firstElement = this.serializedElements;
+            SerializedUnit serializedUnit = new SerializedUnit(new ArrayList<>(), new HashSet<>());
+            Body body;
+            this.serializedUnits.push(serializedUnit);
+            try {
+                value = this.doSerialize(unit);
+                body = this.takeTail();
+            } finally {
+                this.serializedUnits.pop();
+            }
+            if (value != null && body != null) {
+                this.tail = new Body(body.firstChild(), body.firstChildBody(), body.remainingChildren(), body.braced(), new UnitCapture(unit, value, serializedUnit, firstElement));
+            } else {
+                this.cacheUnit(unit, value, serializedUnit, firstElement);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Writes the body of a top-level element, copying the whole textual representation of the element in the cache
+     * unless it is too long.
+     */
+    private void writeUnitBody(Body body, IndentedContentWriter contentWriter) throws IOException {
+        UnitCapture capture = body.unitCapture();
+        StringBuilder buffer = new StringBuilder(capture.head());
+        contentWriter.startTee(buffer, IncrementalExportCache.MAX_CACHED_LENGTH);
+        boolean complete;
+        this.serializedUnits.push(capture.serializedUnit());
+        try {
+            this.writeBody(new Body(body.firstChild(), body.firstChildBody(), body.remainingChildren(), body.braced()), contentWriter);
+        } finally {
+            this.serializedUnits.pop();
+            complete = contentWriter.stopTee();
+        }
+        if (complete) {
+            this.cacheUnit(capture.unit(), buffer.toString(), capture.serializedUnit(), capture.firstElement());
+        }
+    }
+
+    private void cacheUnit(Element unit, String value, SerializedUnit serializedUnit, long firstElement) {
+        if (!this.isCanceled()) {
+            // The textual representation of a unit whose serialization has been canceled is incomplete
+            if (this.dependencyCollector == null) {
+                this.dependencyCollector = this.exportCache.newDependencyCollector();
+            }
+            Set<String> dependencies = this.dependencyCollector.collect(unit, serializedUnit.nameDependencies());
+            this.exportCache.put(unit, new CachedUnit(value, List.copyOf(serializedUnit.statuses()), this.serializedElements - firstElement, dependencies, this.lineSeparator,
+                    this.indentation, this.exportCacheStamp));
+        }
+    }
+
+    private boolean isCanceled() {
+        return this.progress != null && this.progress.isCanceled();
+    }
+
+    /**
+     * Serializes an element, without its body if it has one: the body is then available with {@link #takeTail()}.
+     */
+    private String doSerialize(EObject eObject) {
+        String value;
+        if (this.progress != null) {
+            this.progress.worked();
+        }
+        this.serializedElements++;
+        this.switchDepth++;
+        if (this.profile != null) {
+            this.profile.enter(eObject.eClass());
+        }
+        this.tail = null;
+        try {
+            value = super.doSwitch(eObject);
+        } finally {
+            if (this.profile != null) {
+                this.profile.exit();
+            }
+            this.switchDepth--;
+        }
+        if (value == null || (this.tail == null && value.trim().isBlank())) {
+            value = null;
+            this.tail = null;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the body of the element serialized last, if it has not been taken yet.
+     */
+    private Body takeTail() {
+        Body body = this.tail;
+        this.tail = null;
+        return body;
+    }
+
+    /**
+     * Serializes the children of an element until the first one which has a textual representation.
+     *
+     * @return the body of the element, or <code>null</code> if none of its children has a textual representation
+     */
+    private Body createBody(List<? extends Relationship> children, boolean braced) {
+        Body body = null;
+        Iterator<? extends Relationship> iterator = children.iterator();
+        while (body == null && iterator.hasNext()) {
+            String child = this.serialize(iterator.next());
+            Body childBody = this.takeTail();
+            if (child != null) {
+                body = new Body(child, childBody, iterator, braced);
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Writes a body in the given writer, serializing the remaining children of the element while they are written.
+     */
+    private void writeBody(Body body, IndentedContentWriter contentWriter) throws IOException {
+        if (body.unitCapture() != null) {
+            this.writeUnitBody(body, contentWriter);
         } else {
-            return value;
+            if (body.braced()) {
+                contentWriter.indent();
+                contentWriter.newLine();
+            }
+            contentWriter.append(body.firstChild());
+            if (body.firstChildBody() != null) {
+                this.writeBody(body.firstChildBody(), contentWriter);
+            }
+            while (body.remainingChildren().hasNext()) {
+                String child = this.serialize(body.remainingChildren().next());
+                Body childBody = this.takeTail();
+                if (child != null) {
+                    contentWriter.newLine().append(child);
+                    if (childBody != null) {
+                        this.writeBody(childBody, contentWriter);
+                    }
+                }
+            }
+            if (body.braced()) {
+                contentWriter.unindent();
+                contentWriter.newLine().append("}");
+            }
         }
     }
 
@@ -186,11 +468,8 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
     public String caseNamespace(Namespace namespace) {
         Appender builder = this.newAppender();
         if (namespace.eContainer() == null && namespace.getName() == null) {
-            // Root namespace are not serialized
-            String content = this.getContent(namespace.getOwnedMembership(), "");
-            if (content != null && !content.isBlank()) {
-                builder.append(content);
-            }
+            // Root namespace are not serialized, their children are written at the same level
+            this.tail = this.createBody(namespace.getOwnedMembership(), false);
         } else if (namespace.eClass() == SysmlPackage.eINSTANCE.getNamespace()) {
             builder.append("namespace ");
             this.appendChildrenContent(builder, namespace, namespace.getOwnedMembership());
@@ -385,7 +664,7 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
             if (!referencedFeature.getOwnedFeatureChaining().isEmpty()) {
                 this.appendFeatureChain(builder, referencedFeature);
             } else {
-                String deresolvedName = this.nameDeresolver.getDeresolvedName(referencedFeature, refSubsetting);
+                String deresolvedName = this.deresolve(referencedFeature, refSubsetting);
                 if (deresolvedName == null || deresolvedName.isBlank()) {
                     this.reportConsumer.accept(Status.error("Unable to compute a valid identifier for ReferenceSubSetting {0}", refSubsetting.getElementId()));
                 }
@@ -1439,7 +1718,7 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
      * @return a name
      */
     private String getDeresolvableName(Element toDeresolve, Element context) {
-        String deresolvedName = this.nameDeresolver.getDeresolvedName(toDeresolve, context);
+        String deresolvedName = this.deresolve(toDeresolve, context);
 
         if (deresolvedName == null || deresolvedName.isBlank()) {
             this.reportConsumer.accept(Status.warning("Empty deresolved name for an {0} with id {1}", toDeresolve.eClass(), toDeresolve.getElementId()));
@@ -1448,6 +1727,15 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
         return deresolvedName;
     }
 
+    /**
+     * Computes the name of the given element in the given context, recording the element as a dependency of the
+     * top-level elements being serialized.
+     */
+    private String deresolve(Element toDeresolve, Element context) {
+        this.serializedUnits.forEach(serializedUnit -> serializedUnit.nameDependencies().add(toDeresolve));
+        return this.nameDeresolver.getDeresolvedName(toDeresolve, context);
+    }
+
     private void appendDefinitionPrefix(Appender builder, Definition def) {
 
         builder.appendSpaceIfNeeded().append(this.getBasicDefinitionPrefix(def));
@@ -1522,12 +1810,12 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
         String shortName = e.getName();
         String declaredName = e.getDeclaredName();
         if (shortName != null && !shortName.isBlank()) {
-            appender.appendPrintableName(shortName);
+            appender.append(this.printableNames.get(shortName));
         } else if (declaredName != null && !declaredName.isBlank()) {
-            appender.appendPrintableName(declaredName);
+            appender.append(this.printableNames.get(declaredName));
 
         } else {
-            appender.appendPrintableName(e.effectiveName());
+            appender.append(this.printableNames.get(e.effectiveName()));
         }
     }
 
@@ -1580,20 +1868,16 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
 
     private void appendChildrenContent(Appender builder, Element element, List<? extends Relationship> childrenRelationships) {
 
-        String content = this.getContent(childrenRelationships, this.lineSeparator);
-        if (content != null && !content.isBlank()) {
+        Body body = this.createBody(childrenRelationships, true);
+        if (body != null) {
             builder.append(" {");
-            builder.appendIndentedContent(content);
-            builder.newLine().append("}");
+            // The remaining children are serialized while the body is written, after the content of the element
+            this.tail = body;
         } else {
             builder.append(";");
         }
     }
 
-    private String getContent(List<? extends Relationship> children, String prefix) {
-        return children.stream().map(rel -> this.doSwitch(rel)).filter(NOT_NULL).collect(joining(this.lineSeparator, prefix, ""));
-    }
-
     @Override
     public String caseImport(Import aImport) {
 
@@ -1767,8 +2051,23 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
 
         this.appendMembershipPrefix(owningMembership, builder);
 
-        String content = owningMembership.getOwnedRelatedElement().stream().map(rel -> this.doSwitch(rel)).filter(NOT_NULL).collect(joining(builder.getNewLine()));
-        builder.appendSpaceIfNeeded().append(content);
+        // The related elements after the first one with a textual representation are written after its body
+        Iterator<Element> relatedElements = owningMembership.getOwnedRelatedElement().iterator();
+        String content = null;
+        Body body = null;
+        while (content == null && relatedElements.hasNext()) {
+            content = this.doSwitch(relatedElements.next());
+            body = this.takeTail();
+        }
+        builder.appendSpaceIfNeeded();
+        if (content != null) {
+            builder.append(content);
+            if (relatedElements.hasNext()) {
+                this.tail = new Body("", body, relatedElements, false);
+            } else {
+                this.tail = body;
+            }
+        }
 
         return builder.toString();
     }
@@ -1862,11 +2161,11 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
     private String appendNameWithShortName(Appender builder, Element element) {
         String shortName = element.getShortName();
         if (!isNullOrEmpty(shortName)) {
-            builder.appendSpaceIfNeeded().append("<").appendPrintableName(shortName).append(">");
+            builder.appendSpaceIfNeeded().append("<").append(this.printableNames.get(shortName)).append(">");
         }
         String name = element.getDeclaredName();
         if (!isNullOrEmpty(name)) {
-            builder.appendSpaceIfNeeded().appendPrintableName(name);
+            builder.appendSpaceIfNeeded().append(this.printableNames.get(name));
         }
         return builder.toString();
     }
@@ -1882,4 +2181,69 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
             default -> "";
         };
     }
+
+    /**
+     * The body of an element, whose children are serialized while it is written.
+     *
+     * @param firstChild
+     *            the textual representation of the first child which has one, without its own body
+     * @param firstChildBody
+     *            the body of the first child, or <code>null</code>
+     * @param remainingChildren
+     *            the children after the first one, which have not been serialized yet
+     * @param braced
+     *            <code>true</code> if the body is written between braces, one level deeper than the element,
+     *            <code>false</code> if it is written at the level of the element
+     * @param unitCapture
+     *            the top-level element whose textual representation is cached once this body is written, or
+     *            <code>null</code>
+     * @author agent
+     */
+    private record Body(String firstChild, Body firstChildBody, Iterator<? extends Element> remainingChildren, boolean braced, UnitCapture unitCapture) {
+        Body {
+            Objects.requireNonNull(firstChild);
+            Objects.requireNonNull(remainingChildren);
+        }
+
+        Body(String firstChild, Body firstChildBody, Iterator<? extends Element> remainingChildren, boolean braced) {
+            this(firstChild, firstChildBody, remainingChildren, braced, null);
+        }
+    }
+
+    /**
+     * A top-level element whose body has not been written yet, to cache its textual representation once it is.
+     *
+     * @param unit
+     *            the top-level element
+     * @param head
+     *            the textual representation of the element, without its body
+     * @param serializedUnit
+     *            what has been recorded so far during the serialization of the element
+     * @param firstElement
+     *            the number of elements serialized before the element
+     * @author agent
+     */
+    private record UnitCapture(Element unit, String head, SerializedUnit serializedUnit, long firstElement) {
+        UnitCapture {
+            Objects.requireNonNull(unit);
+            Objects.requireNonNull(head);
+            Objects.requireNonNull(serializedUnit);
+        }
+    }
+
+    /**
+     * What is recorded during the serialization of a top-level element to cache its textual representation.
+     *
+     * @param statuses
+     *            the statuses reported during the serialization
+     * @param nameDependencies
+     *            the elements whose name has been computed during the serialization
+     * @author agent
+     */
+    private record SerializedUnit(List<Status> statuses, Set<Element> nameDependencies) {
+        SerializedUnit {
+            Objects.requireNonNull(statuses);
+            Objects.requireNonNull(nameDependencies);
+        }
+    }
 }
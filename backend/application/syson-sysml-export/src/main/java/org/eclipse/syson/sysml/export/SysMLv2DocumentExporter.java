@@ -12,6 +12,13 @@
  *******************************************************************************/
 package org.eclipse.syson.sysml.export;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +26,7 @@ import java.util.Optional;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.web.application.document.services.api.IDocumentExporter;
 import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.export.utils.ExportOptions;
 import org.eclipse.syson.sysml.export.utils.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +43,11 @@ public class SysMLv2DocumentExporter implements IDocumentExporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SysMLv2DocumentExporter.class);
 
+    /**
+     * The size of the buffer of characters written in the output stream, which bounds the memory used by an export.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     @Override
     public boolean canHandle(Resource resource, String mediaType) {
         boolean canHandle = false;
@@ -44,21 +57,72 @@ public class SysMLv2DocumentExporter implements IDocumentExporter {
         return canHandle;
     }
 
+    /**
+     * Returns the textual form of the given resource.
+     *
+     * <p>
+     * The {@link IDocumentExporter} API requires the whole textual form as an array. The exports of large models
+     * should be written in a stream with {@link #write(Resource, ExportOptions, OutputStream)} instead, e.g. by the
+     * {@link SysMLv2ExportJobService}.
+     * </p>
+     */
     @Override
     public Optional<byte[]> getBytes(Resource resource, String mediaType) {
-        if (!resource.getContents().isEmpty() && resource.getContents().get(0) instanceof Element element) {
+        Optional<byte[]> bytes = Optional.empty();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            if (this.write(resource, ExportOptions.newExportOptions().build(), outputStream)) {
+                bytes = Optional.of(outputStream.toByteArray());
+            }
+        } catch (IOException exception) {
+            LOGGER.warn(exception.getMessage(), exception);
+        }
+        return bytes;
+    }
 
+    /**
+     * Writes the textual form of the given resource in the given stream, encoded in UTF-8.
+     *
+     * <p>
+     * The textual form is written in the stream, through a bounded buffer, while the elements are serialized: the
+     * children of an element are only serialized once its own textual form has been written. Apart from the buffer,
+     * only the textual form of the elements being serialized, without their children, and of the top-level elements
+     * reused from the cache of the options are held in memory. The stream is flushed but not closed.
+     * </p>
+     *
+     * <p>
+     * If the options have a profile, it records the time spent and the memory allocated to serialize the elements of
+     * each EClass, and the number of referenced elements whose names had to be written as full qualified names. Its
+     * report is logged at the debug level.
+     * </p>
+     *
+     * @param resource
+     *            the resource to export
+     * @param exportOptions
+     *            the options of the export
+     * @param outputStream
+     *            the stream in which the textual form is written
+     * @return <code>true</code> if the resource contains SysML elements which can be exported, <code>false</code>
+     *         otherwise
+     * @throws IOException
+     *             if the textual form cannot be written in the stream
+     */
+    public boolean write(Resource resource, ExportOptions exportOptions, OutputStream outputStream) throws IOException {
+        boolean canWrite = false;
+        if (!resource.getContents().isEmpty() && resource.getContents().get(0) instanceof Element element) {
+            canWrite = true;
             List<Status> status = new ArrayList<>();
-            String textualForm = new SysMLElementSerializer(status::add).doSwitch(element);
-            if (textualForm == null) {
-                textualForm = "";
-            }
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            new SysMLElementSerializer(System.lineSeparator(), "\t", exportOptions, status::add).write(element, writer);
+            writer.flush();
             for (Status s : status) {
                 s.log(LOGGER);
             }
-
-            return Optional.of(textualForm.getBytes());
+            exportOptions.getProfile().ifPresent(profile -> {
+                profile.recordDeresolutions(exportOptions.getNameDeresolver());
+                LOGGER.debug("Export profile of {}:{}{}", resource.getURI(), System.lineSeparator(), profile.getReport());
+            });
         }
-        return Optional.empty();
+        return canWrite;
     }
 }
@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.syson.sysml.export.ExportJob.ExportJobState;
+import org.eclipse.syson.sysml.export.utils.ExportOptions;
+import org.eclipse.syson.sysml.export.utils.ExportProfile;
+import org.eclipse.syson.sysml.export.utils.ExportProgress;
+import org.eclipse.syson.sysml.export.utils.IncrementalExportCache;
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs the textual exports of documents and projects in the background, on a bounded pool of threads.
+ *
+ * <p>
+ * An export is submitted against a snapshot of the model, copied when the job is submitted, so that it never holds the
+ * editing context while it runs and the model can be edited concurrently. The jobs have to be submitted from the thread
+ * owning the editing context, e.g. by the {@link SubmitExportJobEventHandler}. The exported content is written in a
+ * temporary file, which is kept until it is fetched, the job is canceled or its retention delay has elapsed since it
+ * has finished. The file is deleted by the service when the job is canceled or forgotten, and by the caller of
+ * {@link #fetch(UUID)} once it has been read. A profiled export keeps the report of its profile with its result, see
+ * {@link ExportJob#getProfileReport()}. The textual
+ * representation of the top-level elements is cached in the model between its exports, see
+ * {@link IncrementalExportCache}.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class SysMLv2ExportJobService {
+
+    private static final String SYSML_EXTENSION = ".sysml";
+
+    private static final String ZIP_EXTENSION = ".zip";
+
+    private final Logger logger = LoggerFactory.getLogger(SysMLv2ExportJobService.class);
+
+    private final SysMLv2DocumentExporter documentExporter;
+
+    private final SysMLv2ProjectExporter projectExporter;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<UUID, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    private final Duration retention;
+
+    public SysMLv2ExportJobService(SysMLv2DocumentExporter documentExporter, SysMLv2ProjectExporter projectExporter, @Value("${org.eclipse.syson.export.jobs.threads:2}") int threadCount,
+            @Value("${org.eclipse.syson.export.jobs.queue:16}") int queueCapacity, @Value("${org.eclipse.syson.export.jobs.retention:10m}") Duration retention) {
+        this.documentExporter = Objects.requireNonNull(documentExporter);
+        this.projectExporter = Objects.requireNonNull(projectExporter);
+        this.retention = Objects.requireNonNull(retention);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "syson-export-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits the textual export of the given resource. Only the resource and the user resources it references are
+     * copied in the snapshot of the export.
+     *
+     * @param resource
+     *            the resource to export
+     * @param profiled
+     *            <code>true</code> to profile the export
+     * @return the job exporting the resource
+     * @throws RejectedExecutionException
+     *             if too many exports are already waiting
+     */
+    public ExportJob submitDocument(Resource resource, boolean profiled) {
+        ExportSnapshot snapshot = ExportSnapshot.copy(List.of(resource));
+        Resource resourceSnapshot = snapshot.getCopy(resource).get();
+        ExportProgress progress = new ExportProgress(snapshot.getElementCount(resourceSnapshot));
+        ExportProfile profile = this.createProfile(profiled);
+        ExportOptions exportOptions = this.createExportOptions(resource.getResourceSet(), snapshot, progress, profile);
+        return this.submit(this.getDocumentName(resource) + SYSML_EXTENSION, progress, profile, outputStream -> this.documentExporter.write(resourceSnapshot, exportOptions, outputStream));
+    }
+
+    /**
+     * Submits the export of all the SysML resources of a project in a zip archive.
+     *
+     * @param resourceSet
+     *            the resource set of the project
+     * @param projectName
+     *            the name of the project, used to name the archive
+     * @param profiled
+     *            <code>true</code> to profile the export
+     * @return the job exporting the project
+     * @throws RejectedExecutionException
+     *             if too many exports are already waiting
+     */
+    public ExportJob submitProject(ResourceSet resourceSet, String projectName, boolean profiled) {
+        ExportSnapshot snapshot = this.projectExporter.snapshot(resourceSet);
+        ExportProgress progress = new ExportProgress(snapshot.getElementCount());
+        ExportProfile profile = this.createProfile(profiled);
+        ExportOptions exportOptions = this.createExportOptions(resourceSet, snapshot, progress, profile);
+        return this.submit(projectName + ZIP_EXTENSION, progress, profile, outputStream -> this.projectExporter.export(snapshot, exportOptions, outputStream));
+    }
+
+    /**
+     * Returns the job with the given identifier.
+     *
+     * @param jobId
+     *            the identifier of a job
+     * @return the job, or an empty optional if it does not exist or if its result has already been fetched
+     */
+    public Optional<ExportJob> getJob(UUID jobId) {
+        this.evictExpiredJobs();
+        return Optional.ofNullable(this.jobs.get(jobId));
+    }
+
+    /**
+     * Returns the temporary file containing the exported content of the given job if it is done, and forgets the job.
+     * The caller owns the file and has to delete it once it has been read.
+     *
+     * @param jobId
+     *            the identifier of a job
+     * @return the temporary file containing the exported content, or an empty optional if the job does not exist or
+     *         is not done
+     */
+    public Optional<Path> fetch(UUID jobId) {
+        this.evictExpiredJobs();
+        Optional<Path> result = Optional.empty();
+        ExportJob job = this.jobs.get(jobId);
+        if (job != null && this.isFinished(job.getState())) {
+            this.jobs.remove(jobId);
+            result = job.getResult();
+        }
+        return result;
+    }
+
+    /**
+     * Cancels the given job and forgets it.
+     *
+     * @param jobId
+     *            the identifier of a job
+     * @return <code>true</code> if the job existed, <code>false</code> otherwise
+     */
+    public boolean cancel(UUID jobId) {
+        ExportJob job = this.jobs.remove(jobId);
+        if (job != null) {
+            job.cancel();
+            this.executor.remove(job.getTask());
+            this.deleteResult(job);
+        }
+        return job != null;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.jobs.values().forEach(ExportJob::cancel);
+        this.executor.shutdownNow();
+        this.jobs.values().forEach(this::deleteResult);
+        this.jobs.clear();
+    }
+
+    /**
+     * Creates the options of an export, reusing the textual representation of the top-level elements which did not
+     * change since a previous export of the model. The options are created with the snapshot, by the thread owning
+     * the model. The names of the referenced elements are computed with the cross referencer of the snapshot.
+     */
+    private ExportOptions createExportOptions(ResourceSet resourceSet, ExportSnapshot snapshot, ExportProgress progress, ExportProfile profile) {
+        ExportOptions.Builder exportOptions = ExportOptions.newExportOptions()
+                .nameDeresolver(new NameDeresolver(snapshot.getCrossReferenceAdapter()))
+                .progress(progress);
+        if (resourceSet != null) {
+            exportOptions.exportCache(IncrementalExportCache.getOrInstall(resourceSet));
+        }
+        if (profile != null) {
+            exportOptions.profile(profile);
+        }
+        return exportOptions.build();
+    }
+
+    private ExportProfile createProfile(boolean profiled) {
+        ExportProfile profile = null;
+        if (profiled) {
+            profile = new ExportProfile();
+        }
+        return profile;
+    }
+
+    private boolean isFinished(ExportJobState state) {
+        return state != ExportJobState.PENDING && state != ExportJobState.RUNNING;
+    }
+
+    /**
+     * Forgets the finished jobs whose result has not been fetched before the end of their retention delay, and deletes
+     * their result.
+     */
+    private void evictExpiredJobs() {
+        Instant expiration = Instant.now().minus(this.retention);
+        Iterator<ExportJob> iterator = this.jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ExportJob job = iterator.next();
+            if (job.getFinishTime().filter(finishTime -> finishTime.isBefore(expiration)).isPresent()) {
+                iterator.remove();
+                this.deleteResult(job);
+            }
+        }
+    }
+
+    private void deleteResult(ExportJob job) {
+        job.getResult().ifPresent(this::delete);
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            this.logger.warn("Unable to delete " + file, exception);
+        }
+    }
+
+    private ExportJob submit(String fileName, ExportProgress progress, ExportProfile profile, Export export) {
+        this.evictExpiredJobs();
+        ExportJob job = new ExportJob(fileName, progress, profile, () -> this.run(fileName, progress, export));
+        this.jobs.put(job.getId(), job);
+        try {
+            this.executor.execute(job.getTask());
+        } catch (RejectedExecutionException exception) {
+            this.jobs.remove(job.getId());
+            throw exception;
+        }
+        return job;
+    }
+
+    /**
+     * Runs an export in a temporary file, logging its failures since the job only reports them as its
+     * {@link ExportJobState#FAILED} state. The file is deleted if the export fails or is canceled.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Path run(String fileName, ExportProgress progress, Export export) {
+        Path result = null;
+        Path file = null;
+        try {
+            file = Files.createTempFile("syson-export-", null);
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                export.run(outputStream);
+            }
+            if (progress.isCanceled()) {
+                this.logger.debug("Export of {} canceled", fileName);
+            } else {
+                this.logger.debug("{} exported ({} elements)", fileName, progress.getProcessedElements());
+                result = file;
+            }
+        } catch (IOException exception) {
+            this.logger.warn("Unable to export " + fileName, exception);
+        } catch (RuntimeException exception) {
+            this.logger.error("Unable to export " + fileName, exception);
+        }
+        if (result == null && file != null) {
+            this.delete(file);
+        }
+        return result;
+    }
+
+    private String getDocumentName(Resource resource) {
+        return resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .map(ResourceMetadataAdapter::getName)
+                .filter(Objects::nonNull)
+                .map(name -> name.replaceAll("[\\\\/:*?\"<>|]", "_"))
+                .map(name -> name.replaceAll("\\.sysml$", ""))
+                .findFirst()
+                .orElse(resource.getURI().trimFileExtension().lastSegment());
+    }
+
+    /**
+     * An export writing the content of the exported file in the given stream.
+     *
+     * @author agent
+     */
+    @FunctionalInterface
+    private interface Export {
+        void run(OutputStream outputStream) throws IOException;
+    }
+}
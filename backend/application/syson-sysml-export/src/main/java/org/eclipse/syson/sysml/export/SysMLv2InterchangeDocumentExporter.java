@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.web.application.document.services.api.IDocumentExporter;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+/**
+ * Exports SysMLv2 resources in a line-delimited JSON interchange format.
+ *
+ * <p>
+ * Each line is the JSON object of one element, in the spirit of the element JSON of the SysML v2 API: its
+ * <code>@id</code> is the element ID and its <code>@type</code> the name of its EClass, followed by the values of its
+ * persisted attributes and references. A reference value is an object <code>{"@id": "..."}</code> holding the element
+ * ID of the target. The containment tree is written in pre-order, each contained element referencing its container
+ * with <code>@owner</code> and the containment feature with <code>@ownerFeature</code>, so that it can be read back in
+ * a single pass. The elements are written with the streaming generator of Jackson, the JSON of the whole resource is
+ * never held in memory.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class SysMLv2InterchangeDocumentExporter implements IDocumentExporter {
+
+    /**
+     * The name of the property holding the element ID of an element.
+     */
+    public static final String ID = "@id";
+
+    /**
+     * The name of the property holding the name of the EClass of an element.
+     */
+    public static final String TYPE = "@type";
+
+    /**
+     * The name of the property holding the element ID of the container of an element.
+     */
+    public static final String OWNER = "@owner";
+
+    /**
+     * The name of the property holding the name of the containment feature of an element.
+     */
+    public static final String OWNER_FEATURE = "@ownerFeature";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SysMLv2InterchangeDocumentExporter.class);
+
+    private final JsonFactory jsonFactory = new JsonFactoryBuilder().rootValueSeparator("\n").build();
+
+    @Override
+    public boolean canHandle(Resource resource, String mediaType) {
+        boolean canHandle = false;
+        if (MediaType.APPLICATION_NDJSON.equals(MediaType.valueOf(mediaType))) {
+            canHandle = !resource.getContents().isEmpty() && resource.getContents().get(0) instanceof Element;
+        }
+        return canHandle;
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(Resource resource, String mediaType) {
+        Optional<byte[]> bytes = Optional.empty();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            this.write(resource, outputStream);
+            bytes = Optional.of(outputStream.toByteArray());
+        } catch (IOException exception) {
+            LOGGER.warn(exception.getMessage(), exception);
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the elements of the given resource in the given stream, one JSON object per line, encoded in UTF-8. The
+     * stream is flushed but not closed.
+     *
+     * @param resource
+     *            the resource to export
+     * @param outputStream
+     *            the stream in which the elements are written
+     * @return the number of written elements
+     * @throws IOException
+     *             if the elements cannot be written in the stream
+     */
+    public int write(Resource resource, OutputStream outputStream) throws IOException {
+        int count = 0;
+        WriteContext context = new WriteContext(resource, new AtomicInteger());
+        try (JsonGenerator generator = this.jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            TreeIterator<EObject> allContents = resource.getAllContents();
+            while (allContents.hasNext()) {
+                if (allContents.next() instanceof Element element) {
+                    this.writeElement(element, generator, context);
+                    count++;
+                } else {
+                    allContents.prune();
+                }
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        if (context.unresolvedTargets().get() > 0) {
+            LOGGER.warn("{} references to unresolved elements have not been exported", context.unresolvedTargets().get());
+        }
+        return count;
+    }
+
+    private void writeElement(Element element, JsonGenerator generator, WriteContext context) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(ID, this.getId(element));
+        generator.writeStringField(TYPE, element.eClass().getName());
+        if (element.eContainer() instanceof Element owner) {
+            generator.writeStringField(OWNER, this.getId(owner));
+            generator.writeStringField(OWNER_FEATURE, element.eContainmentFeature().getName());
+        }
+        for (EStructuralFeature feature : element.eClass().getEAllStructuralFeatures()) {
+            if (this.isWritten(feature) && element.eIsSet(feature)) {
+                if (feature instanceof EAttribute attribute) {
+                    this.writeAttribute(element, attribute, generator);
+                } else if (feature instanceof EReference reference) {
+                    this.writeReference(element, reference, generator, context);
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns the identifier of the given element: its element ID, or its URI fragment in its resource if it has no
+     * element ID, so that the references to the element can be resolved when it is read.
+     */
+    private String getId(Element element) {
+        String id = element.getElementId();
+        if (id == null && element.eResource() != null) {
+            id = element.eResource().getURIFragment(element);
+        }
+        return id;
+    }
+
+    /**
+     * Indicates if the given feature is written. The containment references are not written since the contained
+     * elements reference their container, and only one side of the bidirectional references is written.
+     */
+    private boolean isWritten(EStructuralFeature feature) {
+        boolean isWritten = feature.isChangeable() && !feature.isDerived() && !feature.isTransient() && feature != SysmlPackage.eINSTANCE.getElement_ElementId();
+        if (isWritten && feature instanceof EReference reference) {
+            isWritten = !reference.isContainment() && !reference.isContainer() && this.isWrittenSide(reference);
+        }
+        return isWritten;
+    }
+
+    /**
+     * Indicates if the given reference is the side of a bidirectional reference which is written: the first one by
+     * name, then by name of its EClass if both sides have the same name. A reference which is its own opposite is
+     * written.
+     */
+    private boolean isWrittenSide(EReference reference) {
+        boolean isWrittenSide = true;
+        EReference opposite = reference.getEOpposite();
+        if (opposite != null && opposite != reference && !opposite.isDerived() && !opposite.isTransient()) {
+            int comparison = reference.getName().compareTo(opposite.getName());
+            if (comparison == 0) {
+                comparison = reference.getEContainingClass().getName().compareTo(opposite.getEContainingClass().getName());
+            }
+            isWrittenSide = comparison < 0;
+        }
+        return isWrittenSide;
+    }
+
+    private void writeAttribute(Element element, EAttribute attribute, JsonGenerator generator) throws IOException {
+        generator.writeFieldName(attribute.getName());
+        Object value = element.eGet(attribute);
+        if (value instanceof List<?> values) {
+            generator.writeStartArray();
+            for (Object item : values) {
+                this.writeValue(attribute.getEAttributeType(), item, generator);
+            }
+            generator.writeEndArray();
+        } else {
+            this.writeValue(attribute.getEAttributeType(), value, generator);
+        }
+    }
+
+    private void writeValue(EDataType dataType, Object value, JsonGenerator generator) throws IOException {
+        if (value instanceof Boolean booleanValue) {
+            generator.writeBoolean(booleanValue);
+        } else if (value instanceof Integer integerValue) {
+            generator.writeNumber(integerValue);
+        } else if (value instanceof Double doubleValue) {
+            generator.writeNumber(doubleValue);
+        } else if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(EcoreUtil.convertToString(dataType, value));
+        }
+    }
+
+    private void writeReference(Element element, EReference reference, JsonGenerator generator, WriteContext context) throws IOException {
+        generator.writeFieldName(reference.getName());
+        Object value = element.eGet(reference, false);
+        if (value instanceof List<?> values) {
+            generator.writeStartArray();
+            for (Object item : values) {
+                String targetId = this.getTargetId(item, context);
+                if (targetId != null) {
+                    this.writeReferenceValue(targetId, generator);
+                }
+            }
+            generator.writeEndArray();
+        } else {
+            String targetId = this.getTargetId(value, context);
+            if (targetId != null) {
+                this.writeReferenceValue(targetId, generator);
+            } else {
+                generator.writeNull();
+            }
+        }
+    }
+
+    /**
+     * Returns the identifier of the target of a reference, resolving it if it is a proxy. The targets which cannot be
+     * resolved are counted in the given context and have no identifier.
+     */
+    private String getTargetId(Object value, WriteContext context) {
+        String targetId = null;
+        if (value instanceof Element target && target.eIsProxy()) {
+            EObject resolvedTarget = EcoreUtil.resolve(target, context.resource());
+            if (!resolvedTarget.eIsProxy() && resolvedTarget instanceof Element resolvedElement) {
+                targetId = this.getId(resolvedElement);
+            }
+        } else if (value instanceof Element target) {
+            targetId = this.getId(target);
+        }
+        if (targetId == null && value != null) {
+            context.unresolvedTargets().incrementAndGet();
+        }
+        return targetId;
+    }
+
+    private void writeReferenceValue(String targetId, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(ID, targetId);
+        generator.writeEndObject();
+    }
+
+    /**
+     * The state of a write.
+     *
+     * @param resource
+     *            the exported resource, used to resolve the proxies
+     * @param unresolvedTargets
+     *            the number of references to elements which cannot be resolved
+     * @author agent
+     */
+    private record WriteContext(Resource resource, AtomicInteger unresolvedTargets) {
+        WriteContext {
+            Objects.requireNonNull(resource);
+            Objects.requireNonNull(unresolvedTargets);
+        }
+    }
+}
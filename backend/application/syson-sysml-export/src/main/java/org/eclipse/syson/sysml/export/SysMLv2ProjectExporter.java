@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextPersistenceFilter;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.export.utils.ExportOptions;
+import org.eclipse.syson.sysml.export.utils.ExportProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Exports all the SysML resources of a project in a single zip archive, one textual file per resource.
+ *
+ * <p>
+ * The resources are serialized concurrently by a pool of workers shared by all the exports, sharing the same name
+ * deresolver, and are written in the archive in the order of the resource set as soon as they are serialized. At most
+ * {@link #getWindowSize(int)} serialized resources of an export wait to be written, which bounds the memory used by the
+ * export. When all the workers are busy, the resources are serialized by the thread of the export itself. The workers
+ * only read an {@link ExportSnapshot} of the project, created with {@link #snapshot(ResourceSet)} by the thread owning
+ * the project, so that the project can be edited during the export.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class SysMLv2ProjectExporter {
+
+    private static final String SYSML_EXTENSION = ".sysml";
+
+    private final Logger logger = LoggerFactory.getLogger(SysMLv2ProjectExporter.class);
+
+    private final SysMLv2DocumentExporter documentExporter;
+
+    private final List<IEditingContextPersistenceFilter> persistenceFilters;
+
+    private final ThreadPoolExecutor executor;
+
+    public SysMLv2ProjectExporter(SysMLv2DocumentExporter documentExporter, List<IEditingContextPersistenceFilter> persistenceFilters) {
+        this.documentExporter = Objects.requireNonNull(documentExporter);
+        this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(this.getWindowSize(threadCount)), runnable -> {
+            Thread thread = new Thread(runnable, "syson-project-export-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Copies the exported resources of the given resource set, i.e. the SysML resources which are persisted with the
+     * project. This method has to be called by the thread owning the resource set.
+     *
+     * @param resourceSet
+     *            the resource set of a project
+     * @return the snapshot of the project
+     */
+    public ExportSnapshot snapshot(ResourceSet resourceSet) {
+        List<Resource> exportedResources = resourceSet.getResources().stream()
+                .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
+                .filter(resource -> !resource.getContents().isEmpty() && resource.getContents().get(0) instanceof Element)
+                .toList();
+        return ExportSnapshot.copy(exportedResources);
+    }
+
+    /**
+     * Writes the textual form of all the exported resources of the given snapshot in a zip archive.
+     *
+     * <p>
+     * The name deresolver, the cache and the progress of the options are shared by all the workers. A resource which
+     * cannot be serialized is logged and left out of the archive. If the export is canceled through its progress, the
+     * remaining resources are left out of the archive too.
+     * </p>
+     *
+     * @param snapshot
+     *            the snapshot of a project
+     * @param exportOptions
+     *            the options of the export
+     * @param outputStream
+     *            the stream in which the archive is written, which is not closed
+     * @return the number of exported resources
+     * @throws IOException
+     *             if the archive cannot be written
+     */
+    public int export(ExportSnapshot snapshot, ExportOptions exportOptions, OutputStream outputStream) throws IOException {
+        List<Resource> resources = snapshot.getExportedResources();
+        int parallelism = Math.max(1, Math.min(resources.size(), this.executor.getMaximumPoolSize()));
+        int exportedResources = 0;
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        Set<String> entryNames = new HashSet<>();
+        Deque<Future<byte[]>> pendingDocuments = new ArrayDeque<>();
+        Deque<Resource> pendingResources = new ArrayDeque<>();
+        Iterator<Resource> iterator = resources.iterator();
+        try {
+            while ((iterator.hasNext() || !pendingDocuments.isEmpty()) && !Thread.currentThread().isInterrupted() && !this.isCanceled(exportOptions)) {
+                while (iterator.hasNext() && pendingDocuments.size() < this.getWindowSize(parallelism)) {
+                    Resource resource = iterator.next();
+                    pendingResources.add(resource);
+                    pendingDocuments.add(this.executor.submit(() -> this.serialize(resource, exportOptions)));
+                }
+                Resource resource = pendingResources.poll();
+                Optional<byte[]> document = this.await(pendingDocuments.poll(), resource);
+                if (document.isPresent() && !this.isCanceled(exportOptions)) {
+                    zipOutputStream.putNextEntry(new ZipEntry(this.getEntryName(resource, entryNames)));
+                    zipOutputStream.write(document.get());
+                    zipOutputStream.closeEntry();
+                    exportedResources++;
+                }
+            }
+        } finally {
+            pendingDocuments.forEach(pendingDocument -> pendingDocument.cancel(true));
+        }
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+        this.logger.debug("{} resources exported with {} workers", exportedResources, parallelism);
+        return exportedResources;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Returns the maximum number of serialized resources waiting to be written in the archive.
+     */
+    private int getWindowSize(int parallelism) {
+        return 2 * parallelism;
+    }
+
+    private boolean isCanceled(ExportOptions exportOptions) {
+        return exportOptions.getProgress().map(ExportProgress::isCanceled).orElse(false);
+    }
+
+    private byte[] serialize(Resource resource, ExportOptions exportOptions) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.documentExporter.write(resource, exportOptions, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private Optional<byte[]> await(Future<byte[]> document, Resource resource) {
+        Optional<byte[]> result = Optional.empty();
+        try {
+            result = Optional.of(document.get());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            this.logger.warn("Interrupted while exporting {}", resource.getURI());
+        } catch (ExecutionException exception) {
+            this.logger.warn("Unable to export " + resource.getURI(), exception.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a unique name for the entry of the given resource, based on the name of the document.
+     */
+    private String getEntryName(Resource resource, Set<String> entryNames) {
+        String name = resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .map(ResourceMetadataAdapter::getName)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(resource.getURI().lastSegment());
+        if (name == null || name.isBlank()) {
+            name = resource.getURI().toString();
+        }
+        name = name.replaceAll("[\\\\/:*?\"<>|]", "_");
+        if (name.endsWith(SYSML_EXTENSION)) {
+            name = name.substring(0, name.length() - SYSML_EXTENSION.length());
+        }
+        String entryName = name + SYSML_EXTENSION;
+        int index = 1;
+        while (!entryNames.add(entryName)) {
+            entryName = name + "-" + index + SYSML_EXTENSION;
+            index++;
+        }
+        return entryName;
+    }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.graphql.api.IEditingContextDispatcher;
+import org.eclipse.syson.sysml.export.ExportJob;
+import org.eclipse.syson.sysml.export.ExportJob.ExportJobState;
+import org.eclipse.syson.sysml.export.SysMLv2ExportJobService;
+import org.eclipse.syson.sysml.export.dto.ExportJobStatus;
+import org.eclipse.syson.sysml.export.dto.SubmitExportJobInput;
+import org.eclipse.syson.sysml.export.dto.SubmitExportJobSuccessPayload;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exposes the background textual exports of the {@link SysMLv2ExportJobService}.
+ *
+ * <p>
+ * An export is submitted to the editing context of the project, which creates its snapshot, then its progress is
+ * polled until its content can be downloaded. The content of a job can only be downloaded once: it is streamed from
+ * the temporary file of the job, which is deleted once it has been sent. An export submitted with
+ * <code>profile=true</code> records the time spent and the memory allocated to serialize each EClass, and the status
+ * of the job contains the report of its profile once it is done.
+ * </p>
+ *
+ * @author agent
+ */
+@RestController
+@RequestMapping("/api/sysml-export-jobs")
+public class ExportJobController {
+
+    /**
+     * The maximum time spent to copy the model in the snapshot of an export, on the thread of the editing context.
+     */
+    private static final Duration SUBMIT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final IEditingContextDispatcher editingContextDispatcher;
+
+    private final SysMLv2ExportJobService exportJobService;
+
+    public ExportJobController(IEditingContextDispatcher editingContextDispatcher, SysMLv2ExportJobService exportJobService) {
+        this.editingContextDispatcher = Objects.requireNonNull(editingContextDispatcher);
+        this.exportJobService = Objects.requireNonNull(exportJobService);
+    }
+
+    @PostMapping
+    public ResponseEntity<ExportJobStatus> submit(@RequestParam String editingContextId, @RequestParam(required = false) String documentId,
+            @RequestParam(defaultValue = "project") String projectName, @RequestParam(defaultValue = "false") boolean profile) {
+        var input = new SubmitExportJobInput(UUID.randomUUID(), editingContextId, documentId, projectName, profile);
+        IPayload payload = this.editingContextDispatcher.dispatchMutation(editingContextId, input).block(SUBMIT_TIMEOUT);
+        ResponseEntity<ExportJobStatus> response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        if (payload instanceof SubmitExportJobSuccessPayload successPayload) {
+            response = this.exportJobService.getJob(successPayload.jobId())
+                    .map(ExportJobStatus::of)
+                    .map(status -> ResponseEntity.status(HttpStatus.ACCEPTED).body(status))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+        return response;
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobStatus> getStatus(@PathVariable UUID jobId) {
+        return this.exportJobService.getJob(jobId)
+                .map(ExportJobStatus::of)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{jobId}/content")
+    public ResponseEntity<StreamingResponseBody> getContent(@PathVariable UUID jobId) {
+        ResponseEntity<StreamingResponseBody> response = ResponseEntity.notFound().build();
+        Optional<ExportJob> job = this.exportJobService.getJob(jobId);
+        if (job.isPresent() && (job.get().getState() == ExportJobState.PENDING || job.get().getState() == ExportJobState.RUNNING)) {
+            response = ResponseEntity.status(HttpStatus.ACCEPTED).build();
+        } else if (job.isPresent()) {
+            Optional<Path> content = this.exportJobService.fetch(jobId);
+            if (content.isPresent()) {
+                Path file = content.get();
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+                headers.setContentLength(file.toFile().length());
+                headers.setContentDisposition(ContentDisposition.attachment().filename(job.get().getFileName(), StandardCharsets.UTF_8).build());
+                StreamingResponseBody body = outputStream -> {
+                    try {
+                        Files.copy(file, outputStream);
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                };
+                response = new ResponseEntity<>(body, headers, HttpStatus.OK);
+            }
+        }
+        return response;
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<Void> cancel(@PathVariable UUID jobId) {
+        ResponseEntity<Void> response = ResponseEntity.notFound().build();
+        if (this.exportJobService.cancel(jobId)) {
+            response = ResponseEntity.noContent().build();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.syson.sysml.export.ExportJob;
+import org.eclipse.syson.sysml.export.ExportJob.ExportJobState;
+
+/**
+ * The state and the progress of an export job, and the report of its profile once it is done if it has been
+ * profiled.
+ *
+ * @author agent
+ */
+public record ExportJobStatus(UUID id, String fileName, ExportJobState state, long processedElements, long totalElements, String profileReport) {
+
+    public ExportJobStatus {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(fileName);
+        Objects.requireNonNull(state);
+    }
+
+    public static ExportJobStatus of(ExportJob job) {
+        return new ExportJobStatus(job.getId(), job.getFileName(), job.getState(), job.getProgress().getProcessedElements(), job.getProgress().getTotalElements(),
+                job.getProfileReport().orElse(null));
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input used to submit the textual export of a document, or of all the SysML documents of a project when no
+ * document is given. If <code>profile</code> is <code>true</code>, the export is profiled and its report is kept with
+ * its result.
+ *
+ * @author agent
+ */
+public record SubmitExportJobInput(UUID id, String editingContextId, String documentId, String projectName, boolean profile) implements IInput {
+
+    public SubmitExportJobInput {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(editingContextId);
+        Objects.requireNonNull(projectName);
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * The payload of the submission of a textual export, identifying the job running the export.
+ *
+ * @author agent
+ */
+public record SubmitExportJobSuccessPayload(UUID id, UUID jobId) implements IPayload {
+
+    public SubmitExportJobSuccessPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(jobId);
+    }
+}
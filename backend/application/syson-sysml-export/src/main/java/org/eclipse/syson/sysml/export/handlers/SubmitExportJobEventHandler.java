@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.handlers;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.sysml.export.ExportJob;
+import org.eclipse.syson.sysml.export.SysMLv2ExportJobService;
+import org.eclipse.syson.sysml.export.dto.SubmitExportJobInput;
+import org.eclipse.syson.sysml.export.dto.SubmitExportJobSuccessPayload;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Submits the textual exports to the {@link SysMLv2ExportJobService} from the thread of the editing context, which
+ * owns the model copied in the snapshot of the export.
+ *
+ * @author agent
+ */
+@Service
+public class SubmitExportJobEventHandler implements IEditingContextEventHandler {
+
+    private final SysMLv2ExportJobService exportJobService;
+
+    public SubmitExportJobEventHandler(SysMLv2ExportJobService exportJobService) {
+        this.exportJobService = Objects.requireNonNull(exportJobService);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof SubmitExportJobInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        IPayload payload = new ErrorPayload(input.id(), "Unable to export the model");
+        if (input instanceof SubmitExportJobInput submitInput && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            try {
+                Optional<ExportJob> job = this.submit(resourceSet, submitInput);
+                if (job.isPresent()) {
+                    payload = new SubmitExportJobSuccessPayload(input.id(), job.get().getId());
+                } else {
+                    payload = new ErrorPayload(input.id(), "Unknown document " + submitInput.documentId());
+                }
+            } catch (RejectedExecutionException exception) {
+                payload = new ErrorPayload(input.id(), "Too many exports are already waiting, please try again later");
+            }
+        }
+        payloadSink.tryEmitValue(payload);
+        changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input));
+    }
+
+    private Optional<ExportJob> submit(ResourceSet resourceSet, SubmitExportJobInput input) {
+        Optional<ExportJob> job;
+        if (input.documentId() == null) {
+            job = Optional.of(this.exportJobService.submitProject(resourceSet, input.projectName(), input.profile()));
+        } else {
+            job = resourceSet.getResources().stream()
+                    .filter(resource -> input.documentId().equals(resource.getURI().lastSegment()))
+                    .findFirst()
+                    .map(resource -> this.exportJobService.submitDocument(resource, input.profile()));
+        }
+        return job;
+    }
+}
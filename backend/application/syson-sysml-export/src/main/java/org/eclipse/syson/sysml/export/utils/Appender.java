@@ -80,7 +80,7 @@ public class Appender {
         if (content == null) {
             return "";
         }
-        return content.replaceAll(newLine, newLine + indentation);
+        return content.replace(newLine, newLine + indentation);
     }
 
     private boolean endWithSpace() {
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The options of a textual export.
+ *
+ * @author agent
+ */
+public final class ExportOptions {
+
+    private NameDeresolver nameDeresolver;
+
+    private IncrementalExportCache exportCache;
+
+    private long exportCacheStamp;
+
+    private ExportProfile profile;
+
+    private ExportProgress progress;
+
+    private ExportOptions() {
+        // Prevent instantiation
+    }
+
+    public static Builder newExportOptions() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the name deresolver used to compute the names of the referenced elements. It can be shared by the exports
+     * of several resources of the same model, as long as the model does not change.
+     *
+     * @return the name deresolver
+     */
+    public NameDeresolver getNameDeresolver() {
+        return this.nameDeresolver;
+    }
+
+    /**
+     * Returns the cache of the textual form of the top-level elements which did not change since a previous export.
+     *
+     * @return the cache, if any
+     */
+    public Optional<IncrementalExportCache> getExportCache() {
+        return Optional.ofNullable(this.exportCache);
+    }
+
+    /**
+     * Returns the modification count of the cache when the cache has been given to the builder of these options, i.e.
+     * the stamp of the textual representations cached by the export. The options of an export of a snapshot thus have
+     * to be built when the snapshot is created, by the thread owning the model.
+     *
+     * @return the stamp of the textual representations cached by the export
+     */
+    public long getExportCacheStamp() {
+        return this.exportCacheStamp;
+    }
+
+    /**
+     * Returns the profile recording the time spent and the memory allocated to serialize the elements.
+     *
+     * @return the profile, if any
+     */
+    public Optional<ExportProfile> getProfile() {
+        return Optional.ofNullable(this.profile);
+    }
+
+    /**
+     * Returns the progress to which the serialization of each element is reported.
+     *
+     * @return the progress, if any
+     */
+    public Optional<ExportProgress> getProgress() {
+        return Optional.ofNullable(this.progress);
+    }
+
+    /**
+     * The builder used to create the options of an export.
+     *
+     * @author agent
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+
+        private NameDeresolver nameDeresolver;
+
+        private IncrementalExportCache exportCache;
+
+        private long exportCacheStamp;
+
+        private ExportProfile profile;
+
+        private ExportProgress progress;
+
+        private Builder() {
+            // Prevent instantiation
+        }
+
+        public Builder nameDeresolver(NameDeresolver nameDeresolver) {
+            this.nameDeresolver = Objects.requireNonNull(nameDeresolver);
+            return this;
+        }
+
+        public Builder exportCache(IncrementalExportCache exportCache) {
+            this.exportCache = Objects.requireNonNull(exportCache);
+            this.exportCacheStamp = exportCache.getModificationCount();
+            return this;
+        }
+
+        public Builder profile(ExportProfile profile) {
+            this.profile = Objects.requireNonNull(profile);
+            return this;
+        }
+
+        public Builder progress(ExportProgress progress) {
+            this.progress = Objects.requireNonNull(progress);
+            return this;
+        }
+
+        public ExportOptions build() {
+            ExportOptions exportOptions = new ExportOptions();
+            exportOptions.nameDeresolver = Objects.requireNonNullElseGet(this.nameDeresolver, NameDeresolver::new);
+            exportOptions.exportCache = this.exportCache;
+            exportOptions.exportCacheStamp = this.exportCacheStamp;
+            exportOptions.profile = this.profile;
+            exportOptions.progress = this.progress;
+            return exportOptions;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EClass;
+
+/**
+ * Profile of a textual export, recording the time spent and the memory allocated to serialize the elements of each
+ * EClass, and the statistics of the deresolution of the referenced elements.
+ *
+ * <p>
+ * The time and the allocation recorded for an EClass only cover the serialization of its elements themselves, the
+ * serialization of the elements they contain being recorded for their own EClass. The allocation is only recorded if
+ * the JVM supports the measure of the memory allocated by a thread. A profile records the serialization of a single
+ * thread, it has to be given to a single serializer.
+ * </p>
+ *
+ * @author agent
+ */
+public class ExportProfile {
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private final Map<EClass, MutableEClassProfile> eClassProfiles = new HashMap<>();
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private long deresolutionCacheHits;
+
+    private long deresolutionCacheMisses;
+
+    private long qualifiedNameFallbacks;
+
+    public ExportProfile() {
+        com.sun.management.ThreadMXBean allocationMXBean = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunThreadMXBean && sunThreadMXBean.isThreadAllocatedMemorySupported()
+                && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            allocationMXBean = sunThreadMXBean;
+        }
+        this.threadMXBean = allocationMXBean;
+    }
+
+    /**
+     * Records the start of the serialization of an element.
+     *
+     * @param eClass
+     *            the EClass of the element
+     */
+    public void enter(EClass eClass) {
+        this.frames.push(new Frame(eClass, System.nanoTime(), this.getAllocatedBytes()));
+    }
+
+    /**
+     * Records the end of the serialization of the last element whose serialization started.
+     */
+    public void exit() {
+        Frame frame = this.frames.pop();
+        long nanos = System.nanoTime() - frame.startNanos;
+        long allocatedBytes = this.getAllocatedBytes() - frame.startAllocatedBytes;
+        MutableEClassProfile eClassProfile = this.eClassProfiles.computeIfAbsent(frame.eClass, key -> new MutableEClassProfile());
+        eClassProfile.count++;
+        eClassProfile.nanos += nanos - frame.childrenNanos;
+        eClassProfile.allocatedBytes += allocatedBytes - frame.childrenAllocatedBytes;
+        Frame parent = this.frames.peek();
+        if (parent != null) {
+            parent.childrenNanos += nanos;
+            parent.childrenAllocatedBytes += allocatedBytes;
+        }
+    }
+
+    /**
+     * Records the statistics of the given name deresolver.
+     *
+     * @param nameDeresolver
+     *            the name deresolver used by the export
+     */
+    public void recordDeresolutions(NameDeresolver nameDeresolver) {
+        this.deresolutionCacheHits = nameDeresolver.getCacheHitCount();
+        this.deresolutionCacheMisses = nameDeresolver.getCacheMissCount();
+        this.qualifiedNameFallbacks = nameDeresolver.getQualifiedNameFallbackCount();
+    }
+
+    /**
+     * Returns the profile of each EClass, the most expensive first.
+     *
+     * @return the profiles of the EClasses
+     */
+    public List<EClassProfile> getEClassProfiles() {
+        return this.eClassProfiles.entrySet().stream()
+                .map(entry -> new EClassProfile(entry.getKey().getName(), entry.getValue().count, entry.getValue().nanos, entry.getValue().allocatedBytes))
+                .sorted(Comparator.comparingLong(EClassProfile::nanos).reversed())
+                .toList();
+    }
+
+    public long getDeresolutionCacheHits() {
+        return this.deresolutionCacheHits;
+    }
+
+    public long getDeresolutionCacheMisses() {
+        return this.deresolutionCacheMisses;
+    }
+
+    public long getQualifiedNameFallbacks() {
+        return this.qualifiedNameFallbacks;
+    }
+
+    /**
+     * Returns a tabular report of the profile.
+     *
+     * @return the report
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-40s %10s %12s %14s%n", "EClass", "Count", "Time (ms)", "Allocated (KB)"));
+        for (EClassProfile eClassProfile : this.getEClassProfiles()) {
+            report.append(String.format("%-40s %10d %12d %14d%n", eClassProfile.eClassName(), eClassProfile.count(), TimeUnit.NANOSECONDS.toMillis(eClassProfile.nanos()),
+                    eClassProfile.allocatedBytes() / 1024));
+        }
+        report.append(String.format("Deresolved names: %d computed, %d from cache, %d references written with their full qualified name%n", this.deresolutionCacheMisses, this.deresolutionCacheHits,
+                this.qualifiedNameFallbacks));
+        return report.toString();
+    }
+
+    private long getAllocatedBytes() {
+        long allocatedBytes = 0;
+        if (this.threadMXBean != null) {
+            allocatedBytes = this.threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return allocatedBytes;
+    }
+
+    /**
+     * The profile of the serialization of the elements of an EClass.
+     *
+     * @param eClassName
+     *            the name of the EClass
+     * @param count
+     *            the number of serialized elements
+     * @param nanos
+     *            the time spent to serialize the elements, excluding their contained elements
+     * @param allocatedBytes
+     *            the memory allocated to serialize the elements, excluding their contained elements, or 0 if it cannot
+     *            be measured
+     * @author agent
+     */
+    public record EClassProfile(String eClassName, long count, long nanos, long allocatedBytes) {
+        public EClassProfile {
+            Objects.requireNonNull(eClassName);
+        }
+    }
+
+    /**
+     * The accumulated profile of an EClass.
+     *
+     * @author agent
+     */
+    private static final class MutableEClassProfile {
+
+        private long count;
+
+        private long nanos;
+
+        private long allocatedBytes;
+    }
+
+    /**
+     * An element being serialized.
+     *
+     * @author agent
+     */
+    private static final class Frame {
+
+        private final EClass eClass;
+
+        private final long startNanos;
+
+        private final long startAllocatedBytes;
+
+        private long childrenNanos;
+
+        private long childrenAllocatedBytes;
+
+        Frame(EClass eClass, long startNanos, long startAllocatedBytes) {
+            this.eClass = eClass;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of an export, counting the serialized elements and allowing to cancel the export.
+ *
+ * <p>
+ * The progress can be shared by serializers running in different threads, and can be read and canceled from any
+ * other thread. The serializers check {@link #isCanceled()} before the serialization of each element: a canceled export
+ * stops at the serialization of its next element and its result is discarded.
+ * </p>
+ *
+ * @author agent
+ */
+public class ExportProgress {
+
+    private final AtomicLong processedElements = new AtomicLong();
+
+    private final long totalElements;
+
+    private volatile boolean canceled;
+
+    /**
+     * Creates the progress of an export.
+     *
+     * @param totalElements
+     *            the number of elements to serialize, or a negative value if it is unknown
+     */
+    public ExportProgress(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * Records the serialization of an element.
+     */
+    public void worked() {
+        this.worked(1);
+    }
+
+    /**
+     * Records the serialization of several elements, e.g. the elements of a top-level element whose textual
+     * representation has been cached.
+     *
+     * @param elementCount
+     *            the number of serialized elements
+     */
+    public void worked(long elementCount) {
+        this.processedElements.addAndGet(elementCount);
+    }
+
+    /**
+     * Cancels the export.
+     */
+    public void cancel() {
+        this.canceled = true;
+    }
+
+    public boolean isCanceled() {
+        return this.canceled;
+    }
+
+    public long getProcessedElements() {
+        return this.processedElements.get();
+    }
+
+    public long getTotalElements() {
+        return this.totalElements;
+    }
+}
@@ -0,0 +1,394 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.util.ElementUtil;
+
+/**
+ * Cache of the textual representation of the top-level elements of a model (i.e. the members of the root namespaces,
+ * usually packages and definitions), kept up to date by modification stamps.
+ *
+ * <p>
+ * This cache is an {@link EContentAdapter} which has to be added to the {@link ResourceSet} of the model, see
+ * {@link #getOrInstall(ResourceSet)}. Each change of an element updates the stamp of the top-level element containing
+ * it, and changes of the root namespaces update a root stamp. The top-level elements are identified by their ID (see
+ * {@link IDAdapter}), so that the cache never holds the elements of the model and can be used to export a copy of the
+ * model keeping these IDs, such as an export snapshot. Top-level elements without ID are never cached, and their
+ * changes are handled like changes of the root namespaces.
+ * </p>
+ *
+ * <p>
+ * The textual representation of a top-level element does not only depend on its content, but also on the names of
+ * the elements it references, directly or through imports and specializations. When a top-level element is cached, its
+ * dependencies are thus recorded: the top-level elements containing the elements referenced by its content or whose
+ * name has been computed while serializing it, the ones referenced by the content of the root namespaces (e.g. their
+ * imports) and, transitively, the dependencies of all these elements. A cached textual representation is only reused
+ * if neither the top-level element, nor the root namespaces, nor any of its dependencies changed since it has been
+ * computed. The standard libraries never change and are not tracked.
+ * </p>
+ *
+ * @author agent
+ */
+public class IncrementalExportCache extends EContentAdapter {
+
+    /**
+     * The maximal length of a cached textual representation. The larger top-level elements are written without being
+     * cached, so that the cache never keeps a copy of their whole textual representation.
+     */
+    public static final int MAX_CACHED_LENGTH = 1 << 20;
+
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    private final AtomicLong rootStamp = new AtomicLong();
+
+    private final Map<String, Long> unitStamps = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedUnit> cachedUnits = new ConcurrentHashMap<>();
+
+    private volatile ResourceSet resourceSet;
+
+    /**
+     * Returns the cache installed on the given resource set, after installing it if needed. This method has to be
+     * called by the thread owning the resource set.
+     *
+     * @param resourceSet
+     *            the resource set of a model
+     * @return the cache of the model
+     */
+    public static IncrementalExportCache getOrInstall(ResourceSet resourceSet) {
+        IncrementalExportCache exportCache = null;
+        for (Adapter adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof IncrementalExportCache installedExportCache) {
+                exportCache = installedExportCache;
+            }
+        }
+        if (exportCache == null) {
+            exportCache = new IncrementalExportCache();
+            resourceSet.eAdapters().add(exportCache);
+        }
+        return exportCache;
+    }
+
+    /**
+     * Returns the current modification count. A textual representation computed from the model, or from a copy of
+     * the model, in the state it had when this count has been retrieved is cached with this count as stamp.
+     *
+     * @return the modification count
+     */
+    public long getModificationCount() {
+        return this.modificationCount.get();
+    }
+
+    /**
+     * Indicates if the given element is a top-level element, whose textual representation can be cached.
+     *
+     * @param element
+     *            an element
+     * @return <code>true</code> if the element is a member of a root namespace
+     */
+    public boolean isUnit(EObject element) {
+        return element instanceof Element && element.eContainer() instanceof Membership membership && membership.eContainer() instanceof Namespace namespace
+                && namespace.eContainer() == null && namespace.eResource() != null && !ElementUtil.isStandardLibraryResource(namespace.eResource());
+    }
+
+    /**
+     * Returns the cached textual representation of the given top-level element, if it is still up to date.
+     *
+     * @param unit
+     *            a top-level element
+     * @param lineSeparator
+     *            the line separator used by the serializer
+     * @param indentation
+     *            the indentation used by the serializer
+     * @return the cached textual representation, if any
+     */
+    public Optional<CachedUnit> get(Element unit, String lineSeparator, String indentation) {
+        Optional<CachedUnit> result = Optional.empty();
+        String key = this.getKey(unit);
+        CachedUnit cachedUnit = null;
+        if (this.resourceSet != null && key != null) {
+            cachedUnit = this.cachedUnits.get(key);
+        }
+        if (cachedUnit != null && cachedUnit.lineSeparator().equals(lineSeparator) && cachedUnit.indentation().equals(indentation) && this.isUpToDate(key, cachedUnit)) {
+            result = Optional.of(cachedUnit);
+        }
+        return result;
+    }
+
+    /**
+     * Caches the textual representation of the given top-level element.
+     *
+     * @param unit
+     *            a top-level element
+     * @param cachedUnit
+     *            its textual representation, with the stamp of the model it has been computed from
+     */
+    public void put(Element unit, CachedUnit cachedUnit) {
+        String key = this.getKey(unit);
+        if (this.resourceSet != null && key != null && cachedUnit.stamp() >= this.rootStamp.get() && this.unitStamps.getOrDefault(key, 0L) <= cachedUnit.stamp()) {
+            this.cachedUnits.put(key, cachedUnit);
+        }
+    }
+
+    /**
+     * Creates the collector of the dependencies of the top-level elements serialized by one export. The collector
+     * remembers the elements referenced by each top-level element, so it must not be used once the model changed.
+     *
+     * @return a new dependency collector
+     */
+    public DependencyCollector newDependencyCollector() {
+        return new DependencyCollector();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            String key = null;
+            if (notifier instanceof EObject eObject) {
+                key = Optional.ofNullable(this.getUnit(eObject)).map(this::getKey).orElse(null);
+            }
+            if (key != null) {
+                this.unitStamps.put(key, this.modificationCount.incrementAndGet());
+                this.cachedUnits.remove(key);
+            } else if (notifier instanceof EObject || notifier instanceof ResourceSet || notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                // Every cached element is outdated, including the deleted ones which are forgotten here
+                this.rootStamp.set(this.modificationCount.incrementAndGet());
+                this.cachedUnits.clear();
+                this.unitStamps.clear();
+            }
+        }
+    }
+
+    @Override
+    public void setTarget(Notifier target) {
+        super.setTarget(target);
+        if (target instanceof ResourceSet targetResourceSet) {
+            this.resourceSet = targetResourceSet;
+        }
+    }
+
+    @Override
+    public void unsetTarget(Notifier target) {
+        super.unsetTarget(target);
+        if (target == this.resourceSet) {
+            this.resourceSet = null;
+            this.cachedUnits.clear();
+            this.unitStamps.clear();
+        }
+    }
+
+    @Override
+    protected void addAdapter(Notifier notifier) {
+        if (!(notifier instanceof Resource resource && ElementUtil.isStandardLibraryResource(resource))) {
+            super.addAdapter(notifier);
+        }
+    }
+
+    /**
+     * Indicates if neither the given top-level element, nor the root namespaces, nor any of its dependencies changed
+     * since its textual representation has been computed. The stamps only increase, so a concurrent change can only
+     * make the cached textual representation outdated.
+     */
+    private boolean isUpToDate(String key, CachedUnit cachedUnit) {
+        boolean upToDate = cachedUnit.stamp() >= this.rootStamp.get() && this.unitStamps.getOrDefault(key, 0L) <= cachedUnit.stamp();
+        for (String dependency : cachedUnit.dependencies()) {
+            upToDate = upToDate && this.unitStamps.getOrDefault(dependency, 0L) <= cachedUnit.stamp();
+        }
+        return upToDate;
+    }
+
+    private String getKey(EObject unit) {
+        String key = null;
+        for (Adapter adapter : unit.eAdapters()) {
+            if (adapter instanceof IDAdapter idAdapter && idAdapter.getId() != null) {
+                key = idAdapter.getId().toString();
+            }
+        }
+        return key;
+    }
+
+    private Element getUnit(EObject eObject) {
+        EObject current = eObject;
+        while (current != null && !this.isUnit(current)) {
+            current = current.eContainer();
+        }
+        return (Element) current;
+    }
+
+    /**
+     * Collects the dependencies of the top-level elements serialized by one export.
+     *
+     * @author agent
+     */
+    public final class DependencyCollector {
+
+        private final Map<Element, Set<Element>> referencedUnits = new HashMap<>();
+
+        private final Map<ResourceSet, Set<Element>> rootDependencies = new HashMap<>();
+
+        private DependencyCollector() {
+            // Prevent instantiation
+        }
+
+        /**
+         * Returns the keys of the top-level elements the textual representation of the given top-level element
+         * depends on.
+         *
+         * @param unit
+         *            a top-level element
+         * @param nameDependencies
+         *            the elements whose name has been computed while serializing the top-level element
+         * @return the keys of the dependencies of the top-level element
+         */
+        public Set<String> collect(Element unit, Collection<? extends EObject> nameDependencies) {
+            Set<Element> visited = new HashSet<>();
+            Deque<Element> toVisit = new ArrayDeque<>();
+            toVisit.add(unit);
+            for (EObject nameDependency : nameDependencies) {
+                Element nameDependencyUnit = IncrementalExportCache.this.getUnit(nameDependency);
+                if (nameDependencyUnit != null) {
+                    toVisit.add(nameDependencyUnit);
+                }
+            }
+            if (unit.eResource() != null && unit.eResource().getResourceSet() != null) {
+                toVisit.addAll(this.rootDependencies.computeIfAbsent(unit.eResource().getResourceSet(), this::computeRootDependencies));
+            }
+            while (!toVisit.isEmpty()) {
+                Element current = toVisit.poll();
+                if (visited.add(current)) {
+                    toVisit.addAll(this.referencedUnits.computeIfAbsent(current, this::computeReferencedUnits));
+                }
+            }
+            visited.remove(unit);
+
+            Set<String> dependencies = new HashSet<>();
+            for (Element dependency : visited) {
+                String key = IncrementalExportCache.this.getKey(dependency);
+                if (key != null) {
+                    dependencies.add(key);
+                }
+            }
+            return Set.copyOf(dependencies);
+        }
+
+        private Set<Element> computeReferencedUnits(Element unit) {
+            Set<Element> units = new HashSet<>();
+            this.collectReferencedUnits(unit, units);
+            TreeIterator<EObject> allContents = unit.eAllContents();
+            while (allContents.hasNext()) {
+                this.collectReferencedUnits(allContents.next(), units);
+            }
+            return units;
+        }
+
+        /**
+         * Returns the top-level elements referenced by the content of the root namespaces which is not contained by a
+         * top-level element, e.g. their imports.
+         */
+        private Set<Element> computeRootDependencies(ResourceSet unitResourceSet) {
+            Set<Element> units = new HashSet<>();
+            for (Resource resource : unitResourceSet.getResources()) {
+                if (!ElementUtil.isStandardLibraryResource(resource)) {
+                    TreeIterator<EObject> allContents = resource.getAllContents();
+                    while (allContents.hasNext()) {
+                        EObject eObject = allContents.next();
+                        if (IncrementalExportCache.this.isUnit(eObject)) {
+                            allContents.prune();
+                        } else {
+                            this.collectReferencedUnits(eObject, units);
+                        }
+                    }
+                }
+            }
+            return units;
+        }
+
+        private void collectReferencedUnits(EObject eObject, Set<Element> units) {
+            for (EReference eReference : eObject.eClass().getEAllReferences()) {
+                if (!eReference.isContainment() && !eReference.isContainer() && !eReference.isDerived()) {
+                    Object value = eObject.eGet(eReference, false);
+                    if (value instanceof List<?> values) {
+                        values.forEach(target -> this.collectReferencedUnit(target, units));
+                    } else {
+                        this.collectReferencedUnit(value, units);
+                    }
+                }
+            }
+        }
+
+        private void collectReferencedUnit(Object target, Set<Element> units) {
+            if (target instanceof EObject eObject) {
+                Element unit = IncrementalExportCache.this.getUnit(eObject);
+                if (unit != null) {
+                    units.add(unit);
+                }
+            }
+        }
+    }
+
+    /**
+     * The cached textual representation of a top-level element.
+     *
+     * @param text
+     *            the textual representation, or <code>null</code> if the element has none
+     * @param statuses
+     *            the statuses reported while serializing the element
+     * @param elementCount
+     *            the number of elements serialized to compute the textual representation
+     * @param dependencies
+     *            the keys of the top-level elements the textual representation depends on
+     * @param lineSeparator
+     *            the line separator used by the serializer
+     * @param indentation
+     *            the indentation used by the serializer
+     * @param stamp
+     *            the modification count of the model the textual representation has been computed from
+     * @author agent
+     */
+    public record CachedUnit(String text, List<Status> statuses, long elementCount, Set<String> dependencies, String lineSeparator, String indentation, long stamp) {
+        public CachedUnit {
+            Objects.requireNonNull(statuses);
+            Objects.requireNonNull(dependencies);
+            Objects.requireNonNull(lineSeparator);
+            Objects.requireNonNull(indentation);
+        }
+    }
+}
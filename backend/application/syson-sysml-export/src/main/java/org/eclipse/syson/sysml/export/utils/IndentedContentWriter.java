@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Indentation-aware sink of the textual representation of SysML elements.
+ *
+ * <p>
+ * The writer has an explicit indentation level, modified with {@link #indent()} and {@link #unindent()}: each line
+ * separator appended to the writer is followed by the indentation of the current level. The body of an element (i.e.
+ * the content between braces) can thus be written directly in the underlying sink, one level deeper than the element
+ * itself, instead of being built and indented again by each of its ancestors. The content is written as is, it is
+ * never interpreted.
+ * </p>
+ *
+ * <p>
+ * The content written in the sink can also be copied in a buffer, see {@link #startTee(StringBuilder, int)}, indented
+ * relatively to the indentation level at which the copy has started, e.g. to cache the textual representation of an
+ * element while it is written.
+ * </p>
+ *
+ * @author agent
+ */
+public class IndentedContentWriter implements Appendable {
+
+    private final Appendable appendable;
+
+    private final String newLine;
+
+    private final String indentation;
+
+    private final List<String> indentations = new ArrayList<>();
+
+    private int level;
+
+    private StringBuilder tee;
+
+    private int teeLevel;
+
+    private int teeMaxLength;
+
+    private boolean teeOverflow;
+
+    public IndentedContentWriter(Appendable appendable, String newLine, String indentation) {
+        this.appendable = Objects.requireNonNull(appendable);
+        this.newLine = Objects.requireNonNull(newLine);
+        this.indentation = Objects.requireNonNull(indentation);
+        this.indentations.add("");
+    }
+
+    /**
+     * Increments the indentation level of the next lines.
+     */
+    public void indent() {
+        this.level++;
+    }
+
+    /**
+     * Decrements the indentation level of the next lines, if they are indented.
+     */
+    public void unindent() {
+        if (this.level > 0) {
+            this.level--;
+        }
+    }
+
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Starts copying the content written in the sink in the given buffer, indented relatively to the current
+     * indentation level. The copy is abandoned, and the buffer cleared, once it is longer than the given length.
+     *
+     * @param buffer
+     *            the buffer receiving the copy
+     * @param maxLength
+     *            the maximal length of the copy
+     */
+    public void startTee(StringBuilder buffer, int maxLength) {
+        this.tee = Objects.requireNonNull(buffer);
+        this.teeLevel = this.level;
+        this.teeMaxLength = maxLength;
+        this.teeOverflow = false;
+    }
+
+    /**
+     * Stops copying the content written in the sink.
+     *
+     * @return <code>true</code> if the buffer contains the whole copy, <code>false</code> if it has been abandoned
+     */
+    public boolean stopTee() {
+        boolean complete = this.tee != null && !this.teeOverflow;
+        this.tee = null;
+        return complete;
+    }
+
+    /**
+     * Starts a new line, indented according to the current indentation level.
+     *
+     * @return this writer
+     * @throws IOException
+     *             if the line separator cannot be written in the underlying sink
+     */
+    public IndentedContentWriter newLine() throws IOException {
+        this.appendable.append(this.newLine).append(this.getIndentation(this.level));
+        if (this.tee != null && !this.teeOverflow) {
+            this.tee.append(this.newLine).append(this.getIndentation(this.level - this.teeLevel));
+            this.checkTeeLength();
+        }
+        return this;
+    }
+
+    @Override
+    public IndentedContentWriter append(CharSequence csq) throws IOException {
+        CharSequence content = csq;
+        if (content == null) {
+            content = "null";
+        }
+        return this.append(content, 0, content.length());
+    }
+
+    @Override
+    public IndentedContentWriter append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence content = csq;
+        if (content == null) {
+            content = "null";
+        }
+        String text = content.subSequence(start, end).toString();
+        int lineStart = 0;
+        int lineEnd = text.indexOf(this.newLine);
+        while (lineEnd != -1) {
+            this.write(text, lineStart, lineEnd);
+            this.newLine();
+            lineStart = lineEnd + this.newLine.length();
+            lineEnd = text.indexOf(this.newLine, lineStart);
+        }
+        this.write(text, lineStart, text.length());
+        return this;
+    }
+
+    /**
+     * Appends a single character, which starts a new line only if the line separator is this single character.
+     */
+    @Override
+    public IndentedContentWriter append(char c) throws IOException {
+        if (this.newLine.length() == 1 && this.newLine.charAt(0) == c) {
+            this.newLine();
+        } else {
+            this.appendable.append(c);
+            if (this.tee != null && !this.teeOverflow) {
+                this.tee.append(c);
+                this.checkTeeLength();
+            }
+        }
+        return this;
+    }
+
+    private void write(String text, int start, int end) throws IOException {
+        this.appendable.append(text, start, end);
+        if (this.tee != null && !this.teeOverflow) {
+            this.tee.append(text, start, end);
+            this.checkTeeLength();
+        }
+    }
+
+    private void checkTeeLength() {
+        if (this.tee.length() > this.teeMaxLength) {
+            this.teeOverflow = true;
+            this.tee.setLength(0);
+            this.tee.trimToSize();
+        }
+    }
+
+    private String getIndentation(int indentationLevel) {
+        while (this.indentations.size() <= indentationLevel) {
+            this.indentations.add(this.indentations.get(this.indentations.size() - 1) + this.indentation);
+        }
+        return this.indentations.get(indentationLevel);
+    }
+}
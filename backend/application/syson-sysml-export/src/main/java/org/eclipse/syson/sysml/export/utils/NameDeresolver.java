@@ -12,20 +12,19 @@
  *******************************************************************************/
 package org.eclipse.syson.sysml.export.utils;
 
-import static java.util.stream.Collectors.toCollection;
-import static java.util.stream.Collectors.toSet;
-
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.UniqueEList;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.Membership;
@@ -44,6 +43,13 @@ import org.slf4j.LoggerFactory;
  * {@link Namespace#visibleMemberships(EList, boolean, boolean)}. It should be used on a static model, discard this
  * object if the model changes.
  *
+ * <p>
+ * All the caches are keyed by the elements themselves, so a lookup does not allocate any key. The same instance can be
+ * used to export several resources of the same model, sharing the computations made for the elements they reference.
+ * The caches are thread-safe, so these exports can run concurrently as long as the model is not modified. Two threads
+ * may compute the same value at the same time, which is harmless since the computations are deterministic.
+ * </p>
+ *
  * @author Arthur Daussy
  */
 public class NameDeresolver {
@@ -51,22 +57,61 @@ public class NameDeresolver {
     private static final Logger LOGGER = LoggerFactory.getLogger(NameDeresolver.class);
 
     /**
-     * Keep a cache of the visible memberships of a given Namespace identified by its elementId.
+     * Keep a cache of the visible memberships of a given Namespace, with their index in the list of the visible
+     * memberships of the namespace.
+     */
+    private final Map<Namespace, Map<Membership, Integer>> visibleMembershipsCache = new ConcurrentHashMap<>();
+
+    /**
+     * Keep a cache of the visible memberships of a given Namespace, including its private memberships.
      */
-    private Map<String, EList<Membership>> visibleMembershipsCache = new HashMap<>();
+    private final Map<Namespace, Map<Membership, Integer>> visibleMembershipsWithPrivateCache = new ConcurrentHashMap<>();
 
     /**
-     * Keep a cache the deresolved name of an element from a given namespace. The key of the map is a pair of the
-     * elementId of the deresolving namespace and the element itself.
+     * Keep a cache the deresolved name of an element from a given namespace. The key of the map is the namespace from
+     * which the element is deresolved, the key of the values is the element itself.
      */
-    private Map<Pair<String, String>, String> deresolvedNamesCache = new HashMap<>();
+    private final Map<Namespace, Map<Element, DeresolvedName>> deresolvedNamesCache = new ConcurrentHashMap<>();
 
     /**
-     * Keeps a cache of the qualified name of an element identified by its elementId.
+     * Keeps a cache of the qualified name of an element.
      */
-    private Map<String, String> qualifiedNameCache = new HashMap<>();
+    private final Map<Element, String> qualifiedNameCache = new ConcurrentHashMap<>();
+
+    /**
+     * Keeps a cache of the memberships from which an element can be reached: the memberships containing it and the
+     * memberships referencing it as member element.
+     */
+    private final Map<Element, Set<Membership>> reachingMembershipsCache = new ConcurrentHashMap<>();
+
+    private final DeresolvingNamespaceProvider deresolvingNamespaceProvider = new DeresolvingNamespaceProvider();
+
+    private final LongAdder deresolvedNameHits = new LongAdder();
+
+    private final LongAdder deresolvedNameMisses = new LongAdder();
+
+    private final LongAdder qualifiedNameFallbacks = new LongAdder();
+
+    private final ECrossReferenceAdapter crossReferenceAdapter;
+
+    /**
+     * Creates a name deresolver finding the memberships which reference an element with the cross referencer of this
+     * element.
+     */
+    public NameDeresolver() {
+        this(null);
+    }
 
-    private DeresolvingNamespaceProvider deresolvingNamespaceProvider = new DeresolvingNamespaceProvider();
+    /**
+     * Creates a name deresolver finding the memberships which reference an element with the given cross referencer,
+     * e.g. the cross referencer of a snapshot of the model which does not adapt the elements of the standard libraries.
+     *
+     * @param crossReferenceAdapter
+     *            the cross referencer, or <code>null</code> to use the cross referencer of each element
+     */
+    public NameDeresolver(ECrossReferenceAdapter crossReferenceAdapter) {
+        this.crossReferenceAdapter = crossReferenceAdapter;
+    }
 
     public String getDeresolvedName(Element element, Element context) {
 
@@ -78,29 +123,96 @@ public class NameDeresolver {
 
         final String qualifiedName;
         if (deresolvingNamespace == null) {
+            this.qualifiedNameFallbacks.increment();
             qualifiedName = getQualifiedName(element);
         } else {
-            // An element is either reachable form its containment tree or via a reference Membership#memberElement
-            Set<Membership> elementAncestors = EMFUtils.getAncestors(Membership.class, element, null).stream().collect(toSet());
-            EMFUtils.getInverse(element, SysmlPackage.eINSTANCE.getMembership_MemberElement()).stream().map(s -> (Membership) s.getEObject()).forEach(elementAncestors::add);
-            qualifiedName = this.deresolve(element, deresolvingNamespace, deresolvingNamespace, elementAncestors);
+            Map<Element, DeresolvedName> deresolvedNames = this.deresolvedNamesCache.computeIfAbsent(deresolvingNamespace, key -> new ConcurrentHashMap<>());
+            DeresolvedName cacheValue = deresolvedNames.get(element);
+            if (cacheValue == null) {
+                this.deresolvedNameMisses.increment();
+                cacheValue = this.deresolve(element, deresolvingNamespace, deresolvingNamespace, this.getReachingMemberships(element));
+                if (cacheValue.name() != null) {
+                    deresolvedNames.put(element, cacheValue);
+                }
+            } else {
+                this.deresolvedNameHits.increment();
+            }
+            if (cacheValue.qualifiedNameFallback()) {
+                // Each reference written with the full qualified name is counted, whether its name is cached or not
+                this.qualifiedNameFallbacks.increment();
+            }
+            qualifiedName = cacheValue.name();
         }
 
         return qualifiedName;
 
     }
 
+    /**
+     * Returns the number of deresolved names which have been found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getCacheHitCount() {
+        return this.deresolvedNameHits.sum();
+    }
+
+    /**
+     * Returns the number of deresolved names which have been computed.
+     *
+     * @return the number of cache misses
+     */
+    public long getCacheMissCount() {
+        return this.deresolvedNameMisses.sum();
+    }
+
+    /**
+     * Returns the number of references whose name is the full qualified name of the referenced element, because no
+     * shorter name resolvable from their context has been found. Each reference is counted, including the ones whose
+     * name has been found in the cache.
+     *
+     * @return the number of fallbacks to the full qualified name
+     */
+    public long getQualifiedNameFallbackCount() {
+        return this.qualifiedNameFallbacks.sum();
+    }
+
+    private Set<Membership> getReachingMemberships(Element element) {
+        Set<Membership> reachingMemberships = this.reachingMembershipsCache.get(element);
+        if (reachingMemberships == null) {
+            // An element is either reachable form its containment tree or via a reference Membership#memberElement
+            Set<Membership> memberships = Collections.newSetFromMap(new IdentityHashMap<>());
+            memberships.addAll(EMFUtils.getAncestors(Membership.class, element, null));
+            for (Setting setting : this.getInverseMemberships(element)) {
+                memberships.add((Membership) setting.getEObject());
+            }
+            reachingMemberships = Collections.unmodifiableSet(memberships);
+            this.reachingMembershipsCache.put(element, reachingMemberships);
+        }
+        return reachingMemberships;
+    }
+
+    private Collection<Setting> getInverseMemberships(Element element) {
+        Collection<Setting> settings;
+        if (this.crossReferenceAdapter != null) {
+            settings = this.crossReferenceAdapter.getInverseReferences(element, SysmlPackage.eINSTANCE.getMembership_MemberElement(), false);
+        } else {
+            settings = EMFUtils.getInverse(element, SysmlPackage.eINSTANCE.getMembership_MemberElement());
+        }
+        return settings;
+    }
+
     private String getQualifiedName(Element e) {
         if (e == null) {
             return "";
         }
-        String qn = qualifiedNameCache.get(e.getElementId());
+        String qn = qualifiedNameCache.get(e);
         if (qn == null) {
             qn = e.getQualifiedName();
             if (qn == null) {
                 qn = "";
             }
-            qualifiedNameCache.put(e.getElementId(), qn);
+            qualifiedNameCache.put(e, qn);
         }
         return qn;
     }
@@ -118,45 +230,49 @@ public class NameDeresolver {
      *            the ancestor memberships of the element from which it can be reached
      * @return a name
      */
-    private String deresolve(Element element, Namespace sourceNamespace, Namespace deresolvingNamespace, Set<Membership> ancestors) {
-        final String qualifiedName;
+    private DeresolvedName deresolve(Element element, Namespace sourceNamespace, Namespace deresolvingNamespace, Set<Membership> ancestors) {
+        final DeresolvedName qualifiedName;
         if (deresolvingNamespace == null) {
-            qualifiedName = getQualifiedName(element);
+            qualifiedName = new DeresolvedName(getQualifiedName(element), true);
         } else {
-            Pair<String, String> searchKey = Pair.of(deresolvingNamespace.getElementId(), element.getElementId());
-            String cacheValue = deresolvedNamesCache.get(searchKey);
-            if (cacheValue != null) {
-                return cacheValue;
-            }
-            EList<Membership> visibleMemberships = this.getVisibleMemberships(deresolvingNamespace, deresolvingNamespace == sourceNamespace);
-            final Stream<Membership> stream;
-            // Some element have a lots of elements to checks. In that case use parallel stream
-            if (visibleMemberships.size() > 100) {
-                stream = visibleMemberships.parallelStream();
-            } else {
-                stream = visibleMemberships.stream();
-            }
-            Optional<Membership> importedContainer = stream.filter(ancestors::contains)
-                    // Get the membership the closest to the element to deresolve
-                    .sorted(Comparator.comparing(m -> this.getPathLenght(element, m))).findFirst();
+            Map<Membership, Integer> visibleMemberships = this.getVisibleMemberships(deresolvingNamespace, deresolvingNamespace == sourceNamespace);
+            Membership importedContainer = this.getClosestVisibleMembership(element, ancestors, visibleMemberships);
 
-            if (!importedContainer.isEmpty()) {
+            if (importedContainer != null) {
                 // We found a visible membership that can reach the element
                 // Try to compute its qualified name
-                qualifiedName = this.buildRelativeQualifiedName(element, deresolvingNamespace, importedContainer.get(), sourceNamespace);
+                qualifiedName = new DeresolvedName(this.buildRelativeQualifiedName(element, deresolvingNamespace, importedContainer, sourceNamespace), false);
             } else {
                 // Ask to the parent namespace
                 qualifiedName = this.deresolve(element, sourceNamespace, deresolvingNamespace.getOwningNamespace(), ancestors);
             }
-
-            if (qualifiedName != null) {
-                deresolvedNamesCache.put(searchKey, qualifiedName);
-            }
         }
 
         return qualifiedName;
     }
 
+    /**
+     * Returns the visible membership the closest to the element to deresolve, among the memberships from which it can
+     * be reached. If several memberships are at the same distance, the first visible one is returned.
+     */
+    private Membership getClosestVisibleMembership(Element element, Set<Membership> ancestors, Map<Membership, Integer> visibleMemberships) {
+        Membership closest = null;
+        int closestPathLength = Integer.MAX_VALUE;
+        int closestIndex = Integer.MAX_VALUE;
+        for (Membership ancestor : ancestors) {
+            Integer index = visibleMemberships.get(ancestor);
+            if (index != null) {
+                int pathLength = this.getPathLenght(element, ancestor);
+                if (pathLength < closestPathLength || (pathLength == closestPathLength && index < closestIndex)) {
+                    closest = ancestor;
+                    closestPathLength = pathLength;
+                    closestIndex = index;
+                }
+            }
+        }
+        return closest;
+    }
+
     private int getPathLenght(Element element, Membership ancestor) {
         int lenght = 0;
         EObject current = element;
@@ -167,19 +283,22 @@ public class NameDeresolver {
         return lenght;
     }
 
-    private EList<Membership> getVisibleMemberships(Namespace deresolvingNamespace, boolean includePrivate) {
-        EList<Membership> memberships = null;
-        String namespaceId = deresolvingNamespace.getElementId();
-        if (namespaceId != null) {
-            memberships = this.visibleMembershipsCache.get(namespaceId);
+    private Map<Membership, Integer> getVisibleMemberships(Namespace deresolvingNamespace, boolean includePrivate) {
+        Map<Namespace, Map<Membership, Integer>> cache = this.visibleMembershipsCache;
+        if (includePrivate) {
+            cache = this.visibleMembershipsWithPrivateCache;
         }
+        Map<Membership, Integer> memberships = cache.get(deresolvingNamespace);
         if (memberships == null) {
             EList<Membership> visible = new MembershipComputer<Namespace>(deresolvingNamespace, new UniqueEList<>()).visibleMemberships(false, includePrivate, true);
-            memberships = visible.stream()
-                    .filter(m -> m.getMemberElement() != null)
-                    .filter(m -> includePrivate || m.getVisibility() != VisibilityKind.PRIVATE)
-                    .collect(toCollection(UniqueEList<Membership>::new));
-            this.visibleMembershipsCache.put(namespaceId, memberships);
+            Map<Membership, Integer> indexes = new IdentityHashMap<>();
+            for (Membership membership : visible) {
+                if (membership.getMemberElement() != null && (includePrivate || membership.getVisibility() != VisibilityKind.PRIVATE)) {
+                    indexes.putIfAbsent(membership, indexes.size());
+                }
+            }
+            memberships = Collections.unmodifiableMap(indexes);
+            cache.put(deresolvingNamespace, memberships);
         }
         return memberships;
     }
@@ -249,4 +368,16 @@ public class NameDeresolver {
         return qn;
     }
 
+    /**
+     * The name of a referenced element.
+     *
+     * @param name
+     *            the name of the element, resolvable from the context of the reference
+     * @param qualifiedNameFallback
+     *            <code>true</code> if the name is the full qualified name of the element, because no shorter name has
+     *            been found
+     * @author agent
+     */
+    private record DeresolvedName(String name, boolean qualifiedNameFallback) {
+    }
 }
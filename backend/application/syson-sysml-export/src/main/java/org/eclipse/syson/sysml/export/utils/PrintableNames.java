@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table of the printable form of the names written during an export.
+ *
+ * <p>
+ * A model usually repeats the same names many times (e.g. the names of the types of its features), the printable
+ * form of each name is thus computed once, and the same string is shared by all its occurrences. This table is not
+ * thread-safe, it is meant to be used by a single serializer.
+ * </p>
+ *
+ * @author agent
+ */
+public class PrintableNames {
+
+    private final Map<String, String> printableNames = new HashMap<>();
+
+    /**
+     * Returns the printable form of the given name, with its single quotes escaped.
+     *
+     * @param name
+     *            a name
+     * @return the printable form of the name, see {@link Appender#toPrintableName(String)}
+     */
+    public String get(String name) {
+        String printableName = "";
+        if (name != null && !name.isEmpty()) {
+            printableName = this.printableNames.computeIfAbsent(name, Appender::toPrintableName);
+        }
+        return printableName;
+    }
+}
@@ -14,6 +14,11 @@ package org.eclipse.syson.sysml.export.utils;
 
 import com.google.common.base.Strings;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.syson.sysml.ActionDefinition;
 import org.eclipse.syson.sysml.ActionUsage;
@@ -36,6 +41,7 @@ import org.eclipse.syson.sysml.PortUsage;
 import org.eclipse.syson.sysml.ReferenceUsage;
 import org.eclipse.syson.sysml.RequirementUsage;
 import org.eclipse.syson.sysml.SubjectMembership;
+import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.util.SysmlSwitch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +49,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Keyword provider for SysML textual representation.
  *
+ * <p>
+ * The keyword of the elements whose EClass is listed in {@link #CONSTANT_KEYWORD_ECLASSES} only depends on their
+ * EClass, it is computed once per EClass. The keyword of the other elements, e.g. the part usages which are actors or
+ * the negated assert constraint usages, is computed for each element.
+ * </p>
+ *
  * @author Arthur Daussy
  */
 public class SysMLKeywordSwitch extends SysmlSwitch<String> {
@@ -77,6 +89,34 @@ public class SysMLKeywordSwitch extends SysmlSwitch<String> {
 
     private static final String REQUIREMENT_KEYWORD = "requirement";
 
+    /**
+     * The EClasses whose own case returns a keyword which does not depend on the element. Only the exact EClasses are
+     * listed: the keyword of their subclasses may be returned by another case.
+     */
+    private static final Set<EClass> CONSTANT_KEYWORD_ECLASSES = Set.of(SysmlPackage.eINSTANCE.getAttributeDefinition(), SysmlPackage.eINSTANCE.getAttributeUsage(),
+            SysmlPackage.eINSTANCE.getActionDefinition(), SysmlPackage.eINSTANCE.getActionUsage(), SysmlPackage.eINSTANCE.getPerformActionUsage(),
+            SysmlPackage.eINSTANCE.getEnumerationDefinition(), SysmlPackage.eINSTANCE.getItemDefinition(), SysmlPackage.eINSTANCE.getItemUsage(),
+            SysmlPackage.eINSTANCE.getInterfaceDefinition(), SysmlPackage.eINSTANCE.getInterfaceUsage(), SysmlPackage.eINSTANCE.getPortDefinition(),
+            SysmlPackage.eINSTANCE.getPortUsage(), SysmlPackage.eINSTANCE.getPartDefinition(), SysmlPackage.eINSTANCE.getConstraintUsage(),
+            SysmlPackage.eINSTANCE.getRequirementUsage());
+
+    private final Map<EClass, String> constantKeywords = new HashMap<>();
+
+    @Override
+    public String doSwitch(EObject eObject) {
+        String keyword;
+        if (CONSTANT_KEYWORD_ECLASSES.contains(eObject.eClass())) {
+            keyword = this.constantKeywords.get(eObject.eClass());
+            if (keyword == null) {
+                keyword = super.doSwitch(eObject);
+                this.constantKeywords.put(eObject.eClass(), keyword);
+            }
+        } else {
+            keyword = super.doSwitch(eObject);
+        }
+        return keyword;
+    }
+
     @Override
     public String defaultCase(EObject object) {
         if (object != null) {
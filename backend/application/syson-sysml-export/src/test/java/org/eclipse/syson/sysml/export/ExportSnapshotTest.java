@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.Subclassification;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link ExportSnapshot}.
+ *
+ * @author agent
+ */
+public class ExportSnapshotTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private ResourceSet resourceSet;
+
+    private Resource resource;
+
+    private Package pkg;
+
+    private PartDefinition part;
+
+    private PartDefinition wheel;
+
+    private Membership libraryAlias;
+
+    @BeforeEach
+    public void setUp() {
+        this.resourceSet = new ResourceSetImpl();
+        this.resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+
+        Namespace libraryRoot = this.builder.createRootNamespace();
+        Package library = this.builder.createInWithName(Package.class, libraryRoot, "Library");
+        this.part = this.builder.createInWithName(PartDefinition.class, library, "Part");
+        this.wheel = this.builder.createInWithName(PartDefinition.class, library, "Wheel");
+        this.libraryAlias = this.builder.createIn(Membership.class, library);
+        this.libraryAlias.setMemberName("LibraryWheel");
+        this.libraryAlias.setMemberElement(this.wheel);
+        this.createResource("sysmllibrary:///library", "Library", libraryRoot);
+
+        Namespace root = this.builder.createRootNamespace();
+        this.pkg = this.builder.createInWithName(Package.class, root, "Package1");
+        PartDefinition car = this.builder.createInWithName(PartDefinition.class, this.pkg, "Car");
+        this.builder.addSubclassification(car, this.part);
+        Membership alias = this.builder.createIn(Membership.class, this.pkg);
+        alias.setMemberName("W");
+        alias.setMemberElement(this.wheel);
+        this.resource = this.createResource("syson:///model", "Model.sysml", root);
+    }
+
+    @Test
+    public void doNotCopyStandardLibraries() {
+        ExportSnapshot snapshot = ExportSnapshot.copy(List.of(this.resource));
+
+        assertEquals(1, snapshot.getResourceSet().getResources().size());
+        assertFalse(snapshot.getResourceSet().getResources().stream().anyMatch(ElementUtil::isStandardLibraryResource));
+        Subclassification subclassification = null;
+        TreeIterator<EObject> allContents = snapshot.getCopy(this.resource).orElseThrow().getAllContents();
+        while (allContents.hasNext() && subclassification == null) {
+            if (allContents.next() instanceof Subclassification copiedSubclassification) {
+                subclassification = copiedSubclassification;
+            }
+        }
+        // The copied elements reference the elements of the libraries of the model
+        assertSame(this.part, subclassification.getSuperclassifier());
+    }
+
+    @Test
+    public void findLibraryReferencesInSnapshot() {
+        ExportSnapshot snapshot = ExportSnapshot.copy(List.of(this.resource));
+
+        Set<EObject> sources = snapshot.getCrossReferenceAdapter().getInverseReferences(this.wheel, SysmlPackage.eINSTANCE.getMembership_MemberElement(), false).stream()
+                .map(Setting::getEObject)
+                .collect(Collectors.toSet());
+        assertEquals(2, sources.size());
+        assertTrue(sources.contains(this.libraryAlias));
+        Resource copy = snapshot.getCopy(this.resource).orElseThrow();
+        assertTrue(sources.stream().anyMatch(source -> source.eResource() == copy && "W".equals(((Membership) source).getMemberName())));
+    }
+
+    private Resource createResource(String uri, String name, Namespace root) {
+        Resource newResource = new ResourceImpl(URI.createURI(uri));
+        newResource.eAdapters().add(new ResourceMetadataAdapter(name));
+        newResource.getContents().add(root);
+        this.resourceSet.getResources().add(newResource);
+        return newResource;
+    }
+}
@@ -15,6 +15,7 @@ package org.eclipse.syson.sysml.export;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -183,6 +184,46 @@ public class SysMLElementSerializerTest {
                 }""", pack1);
     }
 
+    @Test
+    public void packageWithContentWrittenInAppendable() throws IOException {
+        Package pack1 = this.builder.createWithName(Package.class, PACKAGE1);
+
+        Package pack2 = this.builder.createInWithName(Package.class, pack1, PACKAGE_2);
+
+        this.builder.createInWithName(Package.class, pack2, "Package 3");
+        this.builder.createInWithName(Package.class, pack1, "Package 4");
+
+        StringBuilder appendable = new StringBuilder();
+        boolean written = new SysMLElementSerializer("\n", "    ", new NameDeresolver(), this.status::add).write(pack1, appendable);
+        assertTrue(written);
+        assertEquals("""
+                package Package1 {
+                    package 'Package 2' {
+                        package 'Package 3';
+                    }
+                    package 'Package 4';
+                }""", appendable.toString());
+        assertEquals(appendable.toString(), this.convertToText(pack1));
+    }
+
+    @Test
+    public void packageWithContentLookingLikeAnIndentedBody() {
+        Package pack1 = this.builder.createWithName(Package.class, PACKAGE1);
+
+        Package pack2 = this.builder.createInWithName(Package.class, pack1, PACKAGE_2);
+
+        this.builder.createIn(Comment.class, pack2).setBody("\uFDD00\uFDD1 and \uFDD01\uFDD1");
+        this.builder.createInWithName(Package.class, pack1, "Package 3");
+
+        this.assertTextualFormEquals("""
+                package Package1 {
+                    package 'Package 2' {
+                        /* \uFDD00\uFDD1 and \uFDD01\uFDD1 */
+                    }
+                    package 'Package 3';
+                }""", pack1);
+    }
+
     @Test
     public void packageWithContentWithRootNamespace() {
 
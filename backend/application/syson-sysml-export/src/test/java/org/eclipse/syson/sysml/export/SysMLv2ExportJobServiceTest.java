@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.export.ExportJob.ExportJobState;
+import org.eclipse.syson.sysml.export.dto.ExportJobStatus;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link SysMLv2ExportJobService}.
+ *
+ * @author agent
+ */
+public class SysMLv2ExportJobServiceTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private SysMLv2DocumentExporter documentExporter;
+
+    private SysMLv2ProjectExporter projectExporter;
+
+    private SysMLv2ExportJobService exportJobService;
+
+    private ResourceSet resourceSet;
+
+    private Resource resource;
+
+    private Package pkg;
+
+    @BeforeEach
+    public void setUp() {
+        this.documentExporter = new SysMLv2DocumentExporter();
+        this.projectExporter = new SysMLv2ProjectExporter(this.documentExporter, List.of(new SysMLv2EditingContextPersistenceFilter()));
+        this.exportJobService = new SysMLv2ExportJobService(this.documentExporter, this.projectExporter, 1, 4, Duration.ofMinutes(10));
+
+        Namespace root = this.builder.createRootNamespace();
+        this.pkg = this.builder.createInWithName(Package.class, root, "Package1");
+        this.builder.createInWithName(PartDefinition.class, this.pkg, "Engine");
+        this.resourceSet = new ResourceSetImpl();
+        this.resource = this.createResource("model", "Model.sysml", root);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.exportJobService.dispose();
+        this.projectExporter.dispose();
+    }
+
+    @Test
+    public void exportSnapshotInBackground() throws InterruptedException, IOException {
+        ExportJob job = this.exportJobService.submitDocument(this.resource, false);
+        // The model can be edited while the snapshot is exported
+        this.pkg.setDeclaredName("Renamed");
+        this.await(job);
+
+        assertEquals(ExportJobState.DONE, job.getState());
+        assertEquals("Model.sysml", job.getFileName());
+        assertTrue(job.getProgress().getProcessedElements() > 0);
+        assertTrue(job.getProfileReport().isEmpty());
+        String text = this.readAndDelete(this.exportJobService.fetch(job.getId()).orElseThrow());
+        assertTrue(text.startsWith("package Package1 {"));
+        assertTrue(text.contains("part def Engine;"));
+        assertTrue(this.exportJobService.getJob(job.getId()).isEmpty());
+    }
+
+    @Test
+    public void cancelJob() throws InterruptedException {
+        ExportJob job = this.exportJobService.submitDocument(this.resource, false);
+        assertTrue(this.exportJobService.cancel(job.getId()));
+        this.await(job);
+
+        assertEquals(ExportJobState.CANCELED, job.getState());
+        assertTrue(job.getResult().isEmpty());
+        assertTrue(this.exportJobService.getJob(job.getId()).isEmpty());
+    }
+
+    @Test
+    public void exportSameTextAsSynchronousExport() throws InterruptedException, IOException {
+        Namespace libraryRoot = this.builder.createRootNamespace();
+        Package library = this.builder.createInWithName(Package.class, libraryRoot, "Library");
+        PartDefinition part = this.builder.createInWithName(PartDefinition.class, library, "Part");
+        PartDefinition wheel = this.builder.createInWithName(PartDefinition.class, library, "Wheel");
+        this.createResource("library", "Library.sysml", libraryRoot);
+
+        this.builder.createIn(NamespaceImport.class, this.pkg).setImportedNamespace(library);
+        Membership alias = this.builder.createIn(Membership.class, this.pkg);
+        alias.setMemberName("W");
+        alias.setMemberElement(wheel);
+        PartDefinition car = this.builder.createInWithName(PartDefinition.class, this.pkg, "Car");
+        this.builder.addSubclassification(car, part);
+        PartDefinition sportWheel = this.builder.createInWithName(PartDefinition.class, this.pkg, "SportWheel");
+        this.builder.addSubclassification(sportWheel, wheel);
+
+        String expected = new String(this.documentExporter.getBytes(this.resource, "text/html").orElseThrow(), StandardCharsets.UTF_8);
+        ExportJob job = this.exportJobService.submitDocument(this.resource, false);
+        this.await(job);
+
+        assertEquals(ExportJobState.DONE, job.getState());
+        assertTrue(expected.contains("part def Car"));
+        assertEquals(expected, this.readAndDelete(this.exportJobService.fetch(job.getId()).orElseThrow()));
+    }
+
+    @Test
+    public void evictExpiredJobs() throws InterruptedException {
+        this.exportJobService.dispose();
+        this.exportJobService = new SysMLv2ExportJobService(this.documentExporter, this.projectExporter, 1, 4, Duration.ZERO);
+        ExportJob job = this.exportJobService.submitDocument(this.resource, false);
+        this.await(job);
+        Thread.sleep(10);
+
+        assertEquals(ExportJobState.DONE, job.getState());
+        Path file = job.getResult().orElseThrow();
+        assertTrue(this.exportJobService.getJob(job.getId()).isEmpty());
+        assertTrue(this.exportJobService.fetch(job.getId()).isEmpty());
+        // The result of an evicted job is deleted
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void keepProfileReportWithResult() throws InterruptedException, IOException {
+        ExportJob job = this.exportJobService.submitDocument(this.resource, true);
+        this.await(job);
+
+        assertEquals(ExportJobState.DONE, job.getState());
+        String profileReport = ExportJobStatus.of(job).profileReport();
+        assertTrue(profileReport.contains("PartDefinition"));
+        assertTrue(profileReport.contains("Deresolved names"));
+        this.readAndDelete(this.exportJobService.fetch(job.getId()).orElseThrow());
+    }
+
+    @Test
+    public void deleteResultOfCanceledJob() throws InterruptedException {
+        ExportJob job = this.exportJobService.submitDocument(this.resource, false);
+        this.await(job);
+        Path file = job.getResult().orElseThrow();
+        assertTrue(Files.exists(file));
+
+        assertTrue(this.exportJobService.cancel(job.getId()));
+        assertFalse(Files.exists(file));
+    }
+
+    private Resource createResource(String path, String name, Namespace root) {
+        Resource newResource = new ResourceImpl(URI.createURI("syson:///" + path));
+        newResource.eAdapters().add(new ResourceMetadataAdapter(name));
+        newResource.getContents().add(root);
+        this.resourceSet.getResources().add(newResource);
+        return newResource;
+    }
+
+    private String readAndDelete(Path file) throws IOException {
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        Files.delete(file);
+        return content;
+    }
+
+    private void await(ExportJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (this.isRunning(job) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private boolean isRunning(ExportJob job) {
+        return job.getState() == ExportJobState.PENDING || job.getState() == ExportJobState.RUNNING;
+    }
+}
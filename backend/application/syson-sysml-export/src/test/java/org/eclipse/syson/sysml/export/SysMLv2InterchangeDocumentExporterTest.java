@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link SysMLv2InterchangeDocumentExporter}.
+ *
+ * @author agent
+ */
+public class SysMLv2InterchangeDocumentExporterTest {
+
+    private static final String ID = "@id";
+
+    @Test
+    public void writeOneElementPerLine() throws IOException {
+        ModelBuilder builder = new ModelBuilder();
+        var root = builder.createRootNamespace();
+        PartDefinition definition = builder.createInWithName(PartDefinition.class, root, "Engine");
+        PartUsage usage = builder.createInWithName(PartUsage.class, root, "engine");
+        builder.setType(usage, definition);
+        Resource resource = new ResourceImpl(URI.createURI("syson:///model"));
+        resource.getContents().add(root);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int count = new SysMLv2InterchangeDocumentExporter().write(resource, outputStream);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertEquals(count, lines.size());
+        assertEquals("Namespace", lines.get(0).get("@type").asText());
+        assertFalse(lines.get(0).has("@owner"));
+
+        JsonNode definitionNode = lines.get(2);
+        assertEquals(definition.getElementId(), definitionNode.get(ID).asText());
+        assertEquals("PartDefinition", definitionNode.get("@type").asText());
+        assertEquals(definition.getOwningRelationship().getElementId(), definitionNode.get("@owner").asText());
+        assertEquals("ownedRelatedElement", definitionNode.get("@ownerFeature").asText());
+        assertEquals("Engine", definitionNode.get("declaredName").asText());
+
+        JsonNode typingNode = lines.get(lines.size() - 1);
+        assertEquals("FeatureTyping", typingNode.get("@type").asText());
+        assertEquals(definition.getElementId(), typingNode.get("type").get(ID).asText());
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.export.utils.ExportOptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link SysMLv2ProjectExporter}.
+ *
+ * @author agent
+ */
+public class SysMLv2ProjectExporterTest {
+
+    @Test
+    public void exportProjectInArchive() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Package package1 = this.createResource(resourceSet, "syson:///first", "Model.sysml", "Package1");
+        this.createResource(resourceSet, "syson:///second", "Model.sysml", "Package2");
+        this.createResource(resourceSet, "sysmllibrary:///library", "Library", "Library");
+
+        SysMLv2ProjectExporter exporter = new SysMLv2ProjectExporter(new SysMLv2DocumentExporter(), List.of(new SysMLv2EditingContextPersistenceFilter()));
+        ExportSnapshot snapshot = exporter.snapshot(resourceSet);
+        // The project can be edited once its snapshot has been created
+        package1.setDeclaredName("Renamed");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int exportedResources = exporter.export(snapshot, ExportOptions.newExportOptions().build(), outputStream);
+
+        assertEquals(2, exportedResources);
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry = zipInputStream.getNextEntry();
+            while (entry != null) {
+                entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+                entry = zipInputStream.getNextEntry();
+            }
+        }
+        assertEquals(List.of("Model.sysml", "Model-1.sysml"), List.copyOf(entries.keySet()));
+        assertEquals("package Package1;", entries.get("Model.sysml"));
+        assertEquals("package Package2;", entries.get("Model-1.sysml"));
+    }
+
+    private Package createResource(ResourceSet resourceSet, String uri, String name, String packageName) {
+        Resource resource = new ResourceImpl(URI.createURI(uri));
+        resource.eAdapters().add(new ResourceMetadataAdapter(name));
+        resourceSet.getResources().add(resource);
+
+        Namespace rootNamespace = SysmlFactory.eINSTANCE.createNamespace();
+        OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+        Package pkg = SysmlFactory.eINSTANCE.createPackage();
+        pkg.setDeclaredName(packageName);
+        membership.getOwnedRelatedElement().add(pkg);
+        rootNamespace.getOwnedRelationship().add(membership);
+        resource.getContents().add(rootNamespace);
+        return pkg;
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.export.utils.ExportProfile.EClassProfile;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ExportProfile}.
+ *
+ * @author agent
+ */
+public class ExportProfileTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    @Test
+    public void recordSerializedElements() {
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        PartDefinition a = this.builder.createInWithName(PartDefinition.class, p1, "A");
+        Package p2 = this.builder.createInWithName(Package.class, root, "P2");
+        PartDefinition b = this.builder.createInWithName(PartDefinition.class, p2, "B");
+        this.builder.addSubclassification(b, a);
+
+        ExportProfile profile = new ExportProfile();
+        NameDeresolver nameDeresolver = new NameDeresolver();
+        String text = new SysMLElementSerializer("\n", "\t", ExportOptions.newExportOptions().nameDeresolver(nameDeresolver).profile(profile).build(), null).doSwitch(root);
+        profile.recordDeresolutions(nameDeresolver);
+
+        assertTrue(text.contains("part def B :> P1::A"));
+        Map<String, EClassProfile> eClassProfiles = profile.getEClassProfiles().stream()
+                .collect(Collectors.toMap(EClassProfile::eClassName, Function.identity()));
+        assertEquals(2, eClassProfiles.get("Package").count());
+        assertEquals(2, eClassProfiles.get("PartDefinition").count());
+        assertEquals(1, eClassProfiles.get("Namespace").count());
+        assertEquals(0, profile.getQualifiedNameFallbacks());
+        assertTrue(profile.getReport().contains("PartDefinition"));
+    }
+
+    @Test
+    public void recordQualifiedNameFallbacks() {
+        Namespace otherRoot = this.builder.createRootNamespace();
+        Package other = this.builder.createInWithName(Package.class, otherRoot, "Other");
+        PartDefinition a = this.builder.createInWithName(PartDefinition.class, other, "A");
+
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        PartDefinition b = this.builder.createInWithName(PartDefinition.class, p1, "B");
+        this.builder.addSubclassification(b, a);
+
+        ExportProfile profile = new ExportProfile();
+        NameDeresolver nameDeresolver = new NameDeresolver();
+        String text = new SysMLElementSerializer("\n", "\t", ExportOptions.newExportOptions().nameDeresolver(nameDeresolver).profile(profile).build(), null).doSwitch(root);
+        profile.recordDeresolutions(nameDeresolver);
+
+        // A is neither owned nor imported by a namespace of B: only its full qualified name can be written
+        assertTrue(text.contains("part def B :> Other::A"));
+        assertEquals(1, profile.getQualifiedNameFallbacks());
+        assertTrue(profile.getReport().contains(", 1 references written with their full qualified name"));
+    }
+
+    @Test
+    public void recordCachedQualifiedNameFallbacks() {
+        Namespace otherRoot = this.builder.createRootNamespace();
+        Package other = this.builder.createInWithName(Package.class, otherRoot, "Other");
+        PartDefinition a = this.builder.createInWithName(PartDefinition.class, other, "A");
+
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        PartDefinition b = this.builder.createInWithName(PartDefinition.class, p1, "B");
+        this.builder.addSubclassification(b, a);
+        this.builder.addSubclassification(b, a);
+
+        ExportProfile profile = new ExportProfile();
+        NameDeresolver nameDeresolver = new NameDeresolver();
+        String text = new SysMLElementSerializer("\n", "\t", ExportOptions.newExportOptions().nameDeresolver(nameDeresolver).profile(profile).build(), null).doSwitch(root);
+        profile.recordDeresolutions(nameDeresolver);
+
+        // The second reference reuses the cached name but is still written with the full qualified name of A
+        assertTrue(text.contains("part def B :> Other::A, Other::A"));
+        assertEquals(1, profile.getDeresolutionCacheHits());
+        assertEquals(2, profile.getQualifiedNameFallbacks());
+    }
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link IncrementalExportCache}.
+ *
+ * @author agent
+ */
+public class IncrementalExportCacheTest {
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final String INDENTATION = "\t";
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    @Test
+    public void invalidateModifiedAndDependentElements() {
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        PartDefinition a = this.builder.createInWithName(PartDefinition.class, p1, "A");
+        Package p2 = this.builder.createInWithName(Package.class, root, "P2");
+        PartDefinition b = this.builder.createInWithName(PartDefinition.class, p2, "B");
+        this.builder.addSubclassification(b, a);
+        Package p3 = this.builder.createInWithName(Package.class, root, "P3");
+        this.builder.createInWithName(PartDefinition.class, p3, "C");
+
+        ResourceSet resourceSet = this.createResourceSet(root);
+        IncrementalExportCache exportCache = IncrementalExportCache.getOrInstall(resourceSet);
+
+        assertEquals(this.serialize(root, null), this.serialize(root, exportCache));
+        assertTrue(this.isCached(exportCache, p1));
+        assertTrue(this.isCached(exportCache, p2));
+        assertTrue(this.isCached(exportCache, p3));
+
+        a.setDeclaredName("A2");
+        assertFalse(this.isCached(exportCache, p1));
+        assertFalse(this.isCached(exportCache, p2));
+        assertTrue(this.isCached(exportCache, p3));
+
+        String expected = this.serialize(root, null);
+        assertTrue(expected.contains("part def B :> P1::A2"));
+        assertEquals(expected, this.serialize(root, exportCache));
+        assertEquals(expected, this.serialize(root, exportCache));
+
+        resourceSet.eAdapters().remove(exportCache);
+        assertFalse(this.isCached(exportCache, p3));
+    }
+
+    @Test
+    public void cacheTextWrittenInDestination() {
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        Package p11 = this.builder.createInWithName(Package.class, p1, "P11");
+        this.builder.createInWithName(PartDefinition.class, p11, "A");
+        this.builder.createInWithName(PartDefinition.class, p1, "B");
+
+        ResourceSet resourceSet = this.createResourceSet(root);
+        IncrementalExportCache exportCache = IncrementalExportCache.getOrInstall(resourceSet);
+        this.serialize(root, exportCache);
+
+        // The body of a top-level element is copied in the cache while it is written, indented like the element alone
+        assertEquals(this.serialize(p1, null), exportCache.get(p1, LINE_SEPARATOR, INDENTATION).orElseThrow().text());
+    }
+
+    @Test
+    public void invalidateElementsShadowedInImportedNamespace() {
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        PartDefinition a = this.builder.createInWithName(PartDefinition.class, p1, "A");
+        Package p2 = this.builder.createInWithName(Package.class, root, "P2");
+        this.builder.createIn(NamespaceImport.class, p2).setImportedNamespace(p1);
+        Package p3 = this.builder.createInWithName(Package.class, root, "P3");
+        this.builder.createIn(NamespaceImport.class, p3).setImportedNamespace(p2);
+        PartDefinition b = this.builder.createInWithName(PartDefinition.class, p3, "B");
+        this.builder.addSubclassification(b, a);
+
+        IncrementalExportCache exportCache = IncrementalExportCache.getOrInstall(this.createResourceSet(root));
+        assertEquals(this.serialize(root, null), this.serialize(root, exportCache));
+        assertTrue(this.isCached(exportCache, p3));
+
+        // A in P2 shadows the A imported from P1 in P3
+        this.builder.createInWithName(PartDefinition.class, p2, "A");
+        assertTrue(this.isCached(exportCache, p1));
+        assertFalse(this.isCached(exportCache, p3));
+        assertEquals(this.serialize(root, null), this.serialize(root, exportCache));
+    }
+
+    @Test
+    public void forgetDeletedElements() {
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        Package p2 = this.builder.createInWithName(Package.class, root, "P2");
+        this.builder.createInWithName(PartDefinition.class, p2, "B");
+
+        IncrementalExportCache exportCache = IncrementalExportCache.getOrInstall(this.createResourceSet(root));
+        this.serialize(root, exportCache);
+        assertTrue(this.isCached(exportCache, p2));
+
+        Relationship membership = (Relationship) p2.eContainer();
+        root.getOwnedRelationship().remove(membership);
+        assertFalse(this.isCached(exportCache, p1));
+
+        // Adding the deleted element again does not reuse its textual representation
+        root.getOwnedRelationship().add(membership);
+        assertFalse(this.isCached(exportCache, p2));
+        assertEquals(this.serialize(root, null), this.serialize(root, exportCache));
+    }
+
+    @Test
+    public void reportCachedElementsToProgress() {
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+        this.builder.createInWithName(PartDefinition.class, p1, "A");
+        this.builder.createInWithName(PartDefinition.class, p1, "B");
+
+        IncrementalExportCache exportCache = IncrementalExportCache.getOrInstall(this.createResourceSet(root));
+        ExportProgress firstExport = new ExportProgress(-1);
+        this.serialize(root, ExportOptions.newExportOptions().exportCache(exportCache).progress(firstExport));
+        assertTrue(this.isCached(exportCache, p1));
+
+        ExportProgress secondExport = new ExportProgress(-1);
+        this.serialize(root, ExportOptions.newExportOptions().exportCache(exportCache).progress(secondExport));
+        assertEquals(firstExport.getProcessedElements(), secondExport.getProcessedElements());
+    }
+
+    @Test
+    public void ignoreElementsWithoutId() {
+        Namespace root = this.builder.createRootNamespace();
+        Package p1 = this.builder.createInWithName(Package.class, root, "P1");
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl(URI.createURI("syson:///model"));
+        resource.getContents().add(root);
+        resourceSet.getResources().add(resource);
+        IncrementalExportCache exportCache = IncrementalExportCache.getOrInstall(resourceSet);
+
+        this.serialize(root, exportCache);
+        assertFalse(this.isCached(exportCache, p1));
+    }
+
+    /**
+     * Creates the resource set of a model whose elements are identified like in an editing context.
+     */
+    private ResourceSet createResourceSet(Namespace root) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl(URI.createURI("syson:///model"));
+        resource.getContents().add(root);
+        resourceSet.getResources().add(resource);
+        resource.getAllContents().forEachRemaining(element -> element.eAdapters().add(new IDAdapter(UUID.randomUUID())));
+        return resourceSet;
+    }
+
+    private boolean isCached(IncrementalExportCache exportCache, Element unit) {
+        return exportCache.get(unit, LINE_SEPARATOR, INDENTATION).isPresent();
+    }
+
+    private String serialize(Element element, IncrementalExportCache exportCache) {
+        ExportOptions.Builder exportOptions = ExportOptions.newExportOptions();
+        if (exportCache != null) {
+            exportOptions.exportCache(exportCache);
+        }
+        return this.serialize(element, exportOptions);
+    }
+
+    private String serialize(Element element, ExportOptions.Builder exportOptions) {
+        return new SysMLElementSerializer(LINE_SEPARATOR, INDENTATION, exportOptions.build(), null).doSwitch(element);
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link IndentedContentWriter}.
+ *
+ * @author agent
+ */
+public class IndentedContentWriterTest {
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final String INDENTATION = "\t";
+
+    @Test
+    public void copyContentRelativelyToTeeLevel() throws IOException {
+        StringBuilder sink = new StringBuilder();
+        IndentedContentWriter contentWriter = new IndentedContentWriter(sink, LINE_SEPARATOR, INDENTATION);
+        contentWriter.append("package P {");
+        contentWriter.indent();
+        contentWriter.newLine().append("package Q");
+
+        StringBuilder buffer = new StringBuilder("package Q");
+        contentWriter.startTee(buffer, Integer.MAX_VALUE);
+        contentWriter.append(" {");
+        contentWriter.indent();
+        contentWriter.newLine().append("part def A;\npart def B;");
+        contentWriter.unindent();
+        contentWriter.newLine().append('}');
+        assertTrue(contentWriter.stopTee());
+        contentWriter.unindent();
+        contentWriter.newLine().append("}");
+
+        assertEquals("package P {\n\tpackage Q {\n\t\tpart def A;\n\t\tpart def B;\n\t}\n}", sink.toString());
+        assertEquals("package Q {\n\tpart def A;\n\tpart def B;\n}", buffer.toString());
+    }
+
+    @Test
+    public void abandonTooLongCopy() throws IOException {
+        StringBuilder sink = new StringBuilder();
+        IndentedContentWriter contentWriter = new IndentedContentWriter(sink, LINE_SEPARATOR, INDENTATION);
+        StringBuilder buffer = new StringBuilder();
+        contentWriter.startTee(buffer, 4);
+        contentWriter.append("part def A;");
+
+        assertFalse(contentWriter.stopTee());
+        assertEquals("", buffer.toString());
+        assertEquals("part def A;", sink.toString());
+    }
+}
@@ -137,6 +137,30 @@ public class NameDeresolverTest {
         assertEquals("Lib2::mass", getDerolvedName(massAttr, p3x1Mass));
     }
 
+    @Test
+    @DisplayName("Check that a NameDeresolver can be shared by several contexts")
+    public void sharedDeresolver() {
+        Package lib = builder.createWithName(Package.class, "Lib");
+        PartDefinition massAttr = builder.createInWithName(PartDefinition.class, lib, "mass");
+
+        Package root = builder.createWithName(Package.class, "Root");
+        builder.createIn(NamespaceImport.class, root).setImportedNamespace(lib);
+
+        Package p1 = builder.createInWithName(Package.class, root, P1);
+        PartDefinition p1Mass = builder.createInWithName(PartDefinition.class, p1, "mass");
+        builder.addSubclassification(p1Mass, massAttr);
+
+        Package p2 = builder.createInWithName(Package.class, root, P2);
+        PartDefinition p2Mass = builder.createInWithName(PartDefinition.class, p2, "mass2");
+        builder.addSubclassification(p2Mass, massAttr);
+
+        NameDeresolver nameDeresolver = new NameDeresolver();
+        for (int i = 0; i < 2; i++) {
+            assertEquals("Lib::mass", nameDeresolver.getDeresolvedName(massAttr, p1Mass));
+            assertEquals("mass", nameDeresolver.getDeresolvedName(massAttr, p2Mass));
+        }
+    }
+
     @Test
     public void deresolutionWithNameEscaping() {
         /**
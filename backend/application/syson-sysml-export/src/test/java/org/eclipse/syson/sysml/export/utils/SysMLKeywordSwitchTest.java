@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.syson.sysml.ActorMembership;
+import org.eclipse.syson.sysml.AssertConstraintUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.ReferenceUsage;
+import org.eclipse.syson.sysml.SubjectMembership;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SysMLKeywordSwitch}, checking that the keywords computed once per EClass do not leak to the
+ * elements whose keyword depends on the element itself.
+ *
+ * @author agent
+ */
+public class SysMLKeywordSwitchTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private final SysMLKeywordSwitch keywordSwitch = new SysMLKeywordSwitch();
+
+    @Test
+    public void actorAndPartUsages() {
+        PartUsage actor = this.createIn(PartUsage.class, this.builder.create(ActorMembership.class));
+        PartUsage part = this.createIn(PartUsage.class, this.builder.create(OwningMembership.class));
+
+        assertEquals("actor", this.keywordSwitch.doSwitch(actor));
+        assertEquals("part", this.keywordSwitch.doSwitch(part));
+        assertEquals("actor", this.keywordSwitch.doSwitch(actor));
+    }
+
+    @Test
+    public void subjectAndReferenceUsages() {
+        ReferenceUsage subject = this.createIn(ReferenceUsage.class, this.builder.create(SubjectMembership.class));
+        ReferenceUsage reference = this.createIn(ReferenceUsage.class, this.builder.create(OwningMembership.class));
+
+        assertEquals("subject", this.keywordSwitch.doSwitch(subject));
+        assertEquals("", this.keywordSwitch.doSwitch(reference));
+        assertEquals("subject", this.keywordSwitch.doSwitch(subject));
+    }
+
+    @Test
+    public void negatedAndAssertConstraintUsages() {
+        AssertConstraintUsage negatedAssert = this.builder.create(AssertConstraintUsage.class);
+        negatedAssert.setIsNegated(true);
+        AssertConstraintUsage assertUsage = this.builder.create(AssertConstraintUsage.class);
+
+        assertEquals("assert not", this.keywordSwitch.doSwitch(negatedAssert));
+        assertEquals("assert", this.keywordSwitch.doSwitch(assertUsage));
+        assertEquals("assert not", this.keywordSwitch.doSwitch(negatedAssert));
+    }
+
+    @Test
+    public void constantKeyword() {
+        assertEquals("part", this.keywordSwitch.doSwitch(this.builder.create(PartDefinition.class)));
+        assertEquals("part", this.keywordSwitch.doSwitch(this.builder.create(PartDefinition.class)));
+    }
+
+    private <T extends Element> T createIn(Class<T> type, OwningMembership membership) {
+        T element = this.builder.create(type);
+        membership.getOwnedRelatedElement().add(element);
+        return element;
+    }
+}
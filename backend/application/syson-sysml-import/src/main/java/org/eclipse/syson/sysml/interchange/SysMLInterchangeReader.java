@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.interchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the elements written in the line-delimited JSON interchange format of the SysMLv2 interchange exporter.
+ *
+ * <p>
+ * Each line is the JSON object of one element, holding its element ID in <code>@id</code>, the name of its EClass in
+ * <code>@type</code> and, for a contained element, the element ID of its container in <code>@owner</code> and the name
+ * of the containment feature in <code>@ownerFeature</code>. The containers are written before the elements they
+ * contain, so the containment tree is built in a single pass with the streaming parser of Jackson. Only the JSON object
+ * of the element being read is held in memory, as a tree, so that its properties can be written in any order. The
+ * references are set once all the elements have been read, the targets which are not part of the read elements (e.g.
+ * the elements of the standard libraries) being looked up by element ID in the resource set.
+ * </p>
+ *
+ * <p>
+ * The read elements keep the element IDs of the stream, unless an element of the resource set or a previously read
+ * element already has the same element ID, e.g. when a model is imported again in the project from which it has been
+ * exported. Such an element keeps the new element ID given by the factory, and the references to its element ID in the
+ * stream are resolved to it.
+ * </p>
+ *
+ * @author agent
+ */
+public class SysMLInterchangeReader {
+
+    private static final String ID = "@id";
+
+    private static final String TYPE = "@type";
+
+    private static final String OWNER = "@owner";
+
+    private static final String OWNER_FEATURE = "@ownerFeature";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SysMLInterchangeReader.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Reads the elements of the given stream.
+     *
+     * @param inputStream
+     *            the stream containing one JSON object per element, which is not closed
+     * @param resourceSet
+     *            the resource set in which the referenced elements which are not part of the stream are looked up, and
+     *            whose element IDs are not reused
+     * @return the root elements, which are not added to any resource
+     * @throws IOException
+     *             if the stream cannot be read or is not valid JSON
+     */
+    public List<EObject> read(InputStream inputStream, ResourceSet resourceSet) throws IOException {
+        ReadContext context = new ReadContext(new HashMap<>(), this.getExistingElements(resourceSet), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonToken token = parser.nextToken();
+            while (token != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    this.readElement(this.objectMapper.readTree(parser), context);
+                } else {
+                    parser.skipChildren();
+                }
+                token = parser.nextToken();
+            }
+        }
+        this.resolveReferences(context);
+        if (!context.remappedIds().isEmpty()) {
+            LOGGER.warn("{} elements have been given a new element ID, their element ID being already used in the project", context.remappedIds().size());
+        }
+        LOGGER.debug("{} elements read", context.elements().size());
+        return context.roots();
+    }
+
+    private void readElement(JsonNode node, ReadContext context) {
+        String id = this.getText(node, ID);
+        Element element = this.createElement(this.getText(node, TYPE));
+        if (element != null) {
+            if (id != null && (context.existingElements().containsKey(id) || context.elements().containsKey(id))) {
+                context.remappedIds().add(id);
+            } else if (id != null) {
+                element.setElementId(id);
+            }
+            if (id != null) {
+                context.elements().put(id, element);
+            }
+            String ownerId = this.getText(node, OWNER);
+            if (ownerId == null) {
+                context.roots().add(element);
+            } else {
+                this.addToOwner(element, context.elements().get(ownerId), this.getText(node, OWNER_FEATURE));
+            }
+            Iterator<Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Entry<String, JsonNode> field = fields.next();
+                EStructuralFeature feature = element.eClass().getEStructuralFeature(field.getKey());
+                if (feature != null) {
+                    this.readFeature(field.getValue(), element, feature, context);
+                }
+            }
+        } else {
+            LOGGER.warn("Unable to read the element {}", id);
+        }
+    }
+
+    private String getText(JsonNode node, String fieldName) {
+        String text = null;
+        JsonNode value = node.get(fieldName);
+        if (value != null && value.isValueNode() && !value.isNull()) {
+            text = value.asText();
+        }
+        return text;
+    }
+
+    /**
+     * Creates an element of the given EClass, with a new element ID.
+     */
+    private Element createElement(String type) {
+        Element element = null;
+        if (SysmlPackage.eINSTANCE.getEClassifier(type) instanceof EClass eClass && !eClass.isAbstract() && SysmlFactory.eINSTANCE.create(eClass) instanceof Element newElement) {
+            element = newElement;
+        }
+        return element;
+    }
+
+    private void addToOwner(Element element, Element owner, String featureName) {
+        if (element != null && owner != null && owner.eClass().getEStructuralFeature(featureName) instanceof EReference containment && containment.isContainment()) {
+            if (containment.isMany()) {
+                ((List<EObject>) owner.eGet(containment)).add(element);
+            } else {
+                owner.eSet(containment, element);
+            }
+        } else if (element != null) {
+            LOGGER.warn("Unable to add the element {} to its owner", element.getElementId());
+        }
+    }
+
+    private void readFeature(JsonNode value, Element element, EStructuralFeature feature, ReadContext context) {
+        List<Object> values = new ArrayList<>();
+        if (value.isArray()) {
+            value.forEach(item -> this.readValue(item, feature, values));
+        } else {
+            this.readValue(value, feature, values);
+        }
+        if (feature instanceof EReference reference) {
+            context.pendingReferences().add(new PendingReference(element, reference, values));
+        } else if (feature.isMany()) {
+            ((List<Object>) element.eGet(feature)).addAll(values);
+        } else if (!values.isEmpty()) {
+            element.eSet(feature, values.get(0));
+        }
+    }
+
+    /**
+     * Reads an attribute value, or the element ID of the target of a reference.
+     */
+    private void readValue(JsonNode value, EStructuralFeature feature, List<Object> values) {
+        if (feature instanceof EAttribute attribute && value.isValueNode() && !value.isNull()) {
+            values.add(EcoreUtil.createFromString(attribute.getEAttributeType(), value.asText()));
+        } else if (feature instanceof EReference && value.isObject()) {
+            String targetId = this.getText(value, ID);
+            if (targetId != null) {
+                values.add(targetId);
+            }
+        }
+    }
+
+    private void resolveReferences(ReadContext context) {
+        int unresolvedReferences = 0;
+        for (PendingReference pendingReference : context.pendingReferences()) {
+            List<EObject> targets = new ArrayList<>();
+            for (Object targetId : pendingReference.targetIds()) {
+                Element target = context.elements().get(targetId);
+                if (target == null) {
+                    target = context.existingElements().get(targetId);
+                }
+                if (target != null) {
+                    targets.add(target);
+                } else {
+                    unresolvedReferences++;
+                }
+            }
+            if (pendingReference.reference().isMany()) {
+                ((List<EObject>) pendingReference.source().eGet(pendingReference.reference())).addAll(targets);
+            } else if (!targets.isEmpty()) {
+                pendingReference.source().eSet(pendingReference.reference(), targets.get(0));
+            }
+        }
+        if (unresolvedReferences > 0) {
+            LOGGER.warn("{} references could not be resolved", unresolvedReferences);
+        }
+    }
+
+    /**
+     * Returns the elements of the resource set by element ID, used to detect the element IDs already in use and to
+     * resolve the references to elements which are not part of the stream.
+     */
+    private Map<String, Element> getExistingElements(ResourceSet resourceSet) {
+        Map<String, Element> existingElements = new HashMap<>();
+        if (resourceSet != null) {
+            for (Resource resource : resourceSet.getResources()) {
+                TreeIterator<EObject> allContents = resource.getAllContents();
+                while (allContents.hasNext()) {
+                    if (allContents.next() instanceof Element element && element.getElementId() != null) {
+                        existingElements.putIfAbsent(element.getElementId(), element);
+                    }
+                }
+            }
+        }
+        return existingElements;
+    }
+
+    /**
+     * The state of a read.
+     *
+     * @param elements
+     *            the elements read so far, by their element ID in the stream
+     * @param existingElements
+     *            the elements of the resource set, by element ID
+     * @param remappedIds
+     *            the element IDs of the stream which were already in use, and have been replaced by new element IDs
+     * @param roots
+     *            the root elements read so far
+     * @param pendingReferences
+     *            the references to set once all the elements have been read
+     * @author agent
+     */
+    private record ReadContext(Map<String, Element> elements, Map<String, Element> existingElements, List<String> remappedIds, List<EObject> roots, List<PendingReference> pendingReferences) {
+        ReadContext {
+            Objects.requireNonNull(elements);
+            Objects.requireNonNull(existingElements);
+            Objects.requireNonNull(remappedIds);
+            Objects.requireNonNull(roots);
+            Objects.requireNonNull(pendingReferences);
+        }
+    }
+
+    /**
+     * A reference to set once all the elements have been read.
+     *
+     * @param source
+     *            the element holding the reference
+     * @param reference
+     *            the reference
+     * @param targetIds
+     *            the element IDs of the targets
+     * @author agent
+     */
+    private record PendingReference(Element source, EReference reference, List<Object> targetIds) {
+        PendingReference {
+            Objects.requireNonNull(source);
+            Objects.requireNonNull(reference);
+            Objects.requireNonNull(targetIds);
+        }
+    }
+}
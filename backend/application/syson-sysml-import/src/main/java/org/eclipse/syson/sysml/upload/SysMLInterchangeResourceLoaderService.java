@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.upload;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.web.application.document.services.api.IExternalResourceLoaderService;
+import org.eclipse.syson.sysml.interchange.SysMLInterchangeReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Specific {@link IExternalResourceLoaderService} allowing to load SysML resources written in the line-delimited JSON
+ * interchange format, without converting them to an AST first.
+ *
+ * @author agent
+ */
+@Service
+public class SysMLInterchangeResourceLoaderService implements IExternalResourceLoaderService {
+
+    private static final String NDJSON_EXTENSION = ".ndjson";
+
+    private final Logger logger = LoggerFactory.getLogger(SysMLInterchangeResourceLoaderService.class);
+
+    private final SysMLInterchangeReader interchangeReader = new SysMLInterchangeReader();
+
+    @Override
+    public boolean canHandle(InputStream inputStream, URI resourceURI, ResourceSet resourceSet) {
+        return resourceURI != null && resourceURI.toString().endsWith(NDJSON_EXTENSION);
+    }
+
+    @Override
+    public Optional<Resource> getResource(InputStream inputStream, URI resourceURI, ResourceSet resourceSet) {
+        Resource resource = null;
+        try {
+            List<EObject> roots = this.interchangeReader.read(new BufferedInputStream(inputStream), resourceSet);
+            resource = new JSONResourceFactory().createResource(new JSONResourceFactory().createResourceURI(null));
+            resource.getContents().addAll(roots);
+            resourceSet.getResources().add(resource);
+        } catch (IOException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return Optional.ofNullable(resource);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.VisibilityKind;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of SysMLInterchangeReader class.
+ *
+ * @author agent
+ */
+public class SysMLInterchangeReaderTest {
+
+    @Test
+    void readElementsAndReferences() throws IOException {
+        String content = """
+                {"@id":"root","@type":"Namespace"}
+                {"@id":"m1","@type":"OwningMembership","@owner":"root","@ownerFeature":"ownedRelationship","visibility":"private"}
+                {"@id":"def","@type":"PartDefinition","@owner":"m1","@ownerFeature":"ownedRelatedElement","declaredName":"Engine","isAbstract":true}
+                {"@id":"m2","@type":"OwningMembership","@owner":"root","@ownerFeature":"ownedRelationship"}
+                {"@id":"usage","@type":"PartUsage","@owner":"m2","@ownerFeature":"ownedRelatedElement","declaredName":"engine"}
+                {"@id":"typing","@type":"FeatureTyping","@owner":"usage","@ownerFeature":"ownedRelationship","type":{"@id":"def"},"typedFeature":{"@id":"usage"}}
+                """;
+
+        List<EObject> roots = new SysMLInterchangeReader().read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), new ResourceSetImpl());
+
+        assertEquals(1, roots.size());
+        Namespace root = assertInstanceOf(Namespace.class, roots.get(0));
+        assertEquals("root", root.getElementId());
+        assertEquals(2, root.getOwnedRelationship().size());
+        OwningMembership membership = assertInstanceOf(OwningMembership.class, root.getOwnedRelationship().get(0));
+        assertEquals(VisibilityKind.PRIVATE, membership.getVisibility());
+        PartDefinition definition = assertInstanceOf(PartDefinition.class, membership.getOwnedRelatedElement().get(0));
+        assertEquals("Engine", definition.getDeclaredName());
+        assertTrue(definition.isIsAbstract());
+        PartUsage usage = assertInstanceOf(PartUsage.class, root.getOwnedRelationship().get(1).getOwnedRelatedElement().get(0));
+        assertSame(definition, usage.getType().get(0));
+    }
+
+    @Test
+    void readPropertiesInAnyOrder() throws IOException {
+        String content = """
+                {"@type":"Namespace","@id":"root"}
+                {"visibility":"private","@ownerFeature":"ownedRelationship","@owner":"root","@type":"OwningMembership","@id":"m1"}
+                {"declaredName":"Engine","@ownerFeature":"ownedRelatedElement","@type":"PartDefinition","@owner":"m1","@id":"def"}
+                """;
+
+        List<EObject> roots = new SysMLInterchangeReader().read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), new ResourceSetImpl());
+
+        assertEquals(1, roots.size());
+        Namespace root = assertInstanceOf(Namespace.class, roots.get(0));
+        assertEquals("root", root.getElementId());
+        OwningMembership owningMembership = assertInstanceOf(OwningMembership.class, root.getOwnedRelationship().get(0));
+        assertEquals(VisibilityKind.PRIVATE, owningMembership.getVisibility());
+        PartDefinition definition = assertInstanceOf(PartDefinition.class, owningMembership.getOwnedRelatedElement().get(0));
+        assertEquals("def", definition.getElementId());
+        assertEquals("Engine", definition.getDeclaredName());
+    }
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.export.SysMLv2InterchangeDocumentExporter;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the elements written by {@link SysMLv2InterchangeDocumentExporter} are read back by
+ * {@link SysMLInterchangeReader}.
+ *
+ * @author agent
+ */
+public class SysMLInterchangeRoundTripTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    @Test
+    void exportAndImportModel() throws IOException {
+        Namespace libraryRoot = this.builder.createRootNamespace();
+        Package library = this.builder.createInWithName(Package.class, libraryRoot, "Library");
+        library.setElementId("library");
+        PartDefinition part = this.builder.createInWithName(PartDefinition.class, library, "Part");
+        part.setElementId("library-part");
+
+        Namespace root = this.builder.createRootNamespace();
+        Package vehicle = this.builder.createInWithName(Package.class, root, "Vehicle");
+        this.builder.createIn(NamespaceImport.class, vehicle).setImportedNamespace(library);
+        PartDefinition engineDefinition = this.builder.createInWithName(PartDefinition.class, vehicle, "Engine");
+        this.builder.addSubclassification(engineDefinition, part);
+        PartUsage engine = this.builder.createInWithName(PartUsage.class, vehicle, "engine");
+        this.builder.setType(engine, engineDefinition);
+
+        List<EObject> roots = this.exportAndImport(root.eResource());
+
+        assertEquals(1, roots.size());
+        Namespace importedRoot = assertInstanceOf(Namespace.class, roots.get(0));
+        Resource importedResource = new ResourceImpl(URI.createURI("syson:///imported"));
+        importedResource.getContents().add(importedRoot);
+        root.eResource().getResourceSet().getResources().add(importedResource);
+        String expected = new SysMLElementSerializer(null).doSwitch(root);
+        assertTrue(expected.contains("part def Engine"));
+        assertEquals(expected, new SysMLElementSerializer(null).doSwitch(importedRoot));
+    }
+
+    @Test
+    void exportAndImportReferenceToUnresolvedElement() throws IOException {
+        Namespace root = this.builder.createRootNamespace();
+        PartUsage engine = this.builder.createInWithName(PartUsage.class, root, "engine");
+        PartDefinition unresolvedDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        ((InternalEObject) unresolvedDefinition).eSetProxyURI(URI.createURI("syson:///missing#missing"));
+        this.builder.setType(engine, unresolvedDefinition);
+
+        List<EObject> roots = this.exportAndImport(root.eResource());
+
+        Namespace importedRoot = assertInstanceOf(Namespace.class, roots.get(0));
+        PartUsage importedEngine = assertInstanceOf(PartUsage.class, importedRoot.getOwnedRelationship().get(0).getOwnedRelatedElement().get(0));
+        FeatureTyping typing = assertInstanceOf(FeatureTyping.class, importedEngine.getOwnedRelationship().get(0));
+        assertNull(typing.getType());
+    }
+
+    @Test
+    void importAgainInSourceProject() throws IOException {
+        Namespace root = this.builder.createRootNamespace();
+        Package vehicle = this.builder.createInWithName(Package.class, root, "Vehicle");
+        PartDefinition engineDefinition = this.builder.createInWithName(PartDefinition.class, vehicle, "Engine");
+        PartUsage engine = this.builder.createInWithName(PartUsage.class, vehicle, "engine");
+        this.builder.setType(engine, engineDefinition);
+
+        List<EObject> roots = this.exportAndImport(root.eResource());
+        Namespace importedRoot = assertInstanceOf(Namespace.class, roots.get(0));
+        Resource importedResource = new ResourceImpl(URI.createURI("syson:///imported"));
+        importedResource.getContents().add(importedRoot);
+        root.eResource().getResourceSet().getResources().add(importedResource);
+
+        // The imported elements are given new element IDs, and the references between them target the imported copies
+        Set<String> elementIds = new HashSet<>();
+        TreeIterator<EObject> allContents = root.eResource().getAllContents();
+        while (allContents.hasNext()) {
+            if (allContents.next() instanceof Element element) {
+                elementIds.add(element.getElementId());
+            }
+        }
+        TreeIterator<EObject> importedContents = importedResource.getAllContents();
+        while (importedContents.hasNext()) {
+            if (importedContents.next() instanceof Element element) {
+                assertFalse(elementIds.contains(element.getElementId()));
+            }
+        }
+        Package importedVehicle = assertInstanceOf(Package.class, importedRoot.getOwnedRelationship().get(0).getOwnedRelatedElement().get(0));
+        PartUsage importedEngine = assertInstanceOf(PartUsage.class, importedVehicle.getOwnedMember().get(1));
+        assertSame(importedVehicle.getOwnedMember().get(0), importedEngine.getType().get(0));
+        assertSame(engineDefinition, engine.getType().get(0));
+    }
+
+    private List<EObject> exportAndImport(Resource resource) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new SysMLv2InterchangeDocumentExporter().write(resource, outputStream);
+        return new SysMLInterchangeReader().read(new ByteArrayInputStream(outputStream.toByteArray()), resource.getResourceSet());
+    }
+}
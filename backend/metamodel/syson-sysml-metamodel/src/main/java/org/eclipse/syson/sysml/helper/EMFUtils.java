@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Predicate;
@@ -75,17 +76,42 @@ public class EMFUtils {
      * @return a {@link Collection} of {@link Setting}
      */
     public static Collection<Setting> getInverse(EObject source, EReference targetingFeature) {
-        return source.eAdapters().stream()
-                .filter(ECrossReferenceAdapter.class::isInstance)
-                .map(ECrossReferenceAdapter.class::cast)
+        return getCrossReferenceAdapter(source)
                 .map(crossRef -> crossRef.getInverseReferences(source, targetingFeature, false))
-                .findFirst().orElseGet(() -> {
+                .orElseGet(() -> {
                     LOGGER.warn("Unable to find a ECrossReference on " + source);
                     return List.of();
                 });
 
     }
 
+    /**
+     * Gets the {@link ECrossReferenceAdapter} tracking the given element.
+     * <p>
+     * The adapter is searched on the element itself, and then on its resource since some cross referencers do not adapt
+     * the elements of resources which never change (e.g. standard libraries).
+     * </p>
+     *
+     * @param eObject
+     *            an {@link EObject}
+     * @return the {@link ECrossReferenceAdapter} if found
+     */
+    public static Optional<ECrossReferenceAdapter> getCrossReferenceAdapter(EObject eObject) {
+        Optional<ECrossReferenceAdapter> adapter = findCrossReferenceAdapter(eObject);
+        Resource resource = eObject.eResource();
+        if (adapter.isEmpty() && resource != null) {
+            adapter = findCrossReferenceAdapter(resource);
+        }
+        return adapter;
+    }
+
+    private static Optional<ECrossReferenceAdapter> findCrossReferenceAdapter(Notifier notifier) {
+        return notifier.eAdapters().stream()
+                .filter(ECrossReferenceAdapter.class::isInstance)
+                .map(ECrossReferenceAdapter.class::cast)
+                .findFirst();
+    }
+
     /**
      * Gets a stream composed from the object itself and all its content.
      *
@@ -14,7 +14,6 @@ package org.eclipse.syson.sysml.helper;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import org.apache.commons.text.StringEscapeUtils;
 
@@ -25,8 +24,6 @@ import org.apache.commons.text.StringEscapeUtils;
  */
 public class NameHelper {
 
-    private static java.util.regex.Pattern VALID_CHARS = Pattern.compile("[^a-zA-Z0-9_]");
-
     /**
      * Constructor
      */
@@ -90,9 +87,9 @@ public class NameHelper {
         String name;
         if (initialName == null || initialName.isEmpty()) {
             name = "";
-        } else if (VALID_CHARS.matcher(initialName).find() || !isLetterOrUnderscore(initialName.charAt(0))) {
+        } else if (!isBasicName(initialName)) {
             if (escapeSingleQuotes) {
-                name = '\'' + initialName.replaceAll("'", "\\\\'") + '\'';
+                name = '\'' + initialName.replace("'", "\\'") + '\'';
             } else {
                 name = '\'' + initialName + '\'';
             }
@@ -102,6 +99,19 @@ public class NameHelper {
         return name;
     }
 
+    /**
+     * Indicates if the given name is a basic name, which can be printed without quotes: it starts with a letter or an
+     * underscore, followed by letters, digits or underscores. The characters are scanned once, without any allocation.
+     */
+    private static boolean isBasicName(String name) {
+        boolean isBasicName = isLetterOrUnderscore(name.charAt(0));
+        for (int i = 1; i < name.length() && isBasicName; i++) {
+            char c = name.charAt(i);
+            isBasicName = isLetterOrUnderscore(c) || (c >= '0' && c <= '9');
+        }
+        return isBasicName;
+    }
+
     private static boolean isLetterOrUnderscore(char c) {
         return c == '_' || isLowerCaseLetter(c) || isUpperCaseLetter(c);
     }
@@ -48,6 +48,16 @@ public class ElementUtil {
      */
     public static final String SYSML_LIBRARY_BASE_URI = "https://www.omg.org/spec/SysML/";
 
+    /**
+     * The URI scheme of the resources containing the KerML standard libraries.
+     */
+    public static final String KERML_LIBRARY_SCHEME = "kermllibrary";
+
+    /**
+     * The URI scheme of the resources containing the SysML standard libraries.
+     */
+    public static final String SYSML_LIBRARY_SCHEME = "sysmllibrary";
+
     /**
      * Check if the given {@link Element} comes from a library (i.e. a {@link LibraryPackage}) or not.
      * 
@@ -87,6 +97,22 @@ public class ElementUtil {
         return isFromLibrary(element, true);
     }
 
+    /**
+     * Check if the given {@link Resource} contains a KerML or SysML standard library, based on the scheme of its URI.
+     * 
+     * @param resource
+     *            the given {@link Resource}, may be <code>null</code>.
+     * @return <code>true</code> if the given resource contains a standard library, <code>false</code> otherwise.
+     */
+    public static boolean isStandardLibraryResource(Resource resource) {
+        boolean isStandardLibraryResource = false;
+        if (resource != null && resource.getURI() != null) {
+            String scheme = resource.getURI().scheme();
+            isStandardLibraryResource = KERML_LIBRARY_SCHEME.equals(scheme) || SYSML_LIBRARY_SCHEME.equals(scheme);
+        }
+        return isStandardLibraryResource;
+    }
+
     /**
      * Generate a UUID (a v5 for standard library elements a a random v4 random for others).
      * 
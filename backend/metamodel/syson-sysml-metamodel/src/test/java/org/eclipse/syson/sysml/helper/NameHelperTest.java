@@ -36,4 +36,16 @@ public class NameHelperTest {
         printableName = NameHelper.toPrintableName("Hel'lo", false);
         assertEquals("'Hel'lo'", printableName);
     }
+
+    @DisplayName("Test that only the names which are not basic names are printed between simple quotes.")
+    @Test
+    void testBasicNames() {
+        assertEquals("_Part1", NameHelper.toPrintableName("_Part1"));
+        assertEquals("part_1", NameHelper.toPrintableName("part_1"));
+        assertEquals("'1part'", NameHelper.toPrintableName("1part"));
+        assertEquals("'part 1'", NameHelper.toPrintableName("part 1"));
+        assertEquals("'part-1'", NameHelper.toPrintableName("part-1"));
+        assertEquals("'pärt'", NameHelper.toPrintableName("pärt"));
+        assertEquals("", NameHelper.toPrintableName(""));
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,12 +18,13 @@ import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
 import org.eclipse.syson.sysml.Dependency;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.helper.EMFUtils;
 
 /**
  * Deletion-related Java services used by SysON representations.
@@ -55,9 +56,9 @@ public class DeleteService {
     }
 
     private void collectRelatedElements(EObject eObject, Set<EObject> relatedElements) {
-        var optAdapter = eObject.eAdapters().stream().filter(EditingContextCrossReferenceAdapter.class::isInstance).map(EditingContextCrossReferenceAdapter.class::cast).findFirst();
+        var optAdapter = EMFUtils.getCrossReferenceAdapter(eObject);
         if (optAdapter.isPresent()) {
-            EditingContextCrossReferenceAdapter referenceAdapter = optAdapter.get();
+            ECrossReferenceAdapter referenceAdapter = optAdapter.get();
             Collection<Setting> inverseReferences = referenceAdapter.getInverseReferences(eObject);
             for (Setting setting : inverseReferences) {
                 EObject relatedElement = setting.getEObject();
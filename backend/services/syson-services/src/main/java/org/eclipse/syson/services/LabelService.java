@@ -13,11 +13,13 @@
 package org.eclipse.syson.services;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
 import org.eclipse.syson.services.grammars.DirectEditLexer;
 import org.eclipse.syson.services.grammars.DirectEditListener;
@@ -40,6 +42,8 @@ import org.eclipse.syson.sysml.Subsetting;
 import org.eclipse.syson.sysml.Usage;
 import org.eclipse.syson.sysml.helper.LabelConstants;
 import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.util.ElementLabelCache;
+import org.eclipse.syson.util.SysONEContentAdapter;
 
 /**
  * Label-related Java services used by SysON representations.
@@ -62,6 +66,8 @@ public class LabelService {
 
     public static final String TRANSITION_EXPRESSION_OFF = "TRANSITION_EXPRESSION_OFF";
 
+    private static final String CONTAINER_LABEL_KIND = "containerLabel";
+
     private final IFeedbackMessageService feedbackMessageService;
 
     public LabelService(IFeedbackMessageService feedbackMessageService) {
@@ -80,7 +86,7 @@ public class LabelService {
      * @return the container label for the given {@link Element}.
      */
     public String getContainerLabel(Element element) {
-        return new MultiLineLabelSwitch(this).doSwitch(element);
+        return this.getCachedLabel(CONTAINER_LABEL_KIND, element, e -> new MultiLineLabelSwitch(this).doSwitch(e));
     }
 
     /**
@@ -202,6 +208,31 @@ public class LabelService {
         return label.toString();
     }
 
+    /**
+     * Returns the label of the given kind for the given element from the label cache of its editing context, see
+     * {@link ElementLabelCache}. The label is computed each time if the element isn't contained in an editing context.
+     * Subclasses changing how a cached label is computed must use their own kind of label.
+     *
+     * @param <T>
+     *            the type of the element
+     * @param kind
+     *            the kind of label
+     * @param element
+     *            the element
+     * @param labelProvider
+     *            the function computing the label of the element
+     * @return the label of the element
+     */
+    protected <T extends Element> String getCachedLabel(String kind, T element, Function<T, String> labelProvider) {
+        final String label;
+        if (EcoreUtil.getAdapter(element.eAdapters(), SysONEContentAdapter.class) instanceof SysONEContentAdapter contentAdapter) {
+            label = contentAdapter.getLabelCache().get(kind, element, labelProvider);
+        } else {
+            label = labelProvider.apply(element);
+        }
+        return label;
+    }
+
     /**
      * Return the label of the typing part of the given {@link Element}.
      *
@@ -13,22 +13,64 @@
 package org.eclipse.syson.services;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.util.SysONEContentAdapter;
 
 /**
  * Services for node descriptions.
+ * <p>
+ * The semantic candidates of a node description for a given owner, and the reused node descriptions of each node
+ * description, are computed once and kept as long as the model and the converted nodes do not change. An instance must
+ * thus only be used by the thread processing the events of a single editing context.
+ * </p>
  *
  * @author Jerome Gout
  */
 public class NodeDescriptionService {
 
+    /**
+     * The semantic candidates of the node descriptions, by node description id and owner.
+     */
+    private final Map<String, Map<Object, Set<Object>>> semanticCandidates = new HashMap<>();
+
+    /**
+     * The reused child node descriptions, by node description id.
+     */
+    private final Map<String, List<NodeDescription>> reusedChildNodeDescriptions = new HashMap<>();
+
+    /**
+     * The reused border node descriptions, by node description id.
+     */
+    private final Map<String, List<NodeDescription>> reusedBorderNodeDescriptions = new HashMap<>();
+
+    private final Map<String, NodeDescription> convertedNodesById = new HashMap<>();
+
+    /**
+     * The modification count of the model when the semantic candidates have been computed.
+     */
+    private long semanticCandidatesModificationCount = -1;
+
+    /**
+     * The converted nodes from which the reused node descriptions have been computed.
+     */
+    private Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> indexedConvertedNodes;
+
     /**
      * Returns the child descriptions of {@code nodeDescriptions} that can render {@code element}.
      * <p>
@@ -52,8 +94,8 @@ public class NodeDescriptionService {
             List<NodeDescription> allChildren = new ArrayList<>();
             allChildren.addAll(node.getChildNodeDescriptions());
             allChildren.addAll(node.getBorderNodeDescriptions());
-            allChildren.addAll(convertedNodes.values().stream().filter(convNode -> node.getReusedChildNodeDescriptionIds().contains(convNode.getId())).toList());
-            allChildren.addAll(convertedNodes.values().stream().filter(convNode -> node.getReusedBorderNodeDescriptionIds().contains(convNode.getId())).toList());
+            allChildren.addAll(this.getReusedNodeDescriptions(node, node.getReusedChildNodeDescriptionIds(), this.reusedChildNodeDescriptions, convertedNodes));
+            allChildren.addAll(this.getReusedNodeDescriptions(node, node.getReusedBorderNodeDescriptionIds(), this.reusedBorderNodeDescriptions, convertedNodes));
             for (NodeDescription child : allChildren) {
                 if (this.canNodeDescriptionRenderElement(child, element, ownerObject)) {
                     candidates.add(child);
@@ -85,7 +127,7 @@ public class NodeDescriptionService {
         for (NodeDescription node : nodeDescriptions) {
             List<NodeDescription> allChildNodeDescriptions = Stream.concat(
                     node.getChildNodeDescriptions().stream(),
-                    convertedNodes.values().stream().filter(convNode -> node.getReusedChildNodeDescriptionIds().contains(convNode.getId())))
+                    this.getReusedNodeDescriptions(node, node.getReusedChildNodeDescriptionIds(), this.reusedChildNodeDescriptions, convertedNodes).stream())
                     .toList();
             for (NodeDescription childNodeDescription : allChildNodeDescriptions) {
                 if (this.canNodeDescriptionRenderElement(childNodeDescription, element, ownerObject)) {
@@ -110,17 +152,90 @@ public class NodeDescriptionService {
      *         <code>false</code> otherwise.
      */
     public boolean canNodeDescriptionRenderElement(NodeDescription nodeDescription, Element element, Object ownerObject) {
+        boolean canRender = this.getSemanticCandidates(nodeDescription, ownerObject).contains(element);
+        if (canRender) {
+            VariableManager shouldRenderPredicateVariableManager = new VariableManager();
+            shouldRenderPredicateVariableManager.put(VariableManager.SELF, element);
+            canRender = nodeDescription.getShouldRenderPredicate().test(shouldRenderPredicateVariableManager);
+        }
+        return canRender;
+    }
+
+    /**
+     * Returns the converted node description with the given id.
+     *
+     * @param descriptionId
+     *            the id of a node description
+     * @param convertedNodes
+     *            the converted nodes
+     * @return the converted node description, or an empty optional if there is none
+     */
+    public Optional<NodeDescription> getConvertedNodeDescription(String descriptionId,
+            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes) {
+        this.indexConvertedNodes(convertedNodes);
+        return Optional.ofNullable(this.convertedNodesById.get(descriptionId));
+    }
+
+    /**
+     * Returns the semantic elements of the given node description when applied to the given owner, as an identity set.
+     * The semantic elements are cached only if the owner is in a model whose modifications are tracked by a
+     * {@link SysONEContentAdapter}.
+     */
+    private Set<Object> getSemanticCandidates(NodeDescription nodeDescription, Object ownerObject) {
+        Set<Object> candidates;
+        long modificationCount = this.getModificationCount(ownerObject);
+        if (modificationCount < 0) {
+            candidates = this.computeSemanticCandidates(nodeDescription, ownerObject);
+        } else {
+            if (modificationCount != this.semanticCandidatesModificationCount) {
+                this.semanticCandidates.clear();
+                this.semanticCandidatesModificationCount = modificationCount;
+            }
+            candidates = this.semanticCandidates.computeIfAbsent(nodeDescription.getId(), id -> new IdentityHashMap<>())
+                    .computeIfAbsent(ownerObject, owner -> this.computeSemanticCandidates(nodeDescription, owner));
+        }
+        return candidates;
+    }
+
+    private Set<Object> computeSemanticCandidates(NodeDescription nodeDescription, Object ownerObject) {
         VariableManager semanticElementsProviderVariableManager = new VariableManager();
         semanticElementsProviderVariableManager.put(VariableManager.SELF, ownerObject);
         // Force the editingContext variable to null to enable editingContext null checks in AQL expressions.
         semanticElementsProviderVariableManager.put(IEditingContext.EDITING_CONTEXT, null);
 
         List<?> candidatesList = nodeDescription.getSemanticElementsProvider().apply(semanticElementsProviderVariableManager);
+        Set<Object> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(candidatesList);
+        return candidates;
+    }
 
-        VariableManager shouldRenderPredicateVariableManager = new VariableManager();
-        shouldRenderPredicateVariableManager.put(VariableManager.SELF, element);
-        boolean shouldRender = nodeDescription.getShouldRenderPredicate().test(shouldRenderPredicateVariableManager);
+    private long getModificationCount(Object ownerObject) {
+        long modificationCount = -1;
+        if (ownerObject instanceof EObject eObject && EcoreUtil.getAdapter(eObject.eAdapters(), SysONEContentAdapter.class) instanceof SysONEContentAdapter contentAdapter) {
+            modificationCount = contentAdapter.getModificationCount();
+        }
+        return modificationCount;
+    }
 
-        return candidatesList.contains(element) && shouldRender;
+    /**
+     * Returns the converted nodes whose ids are in the given reused ids of the given node description, in the order of
+     * the converted nodes.
+     */
+    private List<NodeDescription> getReusedNodeDescriptions(NodeDescription node, Collection<String> reusedIds, Map<String, List<NodeDescription>> cache,
+            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes) {
+        this.indexConvertedNodes(convertedNodes);
+        return cache.computeIfAbsent(node.getId(), id -> convertedNodes.values().stream().filter(convNode -> reusedIds.contains(convNode.getId())).toList());
+    }
+
+    private void indexConvertedNodes(Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes) {
+        if (convertedNodes != this.indexedConvertedNodes) {
+            this.reusedChildNodeDescriptions.clear();
+            this.reusedBorderNodeDescriptions.clear();
+            this.convertedNodesById.clear();
+            for (NodeDescription convertedNode : convertedNodes.values()) {
+                this.convertedNodesById.putIfAbsent(convertedNode.getId(), convertedNode);
+            }
+            this.indexedConvertedNodes = convertedNodes;
+        }
     }
 }
@@ -185,8 +185,34 @@ public class ToolService {
 
     protected ViewCreationRequest createView(Element element, IEditingContext editingContext, IDiagramContext diagramContext, Object selectedNode,
             Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes, NodeContainmentKind nodeKind) {
+        return this.createView(element, editingContext, diagramContext, selectedNode, convertedNodes, nodeKind, new NodeDescriptionService());
+    }
+
+    /**
+     * Creates a view of {@code element} in {@code selectedNode}, using the given node description service to find the
+     * node description which can render it, so that a tool creating several views can reuse the semantic candidates
+     * computed for the previous ones.
+     *
+     * @param element
+     *            the element to render
+     * @param editingContext
+     *            the editing context
+     * @param diagramContext
+     *            the diagram context
+     * @param selectedNode
+     *            the parent ({@link Node} or {@link ViewCreationRequest})
+     * @param convertedNodes
+     *            the converted nodes
+     * @param nodeKind
+     *            the containment kind of the created view
+     * @param nodeDescriptionService
+     *            the node description service
+     * @return the created view, or <code>null</code> if no node description can render the element in its parent
+     */
+    protected ViewCreationRequest createView(Element element, IEditingContext editingContext, IDiagramContext diagramContext, Object selectedNode,
+            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes, NodeContainmentKind nodeKind, NodeDescriptionService nodeDescriptionService) {
         var parentElementId = this.getParentElementId(selectedNode, diagramContext);
-        var optDescriptionId = this.getChildNodeDescriptionIdForRendering(element, editingContext, diagramContext, selectedNode, convertedNodes);
+        var optDescriptionId = this.getChildNodeDescriptionIdForRendering(element, editingContext, diagramContext, selectedNode, convertedNodes, nodeDescriptionService);
         if (optDescriptionId.isPresent()) {
             return this.createView(element, parentElementId, optDescriptionId.get(), diagramContext, nodeKind);
         } else {
@@ -254,22 +280,38 @@ public class ToolService {
      */
     protected Optional<String> getChildNodeDescriptionIdForRendering(Element element, IEditingContext editingContext, IDiagramContext diagramContext, Object parent,
             Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes) {
-        NodeDescriptionService nodeDescriptionService = new NodeDescriptionService();
+        return this.getChildNodeDescriptionIdForRendering(element, editingContext, diagramContext, parent, convertedNodes, new NodeDescriptionService());
+    }
+
+    /**
+     * Returns the description id that can be used to render {@code element} in {@code parent}, see
+     * {@link #getChildNodeDescriptionIdForRendering(Element, IEditingContext, IDiagramContext, Object, Map)}.
+     *
+     * @param element
+     *            the element to render
+     * @param editingContext
+     *            the editing context
+     * @param diagramContext
+     *            the diagram context
+     * @param parent
+     *            the parent ({@link Node} or {@link ViewCreationRequest})
+     * @param convertedNodes
+     *            the converted nodes
+     * @param nodeDescriptionService
+     *            the node description service, which may be shared by all the views created by a tool
+     * @return the description id
+     */
+    protected Optional<String> getChildNodeDescriptionIdForRendering(Element element, IEditingContext editingContext, IDiagramContext diagramContext, Object parent,
+            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes, NodeDescriptionService nodeDescriptionService) {
         List<NodeDescription> candidates = new ArrayList<>();
         final Object parentObject;
 
         if (parent instanceof Node node) {
-            NodeDescription parentNodeDescription = convertedNodes.values().stream()
-                    .filter(nodeDescription -> Objects.equals(nodeDescription.getId(), node.getDescriptionId()))
-                    .findFirst()
-                    .orElse(null);
+            NodeDescription parentNodeDescription = nodeDescriptionService.getConvertedNodeDescription(node.getDescriptionId(), convertedNodes).orElse(null);
             parentObject = this.objectService.getObject(editingContext, node.getTargetObjectId()).orElse(null);
             candidates = nodeDescriptionService.getChildNodeDescriptionsForRendering(element, parentObject, List.of(parentNodeDescription), convertedNodes);
         } else if (parent instanceof ViewCreationRequest viewCreationRequest && viewCreationRequest.getDescriptionId() != null) {
-            NodeDescription parentNodeDescription = convertedNodes.values().stream()
-                    .filter(nodeDescription -> Objects.equals(nodeDescription.getId(), viewCreationRequest.getDescriptionId()))
-                    .findFirst()
-                    .orElse(null);
+            NodeDescription parentNodeDescription = nodeDescriptionService.getConvertedNodeDescription(viewCreationRequest.getDescriptionId(), convertedNodes).orElse(null);
             parentObject = this.objectService.getObject(editingContext, viewCreationRequest.getTargetObjectId()).orElse(null);
             candidates = nodeDescriptionService.getChildNodeDescriptionsForRendering(element, parentObject, List.of(parentNodeDescription), convertedNodes);
         } else {
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.antlr.v4.runtime.atn.Transition;
 import org.eclipse.emf.common.notify.Adapter;
@@ -28,8 +29,8 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
 import org.eclipse.syson.sysml.AcceptActionUsage;
 import org.eclipse.syson.sysml.ActionUsage;
 import org.eclipse.syson.sysml.Definition;
@@ -51,6 +52,7 @@ import org.eclipse.syson.sysml.TransitionFeatureMembership;
 import org.eclipse.syson.sysml.TransitionUsage;
 import org.eclipse.syson.sysml.Type;
 import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.helper.EMFUtils;
 import org.eclipse.syson.sysml.helper.NameHelper;
 import org.eclipse.syson.util.AQLUtils;
 import org.eclipse.syson.util.SysMLMetamodelHelper;
@@ -194,6 +196,22 @@ public class UtilService {
         return this.getAllReachable(eObject, eClass);
     }
 
+    /**
+     * Get all reachable elements of a type in the {@link ResourceSet} of given {@link EObject}.
+     *
+     * @param eObject
+     *            the {@link EObject} stored in a {@link ResourceSet}
+     * @param type
+     *            the search typed (either simple or qualified named of the EClass ("Package" vs "sysml::Package")
+     * @param includeSubtypes
+     *            whether the instances of the subtypes of the searched type should be returned too
+     * @return a list of reachable object
+     */
+    public List<EObject> getAllReachable(EObject eObject, String type, boolean includeSubtypes) {
+        EClass eClass = SysMLMetamodelHelper.toEClass(type);
+        return this.getAllReachable(eObject, eClass, includeSubtypes, true);
+    }
+
     /**
      * Get all reachable elements of the type given by the {@link EClass} in the {@link ResourceSet} of the given
      * {@link EObject}.
@@ -205,13 +223,56 @@ public class UtilService {
      * @return a list of reachable object
      */
     public List<EObject> getAllReachable(EObject eObject, EClass eClass) {
-        List<EObject> allReachable = null;
+        return this.getAllReachable(eObject, eClass, false, true);
+    }
+
+    /**
+     * Get all reachable elements of the type given by the {@link EClass} in the {@link ResourceSet} of the given
+     * {@link EObject}.
+     *
+     * @param eObject
+     *            the {@link EObject} stored in a {@link ResourceSet}
+     * @param eClass
+     *            the searched {@link EClass}
+     * @param includeSubtypes
+     *            whether the instances of the subtypes of the searched {@link EClass} should be returned too
+     * @param includeLibraries
+     *            whether the elements contained in the standard libraries should be returned too
+     * @return a list of reachable object
+     */
+    public List<EObject> getAllReachable(EObject eObject, EClass eClass, boolean includeSubtypes, boolean includeLibraries) {
+        List<EObject> allReachable = List.of();
         Adapter adapter = EcoreUtil.getAdapter(eObject.eAdapters(), SysONEContentAdapter.class);
-        if (adapter instanceof SysONEContentAdapter cacheAdapter) {
-            allReachable = cacheAdapter.getCache().get(eClass);
+        if (adapter instanceof SysONEContentAdapter cacheAdapter && eClass != null) {
+            allReachable = cacheAdapter.getTypeIndex().get(eClass, includeSubtypes, includeLibraries);
         }
-        if (allReachable == null) {
-            allReachable = List.of();
+        return allReachable;
+    }
+
+    /**
+     * Get all reachable elements which are exactly of the type given by the {@link EClass} and match the given filter
+     * in the {@link ResourceSet} of the given {@link EObject}.
+     * <p>
+     * The matching elements are kept in an index of the editing context named {@code indexName}, which only checks
+     * again the elements modified since the last query, see {@link SysONEContentAdapter#getFilteredIndex}. The same
+     * name must thus always be used with the same type and filter.
+     * </p>
+     *
+     * @param eObject
+     *            the {@link EObject} stored in a {@link ResourceSet}
+     * @param indexName
+     *            the name of the index of the matching elements
+     * @param eClass
+     *            the searched {@link EClass}
+     * @param filter
+     *            the filter of the searched elements, which must only depend on the element and its contents
+     * @return a list of reachable object
+     */
+    public List<EObject> getAllReachableMatching(EObject eObject, String indexName, EClass eClass, Predicate<EObject> filter) {
+        List<EObject> allReachable = List.of();
+        Adapter adapter = EcoreUtil.getAdapter(eObject.eAdapters(), SysONEContentAdapter.class);
+        if (adapter instanceof SysONEContentAdapter cacheAdapter && eClass != null) {
+            allReachable = cacheAdapter.getFilteredIndex(indexName, eClass, filter).get();
         }
         return allReachable;
     }
@@ -248,9 +309,9 @@ public class UtilService {
      */
     public List<EObject> getEInverseRelatedElements(EObject eObject, EStructuralFeature eStructuralFeature) {
         List<EObject> result = new ArrayList<>();
-        var optAdapter = eObject.eAdapters().stream().filter(EditingContextCrossReferenceAdapter.class::isInstance).map(EditingContextCrossReferenceAdapter.class::cast).findFirst();
+        var optAdapter = EMFUtils.getCrossReferenceAdapter(eObject);
         if (optAdapter.isPresent()) {
-            EditingContextCrossReferenceAdapter referenceAdapter = optAdapter.get();
+            ECrossReferenceAdapter referenceAdapter = optAdapter.get();
             referenceAdapter.getInverseReferences(eObject).stream().filter(set -> set.getEStructuralFeature().equals(eStructuralFeature)).forEach(set -> result.add(set.getEObject()));
         }
         return result;
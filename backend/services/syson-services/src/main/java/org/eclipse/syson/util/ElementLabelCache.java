@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Cache of the labels computed for the elements of an editing context, by kind of label.
+ *
+ * <p>
+ * A label is computed from the contents of its element and from the names of the elements it references (e.g. its
+ * types). A cached label is thus reused until the {@link SemanticChangeTracker} of the {@link SysONEContentAdapter}
+ * records a change in the contents of its element, or a change of the name of any element. The labels are reused by
+ * all the refreshes of the representations which do not modify their elements, and by all the representations
+ * displaying the same element. Like the {@link ElementTypeIndex}, this cache is identity-based and only used by the
+ * thread of its editing context.
+ * </p>
+ *
+ * @author agent
+ */
+public class ElementLabelCache {
+
+    private final SysONEContentAdapter contentAdapter;
+
+    private final Map<String, Map<EObject, CachedLabel>> labels = new HashMap<>();
+
+    public ElementLabelCache(SysONEContentAdapter contentAdapter) {
+        this.contentAdapter = Objects.requireNonNull(contentAdapter);
+    }
+
+    /**
+     * Returns the label of the given kind for the given element, computing it if it is not cached yet or if the
+     * element has changed since it has been cached.
+     *
+     * @param <T>
+     *            the type of the element
+     * @param kind
+     *            the kind of label, which identifies the label provider
+     * @param element
+     *            the element
+     * @param labelProvider
+     *            the function computing the label of the element, which must only depend on the contents of the element
+     *            and the names of the elements it references
+     * @return the label of the element
+     */
+    public <T extends EObject> String get(String kind, T element, Function<T, String> labelProvider) {
+        Map<EObject, CachedLabel> kindLabels = this.labels.computeIfAbsent(kind, key -> new HashMap<>());
+        CachedLabel cachedLabel = kindLabels.get(element);
+        if (cachedLabel == null || this.isOutdated(element, cachedLabel)) {
+            long modificationCount = this.contentAdapter.getModificationCount();
+            // The label provider may compute other labels, computeIfAbsent cannot be used here.
+            cachedLabel = new CachedLabel(labelProvider.apply(element), modificationCount);
+            kindLabels.put(element, cachedLabel);
+        }
+        return cachedLabel.label();
+    }
+
+    /**
+     * Removes the labels of the given element, which has been removed from the model.
+     *
+     * @param element
+     *            the removed element
+     */
+    public void remove(EObject element) {
+        for (Map<EObject, CachedLabel> kindLabels : this.labels.values()) {
+            kindLabels.remove(element);
+        }
+    }
+
+    private boolean isOutdated(EObject element, CachedLabel cachedLabel) {
+        SemanticChangeTracker changeTracker = this.contentAdapter.getChangeTracker();
+        return changeTracker.hasNameChangedSince(cachedLabel.modificationCount()) || changeTracker.hasChangedSince(element, cachedLabel.modificationCount());
+    }
+
+    /**
+     * A label with the modification count of the model when it has been computed.
+     *
+     * @param label
+     *            the label
+     * @param modificationCount
+     *            the modification count of the model when the label has been computed
+     * @author agent
+     */
+    private record CachedLabel(String label, long modificationCount) {
+    }
+}
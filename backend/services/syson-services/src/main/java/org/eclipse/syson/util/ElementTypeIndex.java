@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.syson.sysml.util.ElementUtil;
+
+/**
+ * Index of the elements of an editing context by their {@link EClass}.
+ *
+ * <p>
+ * Elements are stored in insertion-ordered sets, so adding or removing an element is done in constant time, and
+ * queries return the elements in the order they have been added. {@link EObject} does not override
+ * {@link Object#equals(Object)}, so these sets are identity-based. Elements contained in the standard libraries are
+ * indexed separately from the user elements so that queries can exclude them without iterating over them.
+ * </p>
+ *
+ * @author agent
+ */
+public class ElementTypeIndex {
+
+    private final Map<EClass, Set<EObject>> allElements = new LinkedHashMap<>();
+
+    private final Map<EClass, Set<EObject>> userElements = new LinkedHashMap<>();
+
+    private final Map<EClass, List<EClass>> indexedSubtypes = new LinkedHashMap<>();
+
+    private int size;
+
+    /**
+     * Adds the given element in the index.
+     *
+     * @param element
+     *            the element to index
+     */
+    public void add(EObject element) {
+        EClass eClass = element.eClass();
+        boolean added = this.allElements.computeIfAbsent(eClass, this::createTypeEntry).add(element);
+        if (added) {
+            this.size++;
+            if (!ElementUtil.isStandardLibraryResource(element.eResource())) {
+                this.userElements.computeIfAbsent(eClass, key -> new LinkedHashSet<>()).add(element);
+            }
+        }
+    }
+
+    /**
+     * Removes the given element from the index.
+     *
+     * @param element
+     *            the element to remove
+     */
+    public void remove(EObject element) {
+        EClass eClass = element.eClass();
+        Set<EObject> elements = this.allElements.get(eClass);
+        if (elements != null && elements.remove(element)) {
+            this.size--;
+            Set<EObject> indexedUserElements = this.userElements.get(eClass);
+            if (indexedUserElements != null) {
+                indexedUserElements.remove(element);
+            }
+        }
+    }
+
+    /**
+     * Returns the elements which are exactly of the given {@link EClass}, including the ones from the standard
+     * libraries.
+     *
+     * @param eClass
+     *            the searched {@link EClass}
+     * @return a new list containing the matching elements
+     */
+    public List<EObject> get(EClass eClass) {
+        return this.get(eClass, false, true);
+    }
+
+    /**
+     * Returns the elements of the given {@link EClass}.
+     *
+     * <p>
+     * When subtypes are included, the elements are grouped by {@link EClass}, in the order in which those
+     * {@link EClass} have been indexed.
+     * </p>
+     *
+     * @param eClass
+     *            the searched {@link EClass}
+     * @param includeSubtypes
+     *            whether the instances of the subtypes of the given {@link EClass} should be returned too
+     * @param includeLibraries
+     *            whether the elements contained in the standard libraries should be returned too
+     * @return a new list containing the matching elements
+     */
+    public List<EObject> get(EClass eClass, boolean includeSubtypes, boolean includeLibraries) {
+        Map<EClass, Set<EObject>> partition = this.userElements;
+        if (includeLibraries) {
+            partition = this.allElements;
+        }
+        List<EObject> result = new ArrayList<>();
+        if (includeSubtypes) {
+            for (EClass subtype : this.indexedSubtypes.computeIfAbsent(eClass, this::computeIndexedSubtypes)) {
+                this.addAll(result, partition.get(subtype));
+            }
+        } else {
+            this.addAll(result, partition.get(eClass));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of elements in the index.
+     *
+     * @return the number of elements in the index
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of elements in the index which are not contained in the standard libraries.
+     *
+     * @return the number of user elements in the index
+     */
+    public int userElementsSize() {
+        return this.userElements.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private Set<EObject> createTypeEntry(EClass eClass) {
+        // A new EClass is indexed, the subtypes computed so far may be incomplete.
+        this.indexedSubtypes.clear();
+        return new LinkedHashSet<>();
+    }
+
+    private List<EClass> computeIndexedSubtypes(EClass eClass) {
+        return this.allElements.keySet().stream()
+                .filter(eClass::isSuperTypeOf)
+                .toList();
+    }
+
+    private void addAll(List<EObject> result, Set<EObject> elements) {
+        if (elements != null) {
+            result.addAll(elements);
+        }
+    }
+}
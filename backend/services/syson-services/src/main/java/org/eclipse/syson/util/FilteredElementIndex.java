@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Index of the elements of an editing context which are exactly of a given {@link EClass} and match a given filter.
+ *
+ * <p>
+ * The index is maintained by the {@link SysONEContentAdapter}: the elements added to the editing context and the
+ * elements containing a modified object are marked to be checked again, and only these elements are tested against
+ * the filter the next time the index is queried. The filter must thus only depend on the element and the objects it
+ * contains. Like the {@link ElementTypeIndex}, this index is identity-based and only used by the thread of its editing
+ * context.
+ * </p>
+ *
+ * @author agent
+ */
+public class FilteredElementIndex {
+
+    private final EClass eClass;
+
+    private final Predicate<EObject> filter;
+
+    private final Set<EObject> matchingElements = new LinkedHashSet<>();
+
+    private final Set<EObject> elementsToCheck = new LinkedHashSet<>();
+
+    public FilteredElementIndex(EClass eClass, Predicate<EObject> filter, Collection<EObject> elements) {
+        this.eClass = Objects.requireNonNull(eClass);
+        this.filter = Objects.requireNonNull(filter);
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Adds the given element in the index, if it is of the indexed {@link EClass}.
+     *
+     * @param element
+     *            an element added to the editing context
+     */
+    public void add(EObject element) {
+        if (element.eClass() == this.eClass) {
+            this.elementsToCheck.add(element);
+        }
+    }
+
+    /**
+     * Removes the given element from the index.
+     *
+     * @param element
+     *            an element removed from the editing context
+     */
+    public void remove(EObject element) {
+        this.matchingElements.remove(element);
+        this.elementsToCheck.remove(element);
+    }
+
+    /**
+     * Marks the closest element of the indexed {@link EClass} containing the given object, or the object itself, to
+     * be checked again.
+     *
+     * @param notifier
+     *            a modified object
+     */
+    public void changed(Object notifier) {
+        if (notifier instanceof EObject eObject) {
+            EObject element = eObject;
+            while (element != null && element.eClass() != this.eClass) {
+                element = element.eContainer();
+            }
+            if (element != null) {
+                this.elementsToCheck.add(element);
+            }
+        }
+    }
+
+    /**
+     * Returns the elements matching the filter.
+     *
+     * @return a new list containing the matching elements
+     */
+    public List<EObject> get() {
+        for (EObject element : this.elementsToCheck) {
+            if (this.filter.test(element)) {
+                this.matchingElements.add(element);
+            } else {
+                this.matchingElements.remove(element);
+            }
+        }
+        this.elementsToCheck.clear();
+        return new ArrayList<>(this.matchingElements);
+    }
+}
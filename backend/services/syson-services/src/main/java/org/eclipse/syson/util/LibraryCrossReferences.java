@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+/**
+ * Immutable table of the references between elements of the standard libraries.
+ *
+ * <p>
+ * The standard libraries never change, so the references between their elements are computed once, from the libraries
+ * loaded at startup, and shared by all the editing contexts. Since each editing context contains its own copy of the
+ * libraries, references are stored with the URI of the resources and the URI fragments (i.e. the IDs) of their source
+ * and target elements, and are resolved in the {@link ResourceSet} of the queried element.
+ * </p>
+ *
+ * @author agent
+ */
+public class LibraryCrossReferences {
+
+    private final Map<String, List<LibraryReference>> inverseReferences;
+
+    private final int size;
+
+    /**
+     * Computes the references between the elements of the given resources.
+     *
+     * @param libraryResources
+     *            the resources containing the standard libraries
+     */
+    public LibraryCrossReferences(Collection<Resource> libraryResources) {
+        Map<String, List<LibraryReference>> references = new HashMap<>();
+        for (Resource resource : libraryResources) {
+            TreeIterator<EObject> allContents = resource.getAllContents();
+            while (allContents.hasNext()) {
+                this.collectReferences(allContents.next(), references);
+            }
+        }
+        references.replaceAll((key, value) -> List.copyOf(value));
+        this.inverseReferences = Map.copyOf(references);
+        this.size = references.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns the number of references in the table.
+     *
+     * @return the number of references
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the references from other elements of the standard libraries to the given element.
+     *
+     * @param target
+     *            an element of the standard libraries, contained in the {@link ResourceSet} of an editing context
+     * @param eReference
+     *            the reference to consider, or <code>null</code> to consider all of them
+     * @return the settings of the elements referencing the given target, in the {@link ResourceSet} of the target
+     */
+    public List<Setting> getInverseReferences(EObject target, EReference eReference) {
+        List<Setting> result = new ArrayList<>();
+        Resource targetResource = target.eResource();
+        if (targetResource != null && targetResource.getResourceSet() != null) {
+            List<LibraryReference> references = this.inverseReferences.getOrDefault(this.getKey(targetResource, target), List.of());
+            for (LibraryReference reference : references) {
+                if (eReference == null || eReference.equals(reference.eReference())) {
+                    Resource sourceResource = targetResource.getResourceSet().getResource(reference.sourceResourceURI(), false);
+                    if (sourceResource != null && sourceResource.getEObject(reference.sourceURIFragment()) instanceof InternalEObject source) {
+                        result.add(source.eSetting(reference.eReference()));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void collectReferences(EObject source, Map<String, List<LibraryReference>> references) {
+        Resource sourceResource = source.eResource();
+        LibraryReference reference = null;
+        for (EReference eReference : source.eClass().getEAllReferences()) {
+            if (this.isIncluded(eReference)) {
+                Object value = source.eGet(eReference, false);
+                Collection<?> targets = List.of();
+                if (value instanceof Collection<?> collection) {
+                    targets = collection;
+                } else if (value != null) {
+                    targets = List.of(value);
+                }
+                for (Object target : targets) {
+                    if (target instanceof EObject targetEObject && targetEObject.eResource() != null) {
+                        if (reference == null || reference.eReference() != eReference) {
+                            reference = new LibraryReference(sourceResource.getURI(), sourceResource.getURIFragment(source), eReference);
+                        }
+                        references.computeIfAbsent(this.getKey(targetEObject.eResource(), targetEObject), key -> new ArrayList<>()).add(reference);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Mirrors the references tracked by {@link org.eclipse.emf.ecore.util.ECrossReferenceAdapter}.
+     */
+    private boolean isIncluded(EReference eReference) {
+        return !eReference.isDerived() && !eReference.isContainment() && !eReference.isContainer() && eReference.getEOpposite() == null;
+    }
+
+    private String getKey(Resource resource, EObject eObject) {
+        return resource.getURI().toString() + '#' + resource.getURIFragment(eObject);
+    }
+
+    /**
+     * A reference from an element of the standard libraries.
+     *
+     * @param sourceResourceURI
+     *            the URI of the resource containing the source element
+     * @param sourceURIFragment
+     *            the URI fragment of the source element
+     * @param eReference
+     *            the reference
+     * @author agent
+     */
+    public record LibraryReference(URI sourceResourceURI, String sourceURIFragment, EReference eReference) {
+        public LibraryReference {
+            Objects.requireNonNull(sourceResourceURI);
+            Objects.requireNonNull(sourceURIFragment);
+            Objects.requireNonNull(eReference);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.ElementUtil;
+
+/**
+ * Tracker of the parts of a model modified by each change, maintained by the {@link SysONEContentAdapter}.
+ *
+ * <p>
+ * Each change is identified by the modification count of the adapter after it has been notified. The tracker records,
+ * for each object, the last change of the object or of one of the objects it contains, so that a value computed from
+ * the contents of an element can be reused as long as the contents of the element have not changed since it has been
+ * computed. An object added or moved by a change is recorded as changed, as well as its old and new containers, and
+ * the changes of an object are forgotten when it is removed from the model. The roots added to a resource are
+ * recorded as changed too. The changes of the names of the elements are also recorded separately, since they may
+ * change the values computed for the elements referencing them. Like the {@link ElementTypeIndex}, this tracker is
+ * identity-based and only used by the thread of its editing context.
+ * </p>
+ *
+ * @author agent
+ */
+public class SemanticChangeTracker {
+
+    private final Map<EObject, Long> lastChanges = new HashMap<>();
+
+    private long lastNameChange;
+
+    /**
+     * Records the given change.
+     *
+     * @param notification
+     *            the notification of the change
+     * @param modificationCount
+     *            the modification count identifying the change
+     */
+    public void changed(Notification notification, long modificationCount) {
+        if (notification.getNotifier() instanceof EObject notifier) {
+            this.record(notifier, modificationCount);
+            if (notification.getFeature() instanceof EReference reference && reference.isContainment()) {
+                // The removed objects are forgotten, only the added objects are recorded.
+                this.recordContainmentChange(notification.getNewValue(), modificationCount);
+                if (ElementUtil.isStandardLibraryResource(notifier.eResource())) {
+                    // The qualified names of the library elements are displayed, and depend on their containers.
+                    this.lastNameChange = modificationCount;
+                }
+            }
+            Object feature = notification.getFeature();
+            if (feature == SysmlPackage.eINSTANCE.getElement_DeclaredName() || feature == SysmlPackage.eINSTANCE.getElement_DeclaredShortName()) {
+                this.lastNameChange = modificationCount;
+            }
+        } else if (notification.getNotifier() instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+            // The roots added to a resource are recorded too, so that a change of the roots of a resource is detected.
+            this.recordContainmentChange(notification.getNewValue(), modificationCount);
+        }
+    }
+
+    /**
+     * Forgets the changes of the given object, which has been removed from the model.
+     *
+     * @param eObject
+     *            the removed object
+     */
+    public void forget(EObject eObject) {
+        this.lastChanges.remove(eObject);
+    }
+
+    /**
+     * Returns {@code true} if the given object, or one of the objects it contains, has changed after the given
+     * change.
+     *
+     * @param eObject
+     *            an object of the model
+     * @param modificationCount
+     *            the modification count identifying a change
+     * @return {@code true} if the contents of the object have changed after the given change
+     */
+    public boolean hasChangedSince(EObject eObject, long modificationCount) {
+        return this.lastChanges.getOrDefault(eObject, 0L) > modificationCount;
+    }
+
+    /**
+     * Returns {@code true} if the name of an element has changed after the given change.
+     *
+     * @param modificationCount
+     *            the modification count identifying a change
+     * @return {@code true} if the name of an element has changed after the given change
+     */
+    public boolean hasNameChangedSince(long modificationCount) {
+        return this.lastNameChange > modificationCount;
+    }
+
+    private void recordContainmentChange(Object value, long modificationCount) {
+        if (value instanceof EObject eObject) {
+            this.record(eObject, modificationCount);
+        } else if (value instanceof Collection<?> values) {
+            for (Object element : values) {
+                this.recordContainmentChange(element, modificationCount);
+            }
+        }
+    }
+
+    /**
+     * Records the change of the given object and of all its containers, stopping at the first container already
+     * recorded for this change.
+     */
+    private void record(EObject eObject, long modificationCount) {
+        EObject current = eObject;
+        while (current != null && this.lastChanges.getOrDefault(current, 0L) != modificationCount) {
+            this.lastChanges.put(current, modificationCount);
+            current = current.eContainer();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.syson.sysml.util.ElementUtil;
+
+/**
+ * Cross referencer for SysON editing contexts, which does not track the references internal to the standard libraries.
+ *
+ * <p>
+ * The elements of the standard libraries are never adapted: only the user resources are tracked incrementally. The
+ * references between elements of the standard libraries are provided by the {@link LibraryCrossReferences} shared by
+ * all the editing contexts. References from user elements to standard libraries elements are tracked as usual. Since
+ * standard libraries elements are not adapted, this adapter should be retrieved from their resource (see
+ * {@link org.eclipse.syson.sysml.helper.EMFUtils#getCrossReferenceAdapter(EObject)}).
+ * </p>
+ *
+ * @author agent
+ */
+public class SysONCrossReferenceAdapter extends EditingContextCrossReferenceAdapter {
+
+    private final LibraryCrossReferences libraryCrossReferences;
+
+    public SysONCrossReferenceAdapter(LibraryCrossReferences libraryCrossReferences) {
+        this.libraryCrossReferences = Objects.requireNonNull(libraryCrossReferences);
+    }
+
+    public LibraryCrossReferences getLibraryCrossReferences() {
+        return this.libraryCrossReferences;
+    }
+
+    /**
+     * Returns the number of references tracked incrementally by this adapter, i.e. the references from the user
+     * resources.
+     *
+     * @return the number of tracked references
+     */
+    public int getTrackedReferencesCount() {
+        return this.inverseCrossReferencer.values().stream().mapToInt(Collection::size).sum();
+    }
+
+    @Override
+    protected void addAdapter(Notifier notifier) {
+        // Only the root elements have to be checked, the content of a skipped root is never visited.
+        if (!(notifier instanceof EObject eObject && eObject.eContainer() == null && ElementUtil.isStandardLibraryResource(eObject.eResource()))) {
+            super.addAdapter(notifier);
+        }
+    }
+
+    @Override
+    public Collection<Setting> getInverseReferences(EObject eObject, boolean resolve) {
+        return this.withLibraryReferences(eObject, null, super.getInverseReferences(eObject, resolve));
+    }
+
+    @Override
+    public Collection<Setting> getInverseReferences(EObject eObject, EReference eReference, boolean resolve) {
+        return this.withLibraryReferences(eObject, eReference, super.getInverseReferences(eObject, eReference, resolve));
+    }
+
+    @Override
+    public Collection<Setting> getNonNavigableInverseReferences(EObject eObject, boolean resolve) {
+        return this.withLibraryReferences(eObject, null, super.getNonNavigableInverseReferences(eObject, resolve));
+    }
+
+    private Collection<Setting> withLibraryReferences(EObject eObject, EReference eReference, Collection<Setting> settings) {
+        Collection<Setting> result = settings;
+        if (ElementUtil.isStandardLibraryResource(eObject.eResource())) {
+            result = new ArrayList<>(settings);
+            result.addAll(this.libraryCrossReferences.getInverseReferences(eObject, eReference));
+        }
+        return result;
+    }
+}
@@ -12,11 +12,11 @@
  *******************************************************************************/
 package org.eclipse.syson.util;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -31,38 +31,104 @@ import org.eclipse.syson.sysml.Membership;
  */
 public class SysONEContentAdapter extends EContentAdapter {
 
-    private final Map<EClass, List<EObject>> cache = new HashMap<>();
+    private final ElementTypeIndex typeIndex = new ElementTypeIndex();
 
-    public Map<EClass, List<EObject>> getCache() {
-        return this.cache;
+    private final Map<String, FilteredElementIndex> filteredIndexes = new LinkedHashMap<>();
+
+    private final SemanticChangeTracker changeTracker = new SemanticChangeTracker();
+
+    private final ElementLabelCache labelCache = new ElementLabelCache(this);
+
+    private long modificationCount;
+
+    /**
+     * Returns the index of the SysML elements (except {@link Membership}) by their {@link EClass}.
+     *
+     * @return the type index
+     */
+    public ElementTypeIndex getTypeIndex() {
+        return this.typeIndex;
+    }
+
+    /**
+     * Returns the tracker of the parts of the model modified by each change.
+     *
+     * @return the change tracker
+     */
+    public SemanticChangeTracker getChangeTracker() {
+        return this.changeTracker;
+    }
+
+    /**
+     * Returns the cache of the labels of the SysML elements, whose labels are computed again once their contents or
+     * the names of the elements have changed.
+     *
+     * @return the label cache
+     */
+    public ElementLabelCache getLabelCache() {
+        return this.labelCache;
+    }
+
+    /**
+     * Returns the index of the SysML elements of the given {@link EClass} matching the given filter, creating it the
+     * first time it is requested. The index is then kept up to date with the changes of the model.
+     *
+     * @param name
+     *            the name identifying the index
+     * @param eClass
+     *            the exact {@link EClass} of the indexed elements
+     * @param filter
+     *            the filter of the indexed elements, see {@link FilteredElementIndex}
+     * @return the filtered index
+     */
+    public FilteredElementIndex getFilteredIndex(String name, EClass eClass, Predicate<EObject> filter) {
+        return this.filteredIndexes.computeIfAbsent(name, key -> new FilteredElementIndex(eClass, filter, this.typeIndex.get(eClass)));
+    }
+
+    /**
+     * Returns the number of changes notified to this adapter, which allows to detect that the model has been modified
+     * since a value computed from it has been cached.
+     *
+     * @return the number of changes notified to this adapter
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            this.modificationCount++;
+            this.changeTracker.changed(notification, this.modificationCount);
+            for (FilteredElementIndex filteredIndex : this.filteredIndexes.values()) {
+                filteredIndex.changed(notification.getNotifier());
+            }
+        }
     }
 
     @Override
     protected void addAdapter(Notifier notifier) {
         super.addAdapter(notifier);
         if (notifier instanceof Element element && !(notifier instanceof Membership)) {
-            EClass eClass = element.eClass();
-            List<EObject> value;
-            if (this.cache.containsKey(eClass)) {
-                value = this.cache.get(eClass);
-            } else {
-                value = new ArrayList<>();
+            this.typeIndex.add(element);
+            for (FilteredElementIndex filteredIndex : this.filteredIndexes.values()) {
+                filteredIndex.add(element);
             }
-            value.add(element);
-            this.cache.put(eClass, value);
         }
     }
 
     @Override
     protected void removeAdapter(Notifier notifier) {
+        if (notifier instanceof EObject eObject) {
+            this.changeTracker.forget(eObject);
+        }
         if (notifier instanceof Element element && !(notifier instanceof Membership)) {
-            EClass eClass = element.eClass();
-            List<EObject> value;
-            if (this.cache.containsKey(eClass)) {
-                value = this.cache.get(eClass);
-                value.remove(element);
-                this.cache.put(eClass, value);
+            this.typeIndex.remove(element);
+            for (FilteredElementIndex filteredIndex : this.filteredIndexes.values()) {
+                filteredIndex.remove(element);
             }
+            this.labelCache.remove(element);
         }
         super.removeAdapter(notifier);
     }
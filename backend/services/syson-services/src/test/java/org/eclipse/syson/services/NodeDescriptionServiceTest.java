@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.description.SynchronizationPolicy;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.util.SysONEContentAdapter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link NodeDescriptionService}, checking that the semantic candidates of a node description are
+ * computed again once the model has changed.
+ *
+ * @author agent
+ */
+public class NodeDescriptionServiceTest {
+
+    private final NodeDescriptionService nodeDescriptionService = new NodeDescriptionService();
+
+    @Test
+    public void cachedCandidatesAreInvalidatedByChanges() {
+        Package owner = SysmlFactory.eINSTANCE.createPackage();
+        owner.eAdapters().add(new SysONEContentAdapter());
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        PartUsage otherPart = SysmlFactory.eINSTANCE.createPartUsage();
+        AtomicInteger evaluations = new AtomicInteger();
+        NodeDescription nodeDescription = this.createNodeDescription("partDescription", variableManager -> {
+            evaluations.incrementAndGet();
+            return List.of(part);
+        });
+
+        assertTrue(this.nodeDescriptionService.canNodeDescriptionRenderElement(nodeDescription, part, owner));
+        assertFalse(this.nodeDescriptionService.canNodeDescriptionRenderElement(nodeDescription, otherPart, owner));
+        assertEquals(1, evaluations.get());
+
+        owner.setDeclaredName("Renamed");
+
+        assertTrue(this.nodeDescriptionService.canNodeDescriptionRenderElement(nodeDescription, part, owner));
+        assertEquals(2, evaluations.get());
+    }
+
+    @Test
+    public void candidatesAreNotCachedWithoutContentAdapter() {
+        Package owner = SysmlFactory.eINSTANCE.createPackage();
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        AtomicInteger evaluations = new AtomicInteger();
+        NodeDescription nodeDescription = this.createNodeDescription("partDescription", variableManager -> {
+            evaluations.incrementAndGet();
+            return List.of(part);
+        });
+
+        assertTrue(this.nodeDescriptionService.canNodeDescriptionRenderElement(nodeDescription, part, owner));
+        assertTrue(this.nodeDescriptionService.canNodeDescriptionRenderElement(nodeDescription, part, owner));
+        assertEquals(2, evaluations.get());
+    }
+
+    private NodeDescription createNodeDescription(String id, Function<VariableManager, List<?>> semanticElementsProvider) {
+        return NodeDescription.newNodeDescription(id)
+                .typeProvider(variableManager -> "")
+                .synchronizationPolicy(SynchronizationPolicy.SYNCHRONIZED)
+                .targetObjectIdProvider(variableManager -> "")
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .semanticElementsProvider(semanticElementsProvider)
+                .outsideLabelDescriptions(List.of())
+                .styleProvider(variableManager -> null)
+                .childrenLayoutStrategyProvider(variableManager -> null)
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(List.of())
+                .reusedChildNodeDescriptionIds(List.of())
+                .reusedBorderNodeDescriptionIds(List.of())
+                .shouldRenderPredicate(variableManager -> true)
+                .collapsible(false)
+                .defaultWidthProvider(variableManager -> 0)
+                .defaultHeightProvider(variableManager -> 0)
+                .labelEditHandler((variableManager, newValue) -> null)
+                .deleteHandler(variableManager -> null)
+                .isHiddenByDefaultPredicate(variableManager -> false)
+                .isFadedByDefaultPredicate(variableManager -> false)
+                .build();
+    }
+}
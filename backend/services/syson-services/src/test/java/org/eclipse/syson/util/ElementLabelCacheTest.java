@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link ElementLabelCache} maintained by the {@link SysONEContentAdapter}.
+ *
+ * @author agent
+ */
+public class ElementLabelCacheTest {
+
+    private static final String KIND = "label";
+
+    private SysONEContentAdapter adapter;
+
+    private Package rootPackage;
+
+    private AtomicInteger computations;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        this.adapter = new SysONEContentAdapter();
+        resourceSet.eAdapters().add(this.adapter);
+        Resource resource = new ResourceImpl(URI.createURI("syson:///user"));
+        resourceSet.getResources().add(resource);
+        this.rootPackage = SysmlFactory.eINSTANCE.createPackage();
+        this.rootPackage.setDeclaredName("Root");
+        resource.getContents().add(this.rootPackage);
+        this.computations = new AtomicInteger();
+    }
+
+    @Test
+    public void testLabelsAreComputedAgainWhenANameChanges() {
+        assertEquals("Root", this.getLabel(this.rootPackage));
+        assertEquals("Root", this.getLabel(this.rootPackage));
+        assertEquals(1, this.computations.get());
+
+        this.rootPackage.setDeclaredName("Renamed");
+        assertEquals("Renamed", this.getLabel(this.rootPackage));
+        assertEquals(2, this.computations.get());
+    }
+
+    @Test
+    public void testLabelsAreComputedAgainWhenTheirContentsChange() {
+        PartUsage engine = this.addMember(this.rootPackage, SysmlFactory.eINSTANCE.createPartUsage());
+        PartUsage wheel = this.addMember(this.rootPackage, SysmlFactory.eINSTANCE.createPartUsage());
+        this.getLabel(engine);
+        this.getLabel(wheel);
+        this.getLabel(this.rootPackage);
+        assertEquals(3, this.computations.get());
+
+        // A change in the contents of an element also changes the contents of its containers.
+        engine.setIsAbstract(true);
+        this.getLabel(engine);
+        this.getLabel(wheel);
+        this.getLabel(this.rootPackage);
+        assertEquals(5, this.computations.get());
+
+        this.addMember(wheel, SysmlFactory.eINSTANCE.createPartUsage());
+        this.getLabel(engine);
+        this.getLabel(wheel);
+        this.getLabel(this.rootPackage);
+        assertEquals(7, this.computations.get());
+    }
+
+    private String getLabel(Element element) {
+        return this.adapter.getLabelCache().get(KIND, element, e -> {
+            this.computations.incrementAndGet();
+            return String.valueOf(e.getDeclaredName());
+        });
+    }
+
+    private <T extends Element> T addMember(Element owner, T member) {
+        OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+        membership.getOwnedRelatedElement().add(member);
+        owner.getOwnedRelationship().add(membership);
+        return member;
+    }
+}
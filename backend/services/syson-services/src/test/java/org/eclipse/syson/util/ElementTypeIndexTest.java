@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PerformActionUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link ElementTypeIndex} maintained by the {@link SysONEContentAdapter}.
+ *
+ * @author agent
+ */
+public class ElementTypeIndexTest {
+
+    private SysONEContentAdapter adapter;
+
+    private Package userPackage;
+
+    private Package libraryPackage;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        this.adapter = new SysONEContentAdapter();
+        resourceSet.eAdapters().add(this.adapter);
+
+        Resource userResource = new ResourceImpl(URI.createURI("syson:///user"));
+        resourceSet.getResources().add(userResource);
+        this.userPackage = SysmlFactory.eINSTANCE.createPackage();
+        userResource.getContents().add(this.userPackage);
+
+        Resource libraryResource = new ResourceImpl(URI.createURI("sysmllibrary:///library"));
+        resourceSet.getResources().add(libraryResource);
+        this.libraryPackage = SysmlFactory.eINSTANCE.createPackage();
+        libraryResource.getContents().add(this.libraryPackage);
+    }
+
+    @Test
+    public void testExactTypeQuery() {
+        ActionUsage actionUsage = this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createActionUsage());
+        this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createPerformActionUsage());
+
+        ElementTypeIndex typeIndex = this.adapter.getTypeIndex();
+        assertEquals(List.of(actionUsage), typeIndex.get(SysmlPackage.eINSTANCE.getActionUsage()));
+        assertTrue(typeIndex.get(SysmlPackage.eINSTANCE.getOwningMembership()).isEmpty());
+    }
+
+    @Test
+    public void testSubtypesQuery() {
+        ActionUsage actionUsage = this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createActionUsage());
+        PerformActionUsage performActionUsage = this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createPerformActionUsage());
+        PartUsage partUsage = this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createPartUsage());
+
+        ElementTypeIndex typeIndex = this.adapter.getTypeIndex();
+        assertEquals(List.of(actionUsage, performActionUsage), typeIndex.get(SysmlPackage.eINSTANCE.getActionUsage(), true, true));
+        List<?> usages = typeIndex.get(SysmlPackage.eINSTANCE.getUsage(), true, true);
+        assertEquals(3, usages.size());
+        assertTrue(usages.contains(partUsage));
+
+        // A new EClass indexed after a first query must be taken into account.
+        var exhibitStateUsage = this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createExhibitStateUsage());
+        assertTrue(typeIndex.get(SysmlPackage.eINSTANCE.getActionUsage(), true, true).contains(exhibitStateUsage));
+    }
+
+    @Test
+    public void testLibrariesExclusion() {
+        PartUsage userPart = this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createPartUsage());
+        PartUsage libraryPart = this.addMember(this.libraryPackage, SysmlFactory.eINSTANCE.createPartUsage());
+
+        ElementTypeIndex typeIndex = this.adapter.getTypeIndex();
+        assertEquals(List.of(userPart, libraryPart), typeIndex.get(SysmlPackage.eINSTANCE.getPartUsage(), false, true));
+        assertEquals(List.of(userPart), typeIndex.get(SysmlPackage.eINSTANCE.getPartUsage(), false, false));
+        assertEquals(List.of(this.userPackage), typeIndex.get(SysmlPackage.eINSTANCE.getPackage(), false, false));
+    }
+
+    @Test
+    public void testRemoval() {
+        PartUsage partUsage = this.addMember(this.userPackage, SysmlFactory.eINSTANCE.createPartUsage());
+        PartUsage nestedPart = this.addMember(partUsage, SysmlFactory.eINSTANCE.createPartUsage());
+        ElementTypeIndex typeIndex = this.adapter.getTypeIndex();
+        assertEquals(List.of(partUsage, nestedPart), typeIndex.get(SysmlPackage.eINSTANCE.getPartUsage()));
+        int size = typeIndex.size();
+
+        this.userPackage.getOwnedRelationship().clear();
+
+        assertTrue(typeIndex.get(SysmlPackage.eINSTANCE.getPartUsage(), true, true).isEmpty());
+        assertTrue(typeIndex.get(SysmlPackage.eINSTANCE.getPartUsage(), false, false).isEmpty());
+        assertEquals(size - 2, typeIndex.size());
+    }
+
+    private <T extends Element> T addMember(Element owner, T member) {
+        OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+        membership.getOwnedRelatedElement().add(member);
+        owner.getOwnedRelationship().add(membership);
+        return member;
+    }
+}
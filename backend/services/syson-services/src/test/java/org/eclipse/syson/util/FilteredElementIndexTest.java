@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PerformActionUsage;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link FilteredElementIndex} maintained by the {@link SysONEContentAdapter}.
+ *
+ * @author agent
+ */
+public class FilteredElementIndexTest {
+
+    private static final String INDEX_NAME = "referencingPerformActionUsages";
+
+    private SysONEContentAdapter adapter;
+
+    private Package rootPackage;
+
+    private AtomicInteger checkCount;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        this.adapter = new SysONEContentAdapter();
+        resourceSet.eAdapters().add(this.adapter);
+        Resource resource = new ResourceImpl(URI.createURI("syson:///user"));
+        resourceSet.getResources().add(resource);
+        this.rootPackage = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(this.rootPackage);
+        this.checkCount = new AtomicInteger();
+    }
+
+    @Test
+    public void testIndexFollowsModelChanges() {
+        ActionUsage action = this.addMember(this.rootPackage, SysmlFactory.eINSTANCE.createActionUsage());
+        PerformActionUsage referencing = this.addMember(this.rootPackage, SysmlFactory.eINSTANCE.createPerformActionUsage());
+        ReferenceSubsetting referenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+        referencing.getOwnedRelationship().add(referenceSubsetting);
+        referenceSubsetting.setReferencedFeature(action);
+        PerformActionUsage other = this.addMember(this.rootPackage, SysmlFactory.eINSTANCE.createPerformActionUsage());
+
+        assertEquals(List.of(referencing), this.getIndex().get());
+        assertEquals(2, this.checkCount.get());
+
+        // Nothing changed, no element is checked again.
+        assertEquals(List.of(referencing), this.getIndex().get());
+        assertEquals(2, this.checkCount.get());
+
+        // A change in an object contained by an indexed element only checks this element again.
+        ReferenceSubsetting otherReferenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+        other.getOwnedRelationship().add(otherReferenceSubsetting);
+        otherReferenceSubsetting.setReferencedFeature(action);
+        assertEquals(List.of(referencing, other), this.getIndex().get());
+        assertEquals(3, this.checkCount.get());
+
+        referenceSubsetting.setReferencedFeature(null);
+        assertEquals(List.of(other), this.getIndex().get());
+
+        this.rootPackage.getOwnedRelationship().clear();
+        assertTrue(this.getIndex().get().isEmpty());
+    }
+
+    private FilteredElementIndex getIndex() {
+        return this.adapter.getFilteredIndex(INDEX_NAME, SysmlPackage.eINSTANCE.getPerformActionUsage(), element -> {
+            this.checkCount.incrementAndGet();
+            return element instanceof PerformActionUsage performActionUsage && performActionUsage.getOwnedReferenceSubsetting() != null
+                    && performActionUsage.getOwnedReferenceSubsetting().getReferencedFeature() instanceof ActionUsage;
+        });
+    }
+
+    private <T extends Element> T addMember(Element owner, T member) {
+        OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+        membership.getOwnedRelatedElement().add(member);
+        owner.getOwnedRelationship().add(membership);
+        return member;
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.EMFUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the {@link SysONCrossReferenceAdapter}, which relies on the {@link LibraryCrossReferences} for the
+ * references internal to the standard libraries.
+ *
+ * @author agent
+ */
+public class SysONCrossReferenceAdapterTest {
+
+    private static final URI LIBRARY_URI = URI.createURI("sysmllibrary:///library");
+
+    @Test
+    public void testLibraryReferencesAreNotAdapted() {
+        Resource sourceLibrary = new ResourceImpl(LIBRARY_URI);
+        new ResourceSetImpl().getResources().add(sourceLibrary);
+        sourceLibrary.getContents().add(this.createTypedPartPackage());
+        LibraryCrossReferences libraryCrossReferences = new LibraryCrossReferences(List.of(sourceLibrary));
+        assertTrue(libraryCrossReferences.size() >= 1);
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        SysONCrossReferenceAdapter adapter = new SysONCrossReferenceAdapter(libraryCrossReferences);
+        resourceSet.eAdapters().add(adapter);
+        Resource library = new ResourceImpl(LIBRARY_URI);
+        resourceSet.getResources().add(library);
+        library.getContents().addAll(EcoreUtil.copyAll(sourceLibrary.getContents()));
+        Resource userResource = new ResourceImpl(URI.createURI("syson:///user"));
+        resourceSet.getResources().add(userResource);
+        Package userPackage = this.createTypedPartPackage();
+        userResource.getContents().add(userPackage);
+
+        Package libraryPackage = (Package) library.getContents().get(0);
+        PartDefinition libraryPartDefinition = (PartDefinition) libraryPackage.getOwnedMember().get(0);
+        assertFalse(libraryPackage.eAdapters().contains(adapter));
+        assertFalse(libraryPartDefinition.eAdapters().contains(adapter));
+        assertTrue(userPackage.eAdapters().contains(adapter));
+        assertEquals(adapter, EMFUtils.getCrossReferenceAdapter(libraryPartDefinition).orElse(null));
+
+        // Reference from the user resource to the library
+        PartUsage userPart = (PartUsage) userPackage.getOwnedMember().get(1);
+        userPart.getOwnedTyping().get(0).setType(libraryPartDefinition);
+
+        Collection<Setting> inverseReferences = EMFUtils.getInverse(libraryPartDefinition, SysmlPackage.eINSTANCE.getFeatureTyping_Type());
+        List<Object> typings = inverseReferences.stream().map(Setting::getEObject).map(Object.class::cast).toList();
+        PartUsage libraryPart = (PartUsage) libraryPackage.getOwnedMember().get(1);
+        assertEquals(2, typings.size());
+        assertTrue(typings.contains(libraryPart.getOwnedTyping().get(0)));
+        assertTrue(typings.contains(userPart.getOwnedTyping().get(0)));
+    }
+
+    private Package createTypedPartPackage() {
+        Package pkg = SysmlFactory.eINSTANCE.createPackage();
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        partDefinition.setDeclaredName("PartDefinition");
+        this.addMember(pkg, partDefinition);
+        PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+        partUsage.setDeclaredName("part");
+        this.addMember(pkg, partUsage);
+        FeatureTyping featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+        featureTyping.setType(partDefinition);
+        partUsage.getOwnedRelationship().add(featureTyping);
+        return pkg;
+    }
+
+    private void addMember(Package owner, Element member) {
+        OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+        membership.getOwnedRelatedElement().add(member);
+        owner.getOwnedRelationship().add(membership);
+    }
+}
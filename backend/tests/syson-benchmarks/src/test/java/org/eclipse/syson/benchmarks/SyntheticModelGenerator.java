@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.syson.sysml.ConnectionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.EndFeatureMembership;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.StateDefinition;
+import org.eclipse.syson.sysml.StateUsage;
+import org.eclipse.syson.sysml.Succession;
+import org.eclipse.syson.sysml.TransitionUsage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.eclipse.syson.util.SysONEContentAdapter;
+
+/**
+ * Generates reproducible synthetic models used by the benchmarks.
+ *
+ * <p>
+ * The models measuring the textual export contain top-level packages, each one containing a chain of nested packages.
+ * Each of these packages contains part definitions, specializing part definitions created before, and part usages
+ * typed by part definitions created before, which may be located in any package.
+ * </p>
+ *
+ * <p>
+ * The models measuring the diagrams contain, in a single package, part definitions owning a port, a part usage
+ * containing part usages typed by these definitions and connected by their ports, and a state definition containing
+ * states and the transitions between them.
+ * </p>
+ *
+ * @author agent
+ */
+public class SyntheticModelGenerator {
+
+    private static final int PARTS_PER_PACKAGE = 10;
+
+    private static final long SEED = 42L;
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private final Random random = new Random(SEED);
+
+    private final List<PartDefinition> definitions = new ArrayList<>();
+
+    private int elementCount;
+
+    /**
+     * Generates a synthetic model.
+     *
+     * @param packageCount
+     *            the number of top-level packages
+     * @param depth
+     *            the number of nested packages in each top-level package, including itself
+     * @param referenceDensity
+     *            the number of references from each part definition and each part usage to other part definitions
+     * @return the root namespace of the model
+     */
+    public Namespace generate(int packageCount, int depth, int referenceDensity) {
+        Namespace root = this.builder.createRootNamespace();
+        for (int i = 0; i < packageCount; i++) {
+            Element parent = root;
+            for (int level = 0; level < depth; level++) {
+                Package pkg = this.builder.createInWithName(Package.class, parent, "Package" + i + "_" + level);
+                this.fillPackage(pkg, referenceDensity);
+                parent = pkg;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Generates a synthetic model displayed by the diagrams. The model is stored in a resource set observed by a
+     * {@link SysONEContentAdapter}, like the models of an editing context, so that the indexes and caches of the
+     * services are used.
+     *
+     * @param size
+     *            the number of parts, ports and states of the model
+     * @return the package containing the model
+     */
+    public Package generateSystem(int size) {
+        Namespace root = this.builder.createRootNamespace();
+        root.eResource().getResourceSet().eAdapters().add(new SysONEContentAdapter());
+        Package system = this.builder.createInWithName(Package.class, root, "System");
+        PartUsage assembly = this.builder.createInWithName(PartUsage.class, system, "assembly");
+        List<PortUsage> ports = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            PartDefinition definition = this.builder.createInWithName(PartDefinition.class, system, "PartDefinition" + i);
+            this.builder.createInWithName(PortUsage.class, definition, "port");
+            PartUsage part = this.builder.createInWithName(PartUsage.class, assembly, "part" + i);
+            this.builder.setType(part, definition);
+            ports.add(this.builder.createInWithName(PortUsage.class, part, "port" + i));
+        }
+        for (int i = 1; i < size; i++) {
+            ConnectionUsage connection = this.builder.createInWithName(ConnectionUsage.class, assembly, "connection" + i);
+            this.addEnd(connection, ports.get(i - 1));
+            this.addEnd(connection, ports.get(i));
+        }
+        StateDefinition behavior = this.builder.createInWithName(StateDefinition.class, system, "Behavior");
+        List<StateUsage> states = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            states.add(this.builder.createInWithName(StateUsage.class, behavior, "state" + i));
+        }
+        for (int i = 1; i < size; i++) {
+            TransitionUsage transition = this.builder.createInWithName(TransitionUsage.class, behavior, "transition" + i);
+            this.builder.createIn(Membership.class, transition).setMemberElement(states.get(i - 1));
+            this.builder.createSuccessionAsUsage(Succession.class, transition, states.get(i - 1), states.get(i));
+        }
+        this.elementCount++;
+        system.eAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof Element element && !(element instanceof Relationship) && element.getDeclaredName() != null) {
+                this.elementCount++;
+            }
+        });
+        return system;
+    }
+
+    /**
+     * Returns the number of named elements created by the last generations.
+     *
+     * @return the number of packages, part definitions, part usages and, in the models of the diagrams, ports,
+     *         connections, states and transitions
+     */
+    public int getElementCount() {
+        return this.elementCount;
+    }
+
+    private void fillPackage(Package pkg, int referenceDensity) {
+        this.elementCount++;
+        for (int i = 0; i < PARTS_PER_PACKAGE; i++) {
+            PartDefinition definition = this.builder.createInWithName(PartDefinition.class, pkg, pkg.getDeclaredName() + "Def" + i);
+            PartUsage usage = this.builder.createInWithName(PartUsage.class, definition, "part" + i);
+            for (int j = 0; j < referenceDensity && !this.definitions.isEmpty(); j++) {
+                this.builder.addSubclassification(definition, this.getRandomDefinition());
+                this.builder.setType(usage, this.getRandomDefinition());
+            }
+            this.definitions.add(definition);
+            this.elementCount += 2;
+        }
+    }
+
+    /**
+     * Adds an end to the given connection, referencing the given port, like the edge creation tools of the diagrams.
+     */
+    private void addEnd(ConnectionUsage connection, PortUsage port) {
+        EndFeatureMembership endFeatureMembership = this.builder.createIn(EndFeatureMembership.class, connection);
+        Feature end = this.builder.create(Feature.class);
+        endFeatureMembership.getOwnedRelatedElement().add(end);
+        this.builder.addReferenceSubsetting(end, port);
+    }
+
+    private PartDefinition getRandomDefinition() {
+        return this.definitions.get(this.random.nextInt(this.definitions.size()));
+    }
+}
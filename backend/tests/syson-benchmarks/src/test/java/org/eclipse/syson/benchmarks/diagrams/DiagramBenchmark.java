@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.benchmarks.diagrams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.builder.generated.ViewBuilder;
+import org.eclipse.sirius.components.view.builder.providers.IRepresentationDescriptionProvider;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
+import org.eclipse.sirius.components.view.diagram.EdgeDescription;
+import org.eclipse.sirius.components.view.diagram.InsideLabelDescription;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.sirius.components.view.diagram.OutsideLabelDescription;
+import org.eclipse.syson.benchmarks.SyntheticModelGenerator;
+import org.eclipse.syson.diagram.actionflow.view.ActionFlowViewDiagramDescriptionProvider;
+import org.eclipse.syson.diagram.common.view.services.ShowDiagramsIconsService;
+import org.eclipse.syson.diagram.common.view.services.ViewEdgeService;
+import org.eclipse.syson.diagram.common.view.services.ViewLabelService;
+import org.eclipse.syson.diagram.common.view.services.ViewNodeService;
+import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
+import org.eclipse.syson.diagram.interconnection.view.InterconnectionViewDiagramDescriptionProvider;
+import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewEdgeService;
+import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewLabelService;
+import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewNodeService;
+import org.eclipse.syson.diagram.statetransition.view.StateTransitionViewDiagramDescriptionProvider;
+import org.eclipse.syson.services.ColorProvider;
+import org.eclipse.syson.services.UtilService;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.EMFUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmarks of the expressions evaluated to render the SysON diagrams on synthetic models of growing size.
+ *
+ * <p>
+ * The expressions of the node and edge descriptions of each diagram are evaluated by an AQL interpreter with the Java
+ * services of the diagram, like during a rendering: the semantic candidates expressions on the root package of the
+ * model, and the label expressions on each of their candidates. The labels are measured both from the label cache of
+ * the model and after a change of name, which requires to compute them again.
+ * </p>
+ *
+ * <p>
+ * Since the number of expressions and labels depends on the diagram and on the size of the model, each invocation of
+ * the semantic candidates and labels benchmarks evaluates a fixed number of them, going through them in a round-robin
+ * fashion. Their time and their normalized allocation (<code>gc.alloc.rate.norm</code>) are thus given per evaluated
+ * expression or label, and can be compared between diagrams and sizes. After a change of name, the name is changed
+ * again once all the labels have been evaluated.
+ * </p>
+ *
+ * <p>
+ * Run with <code>mvn -Pbenchmarks test-compile exec:exec -Dbenchmarks.include=DiagramBenchmark</code> in this module,
+ * which enables the GC profiler to report the allocation rate.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiagramBenchmark {
+
+    /**
+     * The number of semantic candidates expressions or labels evaluated by each invocation of a benchmark.
+     */
+    private static final int EVALUATIONS_PER_INVOCATION = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramBenchmark.class);
+
+    @Param
+    protected BenchmarkedDiagram diagram;
+
+    @Param({ "100", "1000" })
+    protected int size;
+
+    private Package system;
+
+    private String systemName;
+
+    private AQLInterpreter interpreter;
+
+    private List<String> semanticCandidatesExpressions;
+
+    private List<LabelEvaluation> labelEvaluations;
+
+    private int semanticCandidatesIndex;
+
+    private int labelIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticModelGenerator generator = new SyntheticModelGenerator();
+        this.system = generator.generateSystem(this.size);
+        this.systemName = this.system.getDeclaredName();
+        this.interpreter = new AQLInterpreter(List.of(), this.diagram.createServices(), List.of(SysmlPackage.eINSTANCE));
+
+        DiagramDescription diagramDescription = this.createDiagramDescription();
+        this.semanticCandidatesExpressions = new ArrayList<>();
+        this.labelEvaluations = new ArrayList<>();
+        EMFUtils.allContainedObjectOfType(diagramDescription, DiagramElementDescription.class).forEach(elementDescription -> {
+            String semanticCandidatesExpression = elementDescription.getSemanticCandidatesExpression();
+            if (semanticCandidatesExpression != null && !semanticCandidatesExpression.isBlank()) {
+                this.semanticCandidatesExpressions.add(semanticCandidatesExpression);
+                List<Object> candidates = this.evaluateSemanticCandidates(semanticCandidatesExpression);
+                this.getLabelExpressions(elementDescription).forEach(labelExpression -> {
+                    candidates.forEach(candidate -> this.labelEvaluations.add(new LabelEvaluation(labelExpression, candidate)));
+                });
+            }
+        });
+        this.logger.info("{} with {} elements: {} semantic candidates expressions, {} labels", this.diagram, generator.getElementCount(), this.semanticCandidatesExpressions.size(),
+                this.labelEvaluations.size());
+    }
+
+    @Benchmark
+    public DiagramDescription diagramDescription() {
+        return this.createDiagramDescription();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVALUATIONS_PER_INVOCATION)
+    public int semanticCandidates() {
+        int candidateCount = 0;
+        for (int i = 0; i < EVALUATIONS_PER_INVOCATION; i++) {
+            candidateCount += this.evaluateSemanticCandidates(this.semanticCandidatesExpressions.get(this.semanticCandidatesIndex)).size();
+            this.semanticCandidatesIndex = (this.semanticCandidatesIndex + 1) % this.semanticCandidatesExpressions.size();
+        }
+        return candidateCount;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVALUATIONS_PER_INVOCATION)
+    public int cachedLabels() {
+        int length = 0;
+        for (int i = 0; i < EVALUATIONS_PER_INVOCATION; i++) {
+            length += this.evaluateNextLabel();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVALUATIONS_PER_INVOCATION)
+    public int labelsAfterRename() {
+        int length = 0;
+        for (int i = 0; i < EVALUATIONS_PER_INVOCATION; i++) {
+            if (this.labelIndex == 0) {
+                this.rename();
+            }
+            length += this.evaluateNextLabel();
+        }
+        return length;
+    }
+
+    private DiagramDescription createDiagramDescription() {
+        View view = new ViewBuilder().build();
+        DiagramDescription diagramDescription = (DiagramDescription) this.diagram.createDescriptionProvider().create(new ColorProvider(view));
+        view.getDescriptions().add(diagramDescription);
+        return diagramDescription;
+    }
+
+    private List<Object> evaluateSemanticCandidates(String semanticCandidatesExpression) {
+        return this.interpreter.evaluateExpression(Map.of(VariableManager.SELF, this.system), semanticCandidatesExpression).asObjects().orElse(List.of());
+    }
+
+    private int evaluateNextLabel() {
+        LabelEvaluation labelEvaluation = this.labelEvaluations.get(this.labelIndex);
+        this.labelIndex = (this.labelIndex + 1) % this.labelEvaluations.size();
+        return this.interpreter.evaluateExpression(Map.of(VariableManager.SELF, labelEvaluation.semanticElement()), labelEvaluation.labelExpression()).asString().orElse("").length();
+    }
+
+    private void rename() {
+        // Any change of name requires to compute all the labels again.
+        if (this.systemName.equals(this.system.getDeclaredName())) {
+            this.system.setDeclaredName(this.systemName + "Renamed");
+        } else {
+            this.system.setDeclaredName(this.systemName);
+        }
+    }
+
+    private Stream<String> getLabelExpressions(DiagramElementDescription elementDescription) {
+        Stream<String> labelExpressions = Stream.of();
+        if (elementDescription instanceof NodeDescription nodeDescription) {
+            Stream<String> insideLabelExpression = Stream.ofNullable(nodeDescription.getInsideLabel()).map(InsideLabelDescription::getLabelExpression);
+            labelExpressions = Stream.concat(insideLabelExpression, nodeDescription.getOutsideLabels().stream().map(OutsideLabelDescription::getLabelExpression));
+        } else if (elementDescription instanceof EdgeDescription edgeDescription) {
+            labelExpressions = Stream.of(edgeDescription.getBeginLabelExpression(), edgeDescription.getCenterLabelExpression(), edgeDescription.getEndLabelExpression());
+        }
+        return labelExpressions.filter(Objects::nonNull).filter(labelExpression -> !labelExpression.isBlank());
+    }
+
+    /**
+     * The diagrams measured by the benchmark, with the Java services used by their expressions which do not require the
+     * application context.
+     *
+     * @author agent
+     */
+    public enum BenchmarkedDiagram {
+        GENERAL_VIEW(GeneralViewDiagramDescriptionProvider::new, BenchmarkedDiagram::createCommonServices),
+        INTERCONNECTION_VIEW(InterconnectionViewDiagramDescriptionProvider::new, BenchmarkedDiagram::createInterconnectionServices),
+        ACTION_FLOW_VIEW(ActionFlowViewDiagramDescriptionProvider::new, BenchmarkedDiagram::createCommonServices),
+        STATE_TRANSITION_VIEW(StateTransitionViewDiagramDescriptionProvider::new, BenchmarkedDiagram::createCommonServices);
+
+        private final Supplier<IRepresentationDescriptionProvider> descriptionProvider;
+
+        private final Supplier<List<Object>> services;
+
+        BenchmarkedDiagram(Supplier<IRepresentationDescriptionProvider> descriptionProvider, Supplier<List<Object>> services) {
+            this.descriptionProvider = descriptionProvider;
+            this.services = services;
+        }
+
+        IRepresentationDescriptionProvider createDescriptionProvider() {
+            return this.descriptionProvider.get();
+        }
+
+        List<Object> createServices() {
+            return this.services.get();
+        }
+
+        private static List<Object> createCommonServices() {
+            return List.of(new ViewLabelService(new IFeedbackMessageService.NoOp(), new ShowDiagramsIconsService()), new ViewNodeService(new IObjectService.NoOp()),
+                    new ViewEdgeService(new IFeedbackMessageService.NoOp()), new UtilService());
+        }
+
+        private static List<Object> createInterconnectionServices() {
+            return List.of(new InterconnectionViewLabelService(new IFeedbackMessageService.NoOp(), new ShowDiagramsIconsService()), new InterconnectionViewNodeService(new IObjectService.NoOp()),
+                    new InterconnectionViewEdgeService(new IFeedbackMessageService.NoOp()), new UtilService());
+        }
+    }
+
+    /**
+     * A label expression evaluated on a semantic element.
+     *
+     * @param labelExpression
+     *            the label expression
+     * @param semanticElement
+     *            the semantic element
+     * @author agent
+     */
+    private record LabelEvaluation(String labelExpression, Object semanticElement) {
+        LabelEvaluation {
+            Objects.requireNonNull(labelExpression);
+            Objects.requireNonNull(semanticElement);
+        }
+    }
+}
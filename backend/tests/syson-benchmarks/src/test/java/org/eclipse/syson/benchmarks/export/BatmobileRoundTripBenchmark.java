@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.benchmarks.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.syson.application.sysmlv2.SysONDefaultResourceProvider;
+import org.eclipse.syson.sysml.export.SysMLv2DocumentExporter;
+import org.eclipse.syson.sysml.export.utils.ExportOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the import of the Batmobile sample from its JSON form followed by its textual export.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatmobileRoundTripBenchmark {
+
+    private final SysMLv2DocumentExporter documentExporter = new SysMLv2DocumentExporter();
+
+    private byte[] batmobile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Resource resource = new SysONDefaultResourceProvider(List.of()).getBatmobileResource();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, null);
+        this.batmobile = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] importExport() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        resourceSet.getResources().add(resource);
+        try (var inputStream = new ByteArrayInputStream(this.batmobile)) {
+            resource.load(inputStream, null);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.documentExporter.write(resource, ExportOptions.newExportOptions().build(), outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.benchmarks.export;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.syson.benchmarks.SyntheticModelGenerator;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.export.utils.ExportOptions;
+import org.eclipse.syson.sysml.export.utils.IncrementalExportCache;
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmarks of the textual export of synthetic models of growing size, depth and reference density.
+ *
+ * <p>
+ * Run with <code>mvn -Pbenchmarks test-compile exec:exec</code> in this module, which enables the GC profiler to
+ * report the allocation rate. The deresolution cache hits and misses are reported as secondary results.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final String INDENTATION = "\t";
+
+    private final Logger logger = LoggerFactory.getLogger(ExportBenchmark.class);
+
+    @Param({ "10", "100" })
+    protected int packageCount;
+
+    @Param({ "1", "4" })
+    protected int depth;
+
+    @Param({ "0", "3" })
+    protected int referenceDensity;
+
+    private Namespace root;
+
+    private IncrementalExportCache exportCache;
+
+    private StringBuilder output;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SyntheticModelGenerator generator = new SyntheticModelGenerator();
+        this.root = generator.generate(this.packageCount, this.depth, this.referenceDensity);
+        this.output = new StringBuilder();
+        // The cache identifies the top-level elements by their ID, like in an editing context
+        this.root.eResource().getAllContents().forEachRemaining(element -> element.eAdapters().add(new IDAdapter(UUID.randomUUID())));
+        this.exportCache = IncrementalExportCache.getOrInstall(this.root.eResource().getResourceSet());
+        new SysMLElementSerializer(LINE_SEPARATOR, INDENTATION, ExportOptions.newExportOptions().exportCache(this.exportCache).build(), null).write(this.root, this.output);
+        this.logger.info("Synthetic model with {} elements, exported in {} characters", generator.getElementCount(), this.output.length());
+    }
+
+    @Benchmark
+    public int export(DeresolutionCounters counters) throws IOException {
+        NameDeresolver nameDeresolver = new NameDeresolver();
+        this.output.setLength(0);
+        new SysMLElementSerializer(LINE_SEPARATOR, INDENTATION, nameDeresolver, null).write(this.root, this.output);
+        counters.add(nameDeresolver);
+        return this.output.length();
+    }
+
+    @Benchmark
+    public int exportUnchangedModel() throws IOException {
+        this.output.setLength(0);
+        new SysMLElementSerializer(LINE_SEPARATOR, INDENTATION, ExportOptions.newExportOptions().exportCache(this.exportCache).build(), null).write(this.root, this.output);
+        return this.output.length();
+    }
+
+    /**
+     * Counts the hits and misses of the cache of the deresolved names during an iteration.
+     *
+     * @author agent
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class DeresolutionCounters {
+
+        private long hits;
+
+        private long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.hits = 0;
+            this.misses = 0;
+        }
+
+        public long deresolutionCacheHits() {
+            return this.hits;
+        }
+
+        public long deresolutionCacheMisses() {
+            return this.misses;
+        }
+
+        void add(NameDeresolver nameDeresolver) {
+            this.hits += nameDeresolver.getCacheHitCount();
+            this.misses += nameDeresolver.getCacheMissCount();
+        }
+    }
+}
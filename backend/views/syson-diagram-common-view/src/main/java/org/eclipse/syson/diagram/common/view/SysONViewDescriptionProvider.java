@@ -12,35 +12,100 @@
  *******************************************************************************/
 package org.eclipse.syson.diagram.common.view;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 /**
  * The editing context processor contributing SysOn views to the editing context.
  * Views registered here will be converted in representation description by the {@link org.eclipse.sirius.web.application.studio.services.ViewBasedRepresentationDescriptionConverter}
  *
+ * <p>
+ * The views are built once, in parallel and in the background when the application starts, and shared by all the
+ * editing contexts. The first editing context processed waits for the views which are not built yet. The views have to
+ * be built before the build timeout expires, otherwise they are considered as failed. The application fails to start if
+ * the views could not be built.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
 public class SysONViewDescriptionProvider implements IEditingContextProcessor {
 
-    private final List<View> views;
+    private final Logger logger = LoggerFactory.getLogger(SysONViewDescriptionProvider.class);
+
+    private final CompletableFuture<List<View>> views;
 
-    public SysONViewDescriptionProvider(List<IViewDescriptionProvider> viewDescriptionProviders) {
-        this.views = viewDescriptionProviders.stream()
-                .flatMap(viewDescriptionProvider -> viewDescriptionProvider.getRepresentationDescriptions().stream())
+    public SysONViewDescriptionProvider(List<IViewDescriptionProvider> viewDescriptionProviders, @Value("${org.eclipse.syson.views.build.timeout:5m}") Duration buildTimeout) {
+        int threadCount = Math.max(1, Math.min(viewDescriptionProviders.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "syson-views-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<List<View>>> providerViews = viewDescriptionProviders.stream()
+                .map(viewDescriptionProvider -> CompletableFuture.supplyAsync(() -> this.build(viewDescriptionProvider), executor))
                 .toList();
+        this.views = CompletableFuture.allOf(providerViews.toArray(CompletableFuture[]::new))
+                .thenApply(done -> providerViews.stream()
+                        .flatMap(future -> future.join().stream())
+                        .toList())
+                .orTimeout(buildTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        this.views.whenComplete((builtViews, exception) -> {
+            executor.shutdown();
+            if (exception != null) {
+                this.logger.error("The SysON views could not be built", exception);
+            }
+        });
+    }
+
+    /**
+     * Waits for the views once the application has started, so that the application fails to start if they could not
+     * be built, instead of failing when the first editing context is processed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        this.logger.info("{} SysON views built", this.getViews().size());
     }
 
     @Override
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
-            siriusWebEditingContext.getViews().addAll(this.views);
+            siriusWebEditingContext.getViews().addAll(this.getViews());
         }
     }
+
+    /**
+     * Returns the SysON views, waiting for them to be built if necessary, at most until the build timeout expires. A
+     * {@link java.util.concurrent.CompletionException} is thrown if the views could not be built in time.
+     *
+     * @return the SysON views
+     */
+    public List<View> getViews() {
+        return this.views.join();
+    }
+
+    private List<View> build(IViewDescriptionProvider viewDescriptionProvider) {
+        long start = System.nanoTime();
+        List<View> providerViews = Objects.requireNonNull(viewDescriptionProvider.getRepresentationDescriptions());
+        this.logger.info("{} built in {} ms", viewDescriptionProvider.getViewDiagramId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return providerViews;
+    }
 }
@@ -26,51 +26,63 @@ import org.eclipse.sirius.components.view.diagram.NodeDescription;
 
 /**
  * Store and retrieve created element.
+ * <p>
+ * The node and edge descriptions are indexed by name when they are stored, their names must thus be set before. If
+ * several descriptions have the same name, the first one stored is retrieved.
+ * </p>
  *
  * @author arichard
  */
 public class ViewDiagramElementFinder implements IViewObjectCache, IViewDiagramElementFinder {
 
-    private final Map<String, List<EObject>> data = new HashMap<>();
+    private final List<NodeDescription> nodeDescriptions = new ArrayList<>();
+
+    private final List<EdgeDescription> edgeDescriptions = new ArrayList<>();
+
+    private final Map<String, NodeDescription> nodeDescriptionsByName = new HashMap<>();
+
+    private final Map<String, EdgeDescription> edgeDescriptionsByName = new HashMap<>();
+
+    private List<NodeDescription> nodeDescriptionsSnapshot;
+
+    private List<EdgeDescription> edgeDescriptionsSnapshot;
 
     @Override
     public void put(EObject eObject) {
-        var eObjects = this.data.getOrDefault(eObject.eClass().getName(), new ArrayList<>());
-        eObjects.add(eObject);
-        this.data.put(eObject.eClass().getName(), eObjects);
+        if (eObject instanceof NodeDescription nodeDescription) {
+            this.nodeDescriptions.add(nodeDescription);
+            this.nodeDescriptionsByName.putIfAbsent(nodeDescription.getName(), nodeDescription);
+            this.nodeDescriptionsSnapshot = null;
+        } else if (eObject instanceof EdgeDescription edgeDescription) {
+            this.edgeDescriptions.add(edgeDescription);
+            this.edgeDescriptionsByName.putIfAbsent(edgeDescription.getName(), edgeDescription);
+            this.edgeDescriptionsSnapshot = null;
+        }
     }
 
     @Override
     public Optional<NodeDescription> getNodeDescription(String name) {
-        return this.data.getOrDefault("NodeDescription", List.of()).stream()
-                .filter(NodeDescription.class::isInstance)
-                .map(NodeDescription.class::cast)
-                .filter(nodeDescription -> nodeDescription.getName().equals(name))
-                .findFirst();
+        return Optional.ofNullable(this.nodeDescriptionsByName.get(name));
     }
 
     @Override
     public Optional<EdgeDescription> getEdgeDescription(String name) {
-        return this.data.getOrDefault("EdgeDescription", List.of()).stream()
-                .filter(EdgeDescription.class::isInstance)
-                .map(EdgeDescription.class::cast)
-                .filter(edgeDescription -> edgeDescription.getName().equals(name))
-                .findFirst();
+        return Optional.ofNullable(this.edgeDescriptionsByName.get(name));
     }
 
     @Override
     public List<NodeDescription> getNodeDescriptions() {
-        return this.data.getOrDefault("NodeDescription", List.of()).stream()
-                .filter(NodeDescription.class::isInstance)
-                .map(NodeDescription.class::cast)
-                .toList();
+        if (this.nodeDescriptionsSnapshot == null) {
+            this.nodeDescriptionsSnapshot = List.copyOf(this.nodeDescriptions);
+        }
+        return this.nodeDescriptionsSnapshot;
     }
 
     @Override
     public List<EdgeDescription> getEdgeDescriptions() {
-        return this.data.getOrDefault("EdgeDescription", List.of()).stream()
-                .filter(EdgeDescription.class::isInstance)
-                .map(EdgeDescription.class::cast)
-                .toList();
+        if (this.edgeDescriptionsSnapshot == null) {
+            this.edgeDescriptionsSnapshot = List.copyOf(this.edgeDescriptions);
+        }
+        return this.edgeDescriptionsSnapshot;
     }
 }
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.common.view.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class for the maximum number of views created by a single execution of the "Add existing elements" tools.
+ *
+ * @author agent
+ */
+@Service
+public class AddExistingElementsBudgetService {
+
+    @Value("${org.eclipse.syson.add.existing.elements.budget:5000}")
+    private int budget;
+
+    public void setBudget(int budget) {
+        this.budget = budget;
+    }
+
+    public int getBudget() {
+        return this.budget;
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.common.view.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * A {@link NodeFinder} indexing the nodes of a given Diagram once, to answer all the queries without traversing the
+ * diagram again.
+ * <p>
+ * The indexes are built when the finder is created, the finder must thus be used with a diagram which is not modified
+ * anymore, like the diagram of a {@link org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext} during the
+ * execution of a tool. The parents are indexed like {@link NodeFinder#getParent(Node)} finds them: the parent of a
+ * border node is not indexed.
+ * </p>
+ *
+ * @author agent
+ */
+public class IndexedNodeFinder extends NodeFinder {
+
+    private final Diagram diagram;
+
+    /**
+     * All the nodes of the diagram, in the order in which {@link NodeFinder} visits them.
+     */
+    private final List<Node> nodes = new ArrayList<>();
+
+    private final Map<String, Node> nodesById = new HashMap<>();
+
+    private final Map<String, Object> parentsById = new HashMap<>();
+
+    private final Map<String, List<Node>> nodesByTargetObjectId = new HashMap<>();
+
+    private final Map<String, List<Node>> nodesByDescriptionId = new HashMap<>();
+
+    public IndexedNodeFinder(Diagram diagram) {
+        super(diagram);
+        this.diagram = Objects.requireNonNull(diagram);
+        for (Node node : diagram.getNodes()) {
+            this.index(node, diagram);
+        }
+    }
+
+    public Diagram getDiagram() {
+        return this.diagram;
+    }
+
+    @Override
+    public Object getParent(Node searchNode) {
+        return this.parentsById.get(searchNode.getId());
+    }
+
+    @Override
+    public Optional<Node> getOneNodeMatching(Predicate<Node> predicate) {
+        Objects.requireNonNull(predicate);
+        return this.nodes.stream().filter(predicate).findFirst();
+    }
+
+    @Override
+    public List<Node> getAllNodesMatching(Predicate<Node> filter) {
+        Objects.requireNonNull(filter);
+        List<Node> result = new ArrayList<>();
+        for (Node node : this.nodes) {
+            if (filter.test(node)) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the node with the given identifier.
+     *
+     * @param nodeId
+     *            the identifier of a node
+     * @return the node, or an empty optional if the diagram does not contain it
+     */
+    public Optional<Node> getNode(String nodeId) {
+        return Optional.ofNullable(this.nodesById.get(nodeId));
+    }
+
+    /**
+     * Gets the nodes representing the semantic element with the given identifier.
+     *
+     * @param targetObjectId
+     *            the identifier of a semantic element
+     * @return the nodes representing the semantic element
+     */
+    public List<Node> getNodesByTargetObjectId(String targetObjectId) {
+        return Collections.unmodifiableList(this.nodesByTargetObjectId.getOrDefault(targetObjectId, List.of()));
+    }
+
+    /**
+     * Gets the nodes created from the node description with the given identifier.
+     *
+     * @param descriptionId
+     *            the identifier of a node description
+     * @return the nodes created from the node description
+     */
+    public List<Node> getNodesByDescriptionId(String descriptionId) {
+        return Collections.unmodifiableList(this.nodesByDescriptionId.getOrDefault(descriptionId, List.of()));
+    }
+
+    private void index(Node node, Object parent) {
+        this.nodes.add(node);
+        this.nodesById.putIfAbsent(node.getId(), node);
+        if (parent != null) {
+            this.parentsById.putIfAbsent(node.getId(), parent);
+        }
+        this.nodesByTargetObjectId.computeIfAbsent(node.getTargetObjectId(), key -> new ArrayList<>()).add(node);
+        this.nodesByDescriptionId.computeIfAbsent(node.getDescriptionId(), key -> new ArrayList<>()).add(node);
+        for (Node childNode : node.getChildNodes()) {
+            this.index(childNode, node);
+        }
+        for (Node borderNode : node.getBorderNodes()) {
+            this.index(borderNode, null);
+        }
+    }
+}
@@ -37,7 +37,6 @@ import org.eclipse.syson.sysml.SuccessionAsUsage;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.TransitionUsage;
 import org.eclipse.syson.sysml.Usage;
-import org.eclipse.syson.util.SysMLMetamodelHelper;
 
 /**
  * Edge-related Java services used by several diagrams.
@@ -46,6 +45,15 @@ import org.eclipse.syson.util.SysMLMetamodelHelper;
  */
 public class ViewEdgeService {
 
+    /**
+     * The name of the index of the {@link AllocationUsage} displayed as allocate edges.
+     */
+    private static final String ALLOCATE_EDGES_INDEX = "allocateEdges";
+
+    /**
+     * The name of the index of the {@link AllocationUsage} displayed as nodes.
+     */
+    private static final String ALLOCATION_USAGES_INDEX = "allocationUsages";
 
     protected final IFeedbackMessageService feedbackMessageService;
 
@@ -64,12 +72,10 @@ public class ViewEdgeService {
      * @return a list of allocate edge objects
      */
     public List<AllocationUsage> getAllReachableAllocateEdges(EObject eObject) {
-        String type = SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getAllocationUsage());
-        var allAllocationUsages = this.utilService.getAllReachable(eObject, type);
-        return allAllocationUsages.stream()
-                .filter(AllocationUsage.class::isInstance)
+        var allocateEdges = this.utilService.getAllReachableMatching(eObject, ALLOCATE_EDGES_INDEX, SysmlPackage.eINSTANCE.getAllocationUsage(),
+                au -> au instanceof AllocationUsage allocationUsage && this.isAnAllocateEdge(allocationUsage));
+        return allocateEdges.stream()
                 .map(AllocationUsage.class::cast)
-                .filter(au -> this.isAnAllocateEdge(au))
                 .toList();
     }
 
@@ -81,12 +87,10 @@ public class ViewEdgeService {
      * @return a list of {@link AllocationUsage} objects
      */
     public List<AllocationUsage> getAllReachableAllocationUsages(EObject eObject) {
-        String type = SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getAllocationUsage());
-        var allAllocationUsages = this.utilService.getAllReachable(eObject, type);
-        return allAllocationUsages.stream()
-                .filter(AllocationUsage.class::isInstance)
+        var allocationUsages = this.utilService.getAllReachableMatching(eObject, ALLOCATION_USAGES_INDEX, SysmlPackage.eINSTANCE.getAllocationUsage(),
+                au -> au instanceof AllocationUsage allocationUsage && !this.isAnAllocateEdge(allocationUsage));
+        return allocationUsages.stream()
                 .map(AllocationUsage.class::cast)
-                .filter(au -> !this.isAnAllocateEdge(au))
                 .toList();
     }
 
@@ -60,6 +60,11 @@ public class ViewLabelService extends LabelService {
      */
     private static final String EFFECT_ACTION_SEPARATOR = ", ";
 
+    /**
+     * The kind of the cached labels of the {@link Usage} displayed as compartment items.
+     */
+    private static final String COMPARTMENT_ITEM_LABEL_KIND = "compartmentItemLabel";
+
     private final UtilService utilService;
 
     private final ShowDiagramsIconsService showDiagramsIconsService;
@@ -89,6 +94,10 @@ public class ViewLabelService extends LabelService {
      * @return the label for the given {@link Usage}.
      */
     public String getCompartmentItemLabel(Usage usage) {
+        return this.getCachedLabel(COMPARTMENT_ITEM_LABEL_KIND, usage, this::computeCompartmentItemLabel);
+    }
+
+    private String computeCompartmentItemLabel(Usage usage) {
         StringBuilder label = new StringBuilder();
         if (usage.isIsReference() && !(usage instanceof AttributeUsage)) {
             // AttributeUsage are always referential, so no need to add the ref keyword
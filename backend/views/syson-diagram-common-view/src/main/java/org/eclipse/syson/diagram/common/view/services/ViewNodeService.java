@@ -13,10 +13,15 @@
 package org.eclipse.syson.diagram.common.view.services;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.emf.ecore.EObject;
@@ -52,12 +57,23 @@ import org.slf4j.LoggerFactory;
  */
 public class ViewNodeService {
 
+    /**
+     * The name of the index of the {@link PerformActionUsage} referencing an action.
+     */
+    private static final String REFERENCING_PERFORM_ACTION_USAGES_INDEX = "referencingPerformActionUsages";
+
     private final Logger logger = LoggerFactory.getLogger(ViewNodeService.class);
 
     private final IObjectService objectService;
 
     private final UtilService utilService;
 
+    /**
+     * The identifiers of the ancestors of the nodes already checked, by node identifier, for each rendering cache still
+     * in use.
+     */
+    private final Map<DiagramRenderingCache, Map<String, Set<String>>> ancestorIdsByCache = Collections.synchronizedMap(new WeakHashMap<>());
+
     public ViewNodeService(IObjectService objectService) {
         this.objectService = Objects.requireNonNull(objectService);
         this.utilService = new UtilService();
@@ -107,11 +123,10 @@ public class ViewNodeService {
             if (compartmentCandidates.size() > 1) {
                 this.logger.warn("Multiple compartment candidates found for {} in {}.", targetElement.eClass().getName(), node.toString());
             }
-            NodeFinder nodeFinder = new NodeFinder(diagramContext.getDiagram());
-            List<Node> candidateNodes = nodeFinder
-                    .getAllNodesMatching(n -> compartmentCandidates.stream().map(NodeDescription::getId).anyMatch(id -> Objects.equals(id, n.getDescriptionId()))
-                            && Objects.equals(n.getTargetObjectId(), node.getTargetObjectId())
-                    );
+            Set<String> compartmentCandidateIds = compartmentCandidates.stream().map(NodeDescription::getId).collect(Collectors.toSet());
+            List<Node> candidateNodes = new IndexedNodeFinder(diagramContext.getDiagram()).getNodesByTargetObjectId(node.getTargetObjectId()).stream()
+                    .filter(n -> compartmentCandidateIds.contains(n.getDescriptionId()))
+                    .toList();
             new DiagramServices().reveal(new DiagramService(diagramContext), candidateNodes);
         }
         return node;
@@ -201,11 +216,10 @@ public class ViewNodeService {
     }
 
     public List<PerformActionUsage> getAllReferencingPerformActionUsages(Element self) {
-        List<EObject> allPerformActionUsages = this.utilService.getAllReachable(self, SysmlPackage.eINSTANCE.getPerformActionUsage());
-        return allPerformActionUsages.stream()
-                .filter(PerformActionUsage.class::isInstance)
+        List<EObject> referencingPerformActionUsages = this.utilService.getAllReachableMatching(self, REFERENCING_PERFORM_ACTION_USAGES_INDEX, SysmlPackage.eINSTANCE.getPerformActionUsage(),
+                pau -> pau instanceof PerformActionUsage performActionUsage && this.isReferencingPerformActionUsage(performActionUsage));
+        return referencingPerformActionUsages.stream()
                 .map(PerformActionUsage.class::cast)
-                .filter(this::isReferencingPerformActionUsage)
                 .toList();
     }
 
@@ -216,6 +230,10 @@ public class ViewNodeService {
      * provided {@code diagramContext}. It is typically called in edge preconditions to prevent the creation of
      * containment edges that are not necessary because the node is graphically contained in its parent.
      * </p>
+     * <p>
+     * The identifiers of the ancestors of each node are computed once per rendering, see
+     * {@link #getAncestorIds(String, DiagramRenderingCache)}.
+     * </p>
      *
      * @param parentNodeElement
      *            the element representing the parent node
@@ -230,19 +248,31 @@ public class ViewNodeService {
         boolean result = false;
         if (parentNodeElement.getProps() instanceof NodeElementProps parentNodeProps
                 && childNodeElement.getProps() instanceof NodeElementProps childNodeProps) {
-            List<String> ancestorIds = cache.getAncestors(childNodeProps.getId()).stream()
-                    .map(org.eclipse.sirius.components.representations.Element::getProps)
-                    .filter(NodeElementProps.class::isInstance)
-                    .map(NodeElementProps.class::cast)
-                    .map(NodeElementProps::getId)
-                    .toList();
-            result = ancestorIds.contains(parentNodeProps.getId());
+            result = this.getAncestorIds(childNodeProps.getId(), cache).contains(parentNodeProps.getId());
         } else {
             this.logger.warn("Cannot check graphical containment between {} and {}", parentNodeElement, childNodeElement);
         }
         return result;
     }
 
+    /**
+     * Returns the identifiers of the ancestors of the node with the given identifier in the given rendering.
+     * <p>
+     * The identifiers are computed the first time the ancestors of a node are requested during a rendering, and shared
+     * by all the edge preconditions evaluated on the node afterwards. They are kept with the rendering cache, and
+     * forgotten once the rendering cache is no longer used.
+     * </p>
+     */
+    private Set<String> getAncestorIds(String nodeId, DiagramRenderingCache cache) {
+        Map<String, Set<String>> ancestorIdsByNodeId = this.ancestorIdsByCache.computeIfAbsent(cache, key -> new HashMap<>());
+        return ancestorIdsByNodeId.computeIfAbsent(nodeId, key -> cache.getAncestors(key).stream()
+                .map(org.eclipse.sirius.components.representations.Element::getProps)
+                .filter(NodeElementProps.class::isInstance)
+                .map(NodeElementProps.class::cast)
+                .map(NodeElementProps::getId)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
     private boolean isReferencingPerformActionUsage(PerformActionUsage pau) {
         // the given PerformActionUsage is a referencing PerformActionUsage if it contains a reference subsetting
         // pointing to an action.
@@ -257,5 +287,4 @@ public class ViewNodeService {
     private boolean isAction(Element element) {
         return element instanceof ActionUsage || element instanceof ActionDefinition;
     }
-
 }
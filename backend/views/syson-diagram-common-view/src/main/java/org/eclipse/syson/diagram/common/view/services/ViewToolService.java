@@ -13,10 +13,15 @@
 package org.eclipse.syson.diagram.common.view.services;
 
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.eclipse.emf.ecore.EClass;
@@ -73,6 +78,7 @@ import org.eclipse.syson.sysml.TransitionUsage;
 import org.eclipse.syson.sysml.Usage;
 import org.eclipse.syson.sysml.UseCaseDefinition;
 import org.eclipse.syson.sysml.UseCaseUsage;
+import org.eclipse.syson.sysml.helper.EMFUtils;
 import org.eclipse.syson.util.SysMLMetamodelHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,6 +92,11 @@ public class ViewToolService extends ToolService {
 
     private static final String STATE_TRANSITION_COMPARTMENT_NAME = "state transition";
 
+    /**
+     * The number of views created by a single addition of the existing elements after which its progress is logged.
+     */
+    private static final int ADD_EXISTING_ELEMENTS_PROGRESS_INTERVAL = 1000;
+
     protected final IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService;
 
     protected final ElementInitializerSwitch elementInitializerSwitch;
@@ -96,16 +107,17 @@ public class ViewToolService extends ToolService {
 
     private final UtilService utilService;
 
-    private final NodeDescriptionService nodeDescriptionService;
+    private final AddExistingElementsBudgetService addExistingElementsBudgetService;
 
     public ViewToolService(IObjectService objectService, IRepresentationDescriptionSearchService representationDescriptionSearchService,
-            IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, IFeedbackMessageService feedbackMessageService) {
+            IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, IFeedbackMessageService feedbackMessageService,
+            AddExistingElementsBudgetService addExistingElementsBudgetService) {
         super(objectService, representationDescriptionSearchService, feedbackMessageService);
         this.viewRepresentationDescriptionSearchService = Objects.requireNonNull(viewRepresentationDescriptionSearchService);
+        this.addExistingElementsBudgetService = Objects.requireNonNull(addExistingElementsBudgetService);
         this.elementInitializerSwitch = new ElementInitializerSwitch();
         this.deleteService = new DeleteService();
         this.utilService = new UtilService();
-        this.nodeDescriptionService = new NodeDescriptionService();
     }
 
     /**
@@ -117,6 +129,10 @@ public class ViewToolService extends ToolService {
      * {@link #addExistingElements(Element, IEditingContext, IDiagramContext, Node, Map, boolean)} to add elements
      * inside existing nodes.
      * </p>
+     * <p>
+     * The model is walked iteratively, in depth-first order, and at most {@link AddExistingElementsBudgetService#getBudget()}
+     * views are created.
+     * </p>
      *
      * @param parentElement
      *            the {@link Element} to add in the diagram
@@ -134,82 +150,10 @@ public class ViewToolService extends ToolService {
      */
     public Element addExistingElements(Element parentElement, IEditingContext editingContext, IDiagramContext diagramContext, ViewCreationRequest parentViewCreationRequest,
             Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes, boolean recursive) {
-
-        List<? extends Element> childElementsToRender = this.getChildElementsToRender(parentElement);
-
-        var diagramDescription = this.viewRepresentationDescriptionSearchService.findById(editingContext, diagramContext.getDiagram().getDescriptionId());
-        DiagramDescription representationDescription = (DiagramDescription) diagramDescription.get();
-
-
-        final org.eclipse.sirius.components.view.diagram.NodeDescription parentNodeDescription;
-        if (parentViewCreationRequest != null) {
-            parentNodeDescription = this.getViewNodeDescription(parentViewCreationRequest.getDescriptionId(), representationDescription, convertedNodes)
-                    .orElse(null);
-        } else {
-            parentNodeDescription = null;
-        }
-
-        for (Element childElement : childElementsToRender) {
-            List<ViewCreationRequest> creationRequests = new ArrayList<>();
-            boolean hasRenderedSynchronizedElement = false;
-            if (parentViewCreationRequest == null) {
-                creationRequests.add(this.createView(childElement, editingContext, diagramContext, (Node) null, convertedNodes));
-            } else {
-                if (parentNodeDescription.getChildrenLayoutStrategy() instanceof ListLayoutStrategyDescription) {
-                    // The parent node has compartments, we want to add elements inside them if possible.
-                    List<org.eclipse.sirius.components.view.diagram.NodeDescription> allChildren = Stream
-                            .concat(parentNodeDescription.getChildrenDescriptions().stream(), parentNodeDescription.getReusedChildNodeDescriptions().stream()).toList();
-                    for (org.eclipse.sirius.components.view.diagram.NodeDescription compartmentNodeDescription : allChildren) {
-                        // We can't use the method getChildNodeDescriptionIdForRendering here because we can't access
-                        // the parent node (it hasn't been created yet),
-                        // nor the parent ViewCreationRequest because the compartment is synchronized and thus it is not
-                        // created by a request.
-                        List<NodeDescription> candidates = this.nodeDescriptionService.getChildNodeDescriptionsForRendering(childElement,
-                                childElement.getOwner(), List.of(convertedNodes.get(compartmentNodeDescription)), convertedNodes);
-                        if (!candidates.isEmpty()) {
-                            String parentElementId = this.getParentElementId(parentViewCreationRequest,
-                                    diagramContext);
-                            String compartmentNodeId = new NodeIdProvider().getNodeId(parentElementId,
-                                    convertedNodes.get(compartmentNodeDescription).getId(),
-                                    NodeContainmentKind.CHILD_NODE,
-                                    // The compartment has the same target object as its parent.
-                                    parentViewCreationRequest.getTargetObjectId());
-                            for (NodeDescription candidate : candidates) {
-                                // Ignore synchronized nodes, this avoids unnecessary recursions that could create
-                                // rendering issues when attempting to add an element as a child of a synchronized
-                                // element. This is especially the case when creating views for synchronized elements
-                                // inside a list compartment.
-                                if (candidate.getSynchronizationPolicy().equals(SynchronizationPolicy.SYNCHRONIZED)) {
-                                    hasRenderedSynchronizedElement = true;
-                                } else {
-                                    creationRequests.add(this.createView(childElement, compartmentNodeId, candidate.getId(), diagramContext, NodeContainmentKind.CHILD_NODE));
-                                }
-                            }
-                        }
-                    }
-                } else {
-                    // The parent doesn't have compartments, we want to add elements directly inside it if possible.
-                    // This is for example the case with Package elements.
-                    this.getChildNodeDescriptionIdForRendering(childElement, editingContext, diagramContext, parentViewCreationRequest, convertedNodes)
-                            .ifPresent(descriptionId -> {
-                                creationRequests.add(this.createView(childElement, editingContext, diagramContext, parentViewCreationRequest, convertedNodes));
-                            });
-                }
-            }
-
-            if (!creationRequests.isEmpty()) {
-                if (recursive) {
-                    creationRequests.forEach(creationRequest -> {
-                        this.addExistingElements(childElement, editingContext, diagramContext, creationRequest, convertedNodes, recursive);
-                    });
-                }
-            } else if (!hasRenderedSynchronizedElement) {
-                // No element have been created for the current child, we try to find a parent that can represent it.
-                // This is for example the case with usages semantically contained in other usages but graphically
-                // displayed next to them.
-                this.addElementInParent(childElement, parentViewCreationRequest.getParentElementId(), editingContext, diagramContext, convertedNodes, recursive);
-            }
-        }
+        AddExistingElementsWalk walk = new AddExistingElementsWalk(editingContext, diagramContext, convertedNodes, recursive, this.addExistingElementsBudgetService.getBudget());
+        this.pushFrame(walk, parentElement, parentViewCreationRequest);
+        this.walk(walk);
+        this.reportAddedElements(walk);
         return parentElement;
     }
 
@@ -240,21 +184,23 @@ public class ViewToolService extends ToolService {
     public Element addExistingElements(Element parentElement, IEditingContext editingContext, IDiagramContext diagramContext, Node selectedNode,
             Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes, boolean recursive) {
         final List<? extends Element> childElementsToRender = this.getChildElementsToRender(parentElement);
+        AddExistingElementsWalk walk = new AddExistingElementsWalk(editingContext, diagramContext, convertedNodes, recursive, this.addExistingElementsBudgetService.getBudget());
         boolean hasRenderedSynchronizedElement = false;
 
         for (Element childElement : childElementsToRender) {
+            if (walk.isBudgetReached()) {
+                walk.setTruncated(true);
+                break;
+            }
             List<ViewCreationRequest> creationRequests = new ArrayList<>();
             if (selectedNode == null) {
-                creationRequests.add(this.createView(childElement, editingContext, diagramContext, selectedNode, convertedNodes));
+                creationRequests.add(this.createView(childElement, editingContext, diagramContext, selectedNode, convertedNodes, NodeContainmentKind.CHILD_NODE, walk.getNodeDescriptionService()));
             } else {
                 if (selectedNode.getChildrenLayoutStrategy() instanceof ListLayoutStrategy) {
+                    NodeDescriptionService nodeDescriptionService = walk.getNodeDescriptionService();
                     for (Node compartmentNode : selectedNode.getChildNodes()) {
-
-                        NodeDescription compartmentNodeDescription = convertedNodes.values().stream()
-                                .filter(nd -> Objects.equals(nd.getId(), compartmentNode.getDescriptionId()))
-                                .findFirst()
-                                .orElse(null);
-                        List<NodeDescription> candidates = this.nodeDescriptionService.getChildNodeDescriptionsForRendering(childElement, childElement.getOwner(), List.of(compartmentNodeDescription),
+                        NodeDescription compartmentNodeDescription = nodeDescriptionService.getConvertedNodeDescription(compartmentNode.getDescriptionId(), convertedNodes).orElse(null);
+                        List<NodeDescription> candidates = nodeDescriptionService.getChildNodeDescriptionsForRendering(childElement, childElement.getOwner(), List.of(compartmentNodeDescription),
                                 convertedNodes);
                         for (NodeDescription candidate : candidates) {
                             // Ignore synchronized nodes, this avoids unnecessary recursions that could create
@@ -272,23 +218,18 @@ public class ViewToolService extends ToolService {
                     // The parent doesn't have compartments, we want to add elements directly inside it if
                     // possible.
                     // This is for example the case with Package elements.
-                    this.getChildNodeDescriptionIdForRendering(childElement, editingContext, diagramContext, selectedNode, convertedNodes)
+                    this.getChildNodeDescriptionIdForRendering(childElement, editingContext, diagramContext, selectedNode, convertedNodes, walk.getNodeDescriptionService())
                             .ifPresent(descriptionId -> {
-                                creationRequests.add(this.createView(childElement, editingContext, diagramContext, selectedNode, convertedNodes));
+                                creationRequests.add(this.createView(childElement, editingContext, diagramContext, selectedNode, convertedNodes, NodeContainmentKind.CHILD_NODE,
+                                        walk.getNodeDescriptionService()));
                             });
                 }
             }
-            if (!creationRequests.isEmpty()) {
-                if (recursive) {
-                    creationRequests.forEach(creationRequest -> {
-                        this.addExistingElements(childElement, editingContext, diagramContext, creationRequest, convertedNodes, recursive);
-                    });
-                }
-            } else if (!hasRenderedSynchronizedElement) {
+            if (creationRequests.isEmpty() && !hasRenderedSynchronizedElement) {
                 // Render in parent if the element hasn't been rendered by a creation request nor a synchronized node.
                 final String parentElementId;
                 if (selectedNode != null) {
-                    Object parentObject = new NodeFinder(diagramContext.getDiagram()).getParent(selectedNode);
+                    Object parentObject = walk.getNodeFinder().getParent(selectedNode);
                     if (parentObject instanceof Node parentNode) {
                         parentElementId = parentNode.getId();
                     } else {
@@ -297,12 +238,213 @@ public class ViewToolService extends ToolService {
                 } else {
                     parentElementId = null;
                 }
-                this.addElementInParent(childElement, parentElementId, editingContext, diagramContext, convertedNodes, recursive);
+                creationRequests.add(this.addElementInParent(childElement, parentElementId, walk));
+            } else if (creationRequests.isEmpty()) {
+                continue;
             }
+            this.pushFrames(walk, childElement, creationRequests);
+            this.walk(walk);
         }
+        this.reportAddedElements(walk);
         return parentElement;
     }
 
+    /**
+     * Adds the children of the elements of the frames of the given walk, until all the frames have been processed or
+     * the budget of the walk is exceeded.
+     * <p>
+     * A frame is processed until all its children have been added, and the frames pushed while adding a child are
+     * processed before its next sibling, so that the views are created in the same order as a recursive traversal.
+     * </p>
+     */
+    private void walk(AddExistingElementsWalk walk) {
+        while (!walk.getFrames().isEmpty() && !walk.isBudgetReached()) {
+            AddExistingElementsFrame frame = walk.getFrames().peek();
+            if (frame.childElements().hasNext()) {
+                Element childElement = frame.childElements().next();
+                List<ViewCreationRequest> creationRequests = this.addChildElement(walk, frame, childElement);
+                this.pushFrames(walk, childElement, creationRequests);
+            } else {
+                walk.getFrames().pop();
+            }
+        }
+        if (!walk.getFrames().isEmpty()) {
+            walk.setTruncated(true);
+        }
+    }
+
+    /**
+     * Creates the views of the given child element of the parent element of the given frame.
+     *
+     * @return the created views, which may contain <code>null</code> if a view could not be created
+     */
+    private List<ViewCreationRequest> addChildElement(AddExistingElementsWalk walk, AddExistingElementsFrame frame, Element childElement) {
+        List<ViewCreationRequest> creationRequests = new ArrayList<>();
+        boolean hasRenderedSynchronizedElement = false;
+        ViewCreationRequest parentViewCreationRequest = frame.parentViewCreationRequest();
+        if (parentViewCreationRequest == null) {
+            creationRequests.add(this.createView(childElement, walk.getEditingContext(), walk.getDiagramContext(), (Node) null, walk.getConvertedNodes(), NodeContainmentKind.CHILD_NODE,
+                    walk.getNodeDescriptionService()));
+        } else if (frame.parentNodeDescription().getChildrenLayoutStrategy() instanceof ListLayoutStrategyDescription) {
+            // The parent node has compartments, we want to add elements inside them if possible.
+            hasRenderedSynchronizedElement = this.addChildElementInCompartments(walk, frame, childElement, creationRequests);
+        } else {
+            // The parent doesn't have compartments, we want to add elements directly inside it if possible.
+            // This is for example the case with Package elements.
+            this.getChildNodeDescriptionIdForRendering(childElement, walk.getEditingContext(), walk.getDiagramContext(), parentViewCreationRequest, walk.getConvertedNodes(),
+                    walk.getNodeDescriptionService())
+                    .ifPresent(descriptionId -> {
+                        creationRequests.add(this.createView(childElement, walk.getEditingContext(), walk.getDiagramContext(), parentViewCreationRequest, walk.getConvertedNodes(),
+                                NodeContainmentKind.CHILD_NODE, walk.getNodeDescriptionService()));
+                    });
+        }
+        if (creationRequests.isEmpty() && !hasRenderedSynchronizedElement) {
+            // No element have been created for the current child, we try to find a parent that can represent it.
+            // This is for example the case with usages semantically contained in other usages but graphically
+            // displayed next to them.
+            creationRequests.add(this.addElementInParent(childElement, parentViewCreationRequest.getParentElementId(), walk));
+        }
+        return creationRequests;
+    }
+
+    /**
+     * Creates the views of the given child element in the compartments of the parent node description of the given
+     * frame.
+     *
+     * @return <code>true</code> if a synchronized compartment item can render the child element, <code>false</code>
+     *         otherwise
+     */
+    private boolean addChildElementInCompartments(AddExistingElementsWalk walk, AddExistingElementsFrame frame, Element childElement, List<ViewCreationRequest> creationRequests) {
+        boolean hasRenderedSynchronizedElement = false;
+        NodeDescriptionService nodeDescriptionService = walk.getNodeDescriptionService();
+        for (org.eclipse.sirius.components.view.diagram.NodeDescription compartmentNodeDescription : frame.compartmentNodeDescriptions()) {
+            // We can't use the method getChildNodeDescriptionIdForRendering here because we can't access
+            // the parent node (it hasn't been created yet),
+            // nor the parent ViewCreationRequest because the compartment is synchronized and thus it is not
+            // created by a request.
+            NodeDescription convertedCompartmentNodeDescription = walk.getConvertedNodes().get(compartmentNodeDescription);
+            List<NodeDescription> candidates = nodeDescriptionService.getChildNodeDescriptionsForRendering(childElement,
+                    childElement.getOwner(), List.of(convertedCompartmentNodeDescription), walk.getConvertedNodes());
+            if (!candidates.isEmpty()) {
+                String compartmentNodeId = new NodeIdProvider().getNodeId(frame.parentElementId(),
+                        convertedCompartmentNodeDescription.getId(),
+                        NodeContainmentKind.CHILD_NODE,
+                        // The compartment has the same target object as its parent.
+                        frame.parentViewCreationRequest().getTargetObjectId());
+                for (NodeDescription candidate : candidates) {
+                    // Ignore synchronized nodes, this avoids unnecessary recursions that could create
+                    // rendering issues when attempting to add an element as a child of a synchronized
+                    // element. This is especially the case when creating views for synchronized elements
+                    // inside a list compartment.
+                    if (candidate.getSynchronizationPolicy().equals(SynchronizationPolicy.SYNCHRONIZED)) {
+                        hasRenderedSynchronizedElement = true;
+                    } else {
+                        creationRequests.add(this.createView(childElement, compartmentNodeId, candidate.getId(), walk.getDiagramContext(), NodeContainmentKind.CHILD_NODE));
+                    }
+                }
+            }
+        }
+        return hasRenderedSynchronizedElement;
+    }
+
+    /**
+     * Counts the views created for the given element and, if the walk is recursive, pushes the frames adding the
+     * children of the element in these views, so that the first view is processed first.
+     */
+    private void pushFrames(AddExistingElementsWalk walk, Element element, List<ViewCreationRequest> creationRequests) {
+        long createdViews = walk.getCreatedViews();
+        walk.addCreatedViews(creationRequests.stream().filter(Objects::nonNull).count());
+        if (createdViews / ADD_EXISTING_ELEMENTS_PROGRESS_INTERVAL != walk.getCreatedViews() / ADD_EXISTING_ELEMENTS_PROGRESS_INTERVAL) {
+            this.logger.info("{} of at most {} views created by the addition of the existing elements", walk.getCreatedViews(), walk.getBudget());
+        }
+        if (walk.isRecursive()) {
+            for (int i = creationRequests.size() - 1; i >= 0; i--) {
+                this.pushFrame(walk, element, creationRequests.get(i));
+            }
+        }
+    }
+
+    private void pushFrame(AddExistingElementsWalk walk, Element element, ViewCreationRequest viewCreationRequest) {
+        org.eclipse.sirius.components.view.diagram.NodeDescription nodeDescription = null;
+        List<org.eclipse.sirius.components.view.diagram.NodeDescription> compartmentNodeDescriptions = List.of();
+        String parentElementId = null;
+        if (viewCreationRequest != null) {
+            nodeDescription = this.getViewNodeDescription(walk, viewCreationRequest.getDescriptionId());
+            if (nodeDescription != null && nodeDescription.getChildrenLayoutStrategy() instanceof ListLayoutStrategyDescription) {
+                compartmentNodeDescriptions = Stream.concat(nodeDescription.getChildrenDescriptions().stream(), nodeDescription.getReusedChildNodeDescriptions().stream()).toList();
+                parentElementId = this.getParentElementId(viewCreationRequest, walk.getDiagramContext());
+            }
+        }
+        walk.getFrames().push(new AddExistingElementsFrame(viewCreationRequest, nodeDescription, compartmentNodeDescriptions, parentElementId,
+                this.getChildElementsToRender(element).iterator()));
+    }
+
+    /**
+     * Returns the view node description converted to the node description with the given identifier.
+     * <p>
+     * The view node descriptions of the diagram description are indexed by the identifiers of their converted node
+     * descriptions the first time this method is called during a walk, see
+     * {@link ToolService#getViewNodeDescription(String, DiagramDescription, Map)}.
+     * </p>
+     */
+    private org.eclipse.sirius.components.view.diagram.NodeDescription getViewNodeDescription(AddExistingElementsWalk walk, String descriptionId) {
+        if (walk.getViewNodeDescriptions() == null) {
+            var diagramDescription = this.viewRepresentationDescriptionSearchService.findById(walk.getEditingContext(), walk.getDiagramContext().getDiagram().getDescriptionId());
+            Map<String, org.eclipse.sirius.components.view.diagram.NodeDescription> viewNodeDescriptions = new HashMap<>();
+            EMFUtils.eAllContentStreamWithSelf((DiagramDescription) diagramDescription.get())
+                    .filter(org.eclipse.sirius.components.view.diagram.NodeDescription.class::isInstance)
+                    .map(org.eclipse.sirius.components.view.diagram.NodeDescription.class::cast)
+                    .forEach(nodeDescription -> {
+                        NodeDescription convertedNodeDescription = walk.getConvertedNodes().get(nodeDescription);
+                        if (convertedNodeDescription != null) {
+                            viewNodeDescriptions.putIfAbsent(convertedNodeDescription.getId(), nodeDescription);
+                        }
+                    });
+            walk.setViewNodeDescriptions(viewNodeDescriptions);
+        }
+        return walk.getViewNodeDescriptions().get(descriptionId);
+    }
+
+    /**
+     * Returns the first view creation request of the diagram context creating the node with the given identifier.
+     * <p>
+     * The view creation requests are indexed by the identifiers of the nodes they create as they are added to the
+     * diagram context, instead of being scanned for each element added in its parent.
+     * </p>
+     */
+    private Optional<ViewCreationRequest> getViewCreationRequest(AddExistingElementsWalk walk, String nodeId) {
+        List<ViewCreationRequest> viewCreationRequests = walk.getDiagramContext().getViewCreationRequests();
+        if (viewCreationRequests.size() < walk.getIndexedViewCreationRequestCount()) {
+            walk.getViewCreationRequestsByNodeId().clear();
+            walk.setIndexedViewCreationRequestCount(0);
+        }
+        for (int i = walk.getIndexedViewCreationRequestCount(); i < viewCreationRequests.size(); i++) {
+            ViewCreationRequest viewCreationRequest = viewCreationRequests.get(i);
+            walk.getViewCreationRequestsByNodeId().putIfAbsent(this.getParentElementId(viewCreationRequest, walk.getDiagramContext()), viewCreationRequest);
+        }
+        walk.setIndexedViewCreationRequestCount(viewCreationRequests.size());
+        return Optional.ofNullable(walk.getViewCreationRequestsByNodeId().get(nodeId));
+    }
+
+    /**
+     * Reports the number of views created by the given walk to the user, warning them if the walk has been stopped by
+     * its budget before all the existing elements have been added.
+     */
+    private void reportAddedElements(AddExistingElementsWalk walk) {
+        if (walk.isTruncated()) {
+            String message = MessageFormat.format("Only {0} views have been added to the diagram, the limit of {1} views has been reached before all the existing elements have been added",
+                    walk.getCreatedViews(), walk.getBudget());
+            this.feedbackMessageService.addFeedbackMessage(new Message(message, MessageLevel.WARNING));
+            this.logger.warn(message);
+        } else if (walk.getCreatedViews() >= ADD_EXISTING_ELEMENTS_PROGRESS_INTERVAL) {
+            String message = MessageFormat.format("{0} views have been added to the diagram", walk.getCreatedViews());
+            this.feedbackMessageService.addFeedbackMessage(new Message(message, MessageLevel.INFO));
+            this.logger.info(message);
+        } else {
+            this.logger.debug("{} views added to the diagram", walk.getCreatedViews());
+        }
+    }
+
     /**
      * Returns the elements contained by {@code parentElement} that should be rendered.
      * <p>
@@ -340,41 +482,28 @@ public class ViewToolService extends ToolService {
      *            the element to create a view from
      * @param parentElementId
      *            the identifier of the parent that should contain the created view
-     * @param editingContext
-     *            the editing context
-     * @param diagramContext
-     *            the diagram context
-     * @param convertedNodes
-     *            the converted nodes
-     * @param recursive
-     *            whether the creation is recursive
-     * @return the element
+     * @param walk
+     *            the walk adding the existing elements
+     * @return the created view, or <code>null</code> if the element cannot be represented in its parent
      */
-    private Element addElementInParent(Element element, String parentElementId, IEditingContext editingContext, IDiagramContext diagramContext,
-            Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes, boolean recursive) {
-        diagramContext.getViewCreationRequests().stream()
-                .filter(vc -> Objects.equals(this.getParentElementId(vc, diagramContext), parentElementId))
-                .findFirst()
-                .ifPresentOrElse(vc -> {
-                    var req = this.createView(element, editingContext, diagramContext, vc, convertedNodes);
-                    if (recursive) {
-                        this.addExistingElements(element, editingContext, diagramContext, req, convertedNodes, recursive);
-                    }
-                }, () -> {
-                    new NodeFinder(diagramContext.getDiagram()).getOneNodeMatching(n -> Objects.equals(n.getId(), parentElementId))
-                            .ifPresentOrElse(n -> {
-                                var req = this.createView(element, editingContext, diagramContext, n, convertedNodes);
-                                if (recursive) {
-                                    this.addExistingElements(element, editingContext, diagramContext, req, convertedNodes, recursive);
-                                }
-                            }, () -> {
-                                var req = this.createView(element, editingContext, diagramContext, (Node) null, convertedNodes);
-                                if (recursive) {
-                                    this.addExistingElements(element, editingContext, diagramContext, req, convertedNodes, recursive);
-                                }
-                            });
-                });
-        return element;
+    private ViewCreationRequest addElementInParent(Element element, String parentElementId, AddExistingElementsWalk walk) {
+        IEditingContext editingContext = walk.getEditingContext();
+        IDiagramContext diagramContext = walk.getDiagramContext();
+        Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes = walk.getConvertedNodes();
+        final ViewCreationRequest viewCreationRequest;
+        Optional<ViewCreationRequest> parentViewCreationRequest = this.getViewCreationRequest(walk, parentElementId);
+        NodeDescriptionService nodeDescriptionService = walk.getNodeDescriptionService();
+        if (parentViewCreationRequest.isPresent()) {
+            viewCreationRequest = this.createView(element, editingContext, diagramContext, parentViewCreationRequest.get(), convertedNodes, NodeContainmentKind.CHILD_NODE, nodeDescriptionService);
+        } else {
+            Optional<Node> parentNode = walk.getNodeFinder().getNode(parentElementId);
+            if (parentNode.isPresent()) {
+                viewCreationRequest = this.createView(element, editingContext, diagramContext, parentNode.get(), convertedNodes, NodeContainmentKind.CHILD_NODE, nodeDescriptionService);
+            } else {
+                viewCreationRequest = this.createView(element, editingContext, diagramContext, (Node) null, convertedNodes, NodeContainmentKind.CHILD_NODE, nodeDescriptionService);
+            }
+        }
+        return viewCreationRequest;
     }
 
     /**
@@ -822,4 +951,154 @@ public class ViewToolService extends ToolService {
         }
         return selectedNode;
     }
+
+    /**
+     * The state of the addition of the existing elements to a diagram.
+     * <p>
+     * The model is walked with an explicit stack of frames instead of recursive calls, so that deep models cannot
+     * overflow the stack, and the lookup tables of the walk are computed once for all the added elements. The node
+     * finder and the node description service only live as long as the walk, so that they never retain a diagram or
+     * model elements once the tool has been executed.
+     * </p>
+     *
+     * @author agent
+     */
+    private static final class AddExistingElementsWalk {
+
+        private final IEditingContext editingContext;
+
+        private final IDiagramContext diagramContext;
+
+        private final Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes;
+
+        private final boolean recursive;
+
+        private final int budget;
+
+        private final NodeDescriptionService nodeDescriptionService = new NodeDescriptionService();
+
+        private IndexedNodeFinder nodeFinder;
+
+        private final Deque<AddExistingElementsFrame> frames = new ArrayDeque<>();
+
+        private final Map<String, ViewCreationRequest> viewCreationRequestsByNodeId = new HashMap<>();
+
+        private Map<String, org.eclipse.sirius.components.view.diagram.NodeDescription> viewNodeDescriptions;
+
+        private int indexedViewCreationRequestCount;
+
+        private long createdViews;
+
+        private boolean truncated;
+
+        AddExistingElementsWalk(IEditingContext editingContext, IDiagramContext diagramContext,
+                Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> convertedNodes, boolean recursive, int budget) {
+            this.editingContext = Objects.requireNonNull(editingContext);
+            this.diagramContext = Objects.requireNonNull(diagramContext);
+            this.convertedNodes = Objects.requireNonNull(convertedNodes);
+            this.recursive = recursive;
+            this.budget = budget;
+        }
+
+        IEditingContext getEditingContext() {
+            return this.editingContext;
+        }
+
+        IDiagramContext getDiagramContext() {
+            return this.diagramContext;
+        }
+
+        Map<org.eclipse.sirius.components.view.diagram.NodeDescription, NodeDescription> getConvertedNodes() {
+            return this.convertedNodes;
+        }
+
+        boolean isRecursive() {
+            return this.recursive;
+        }
+
+        NodeDescriptionService getNodeDescriptionService() {
+            return this.nodeDescriptionService;
+        }
+
+        /**
+         * Returns the node finder of the diagram, indexing its nodes the first time it is needed.
+         */
+        IndexedNodeFinder getNodeFinder() {
+            if (this.nodeFinder == null) {
+                this.nodeFinder = new IndexedNodeFinder(this.diagramContext.getDiagram());
+            }
+            return this.nodeFinder;
+        }
+
+        Deque<AddExistingElementsFrame> getFrames() {
+            return this.frames;
+        }
+
+        Map<String, ViewCreationRequest> getViewCreationRequestsByNodeId() {
+            return this.viewCreationRequestsByNodeId;
+        }
+
+        Map<String, org.eclipse.sirius.components.view.diagram.NodeDescription> getViewNodeDescriptions() {
+            return this.viewNodeDescriptions;
+        }
+
+        void setViewNodeDescriptions(Map<String, org.eclipse.sirius.components.view.diagram.NodeDescription> viewNodeDescriptions) {
+            this.viewNodeDescriptions = viewNodeDescriptions;
+        }
+
+        int getIndexedViewCreationRequestCount() {
+            return this.indexedViewCreationRequestCount;
+        }
+
+        void setIndexedViewCreationRequestCount(int indexedViewCreationRequestCount) {
+            this.indexedViewCreationRequestCount = indexedViewCreationRequestCount;
+        }
+
+        long getCreatedViews() {
+            return this.createdViews;
+        }
+
+        void addCreatedViews(long count) {
+            this.createdViews += count;
+        }
+
+        int getBudget() {
+            return this.budget;
+        }
+
+        boolean isBudgetReached() {
+            return this.createdViews >= this.budget;
+        }
+
+        boolean isTruncated() {
+            return this.truncated;
+        }
+
+        void setTruncated(boolean truncated) {
+            this.truncated = truncated;
+        }
+    }
+
+    /**
+     * The children of an element remaining to be added in one of its views.
+     *
+     * @param parentViewCreationRequest
+     *            the view of the parent element, or <code>null</code> to add the children on the diagram
+     * @param parentNodeDescription
+     *            the view node description of the view of the parent element
+     * @param compartmentNodeDescriptions
+     *            the compartments of the view of the parent element, if it has a list layout
+     * @param parentElementId
+     *            the identifier of the node created by the view of the parent element, if it has a list layout
+     * @param childElements
+     *            the children remaining to be added
+     * @author agent
+     */
+    private record AddExistingElementsFrame(ViewCreationRequest parentViewCreationRequest, org.eclipse.sirius.components.view.diagram.NodeDescription parentNodeDescription,
+            List<org.eclipse.sirius.components.view.diagram.NodeDescription> compartmentNodeDescriptions, String parentElementId, Iterator<? extends Element> childElements) {
+        AddExistingElementsFrame {
+            Objects.requireNonNull(compartmentNodeDescriptions);
+            Objects.requireNonNull(childElements);
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.common.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.builder.providers.IRepresentationDescriptionProvider;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SysONViewDescriptionProvider}.
+ *
+ * @author agent
+ */
+public class SysONViewDescriptionProviderTest {
+
+    private static final Duration BUILD_TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    public void viewsInOrderOfProviders() {
+        View firstView = ViewFactory.eINSTANCE.createView();
+        View secondView = ViewFactory.eINSTANCE.createView();
+        SysONViewDescriptionProvider provider = new SysONViewDescriptionProvider(List.of(new TestViewDescriptionProvider(() -> List.of(firstView)),
+                new TestViewDescriptionProvider(() -> List.of(secondView))), BUILD_TIMEOUT);
+
+        provider.onApplicationReady();
+
+        assertEquals(List.of(firstView, secondView), provider.getViews());
+    }
+
+    @Test
+    public void failingProviderPreventsStartup() {
+        // A provider returning no list of views fails to build them
+        SysONViewDescriptionProvider provider = new SysONViewDescriptionProvider(List.of(new TestViewDescriptionProvider(() -> List.of(ViewFactory.eINSTANCE.createView())),
+                new TestViewDescriptionProvider(() -> null)), BUILD_TIMEOUT);
+
+        CompletionException exception = assertThrows(CompletionException.class, provider::onApplicationReady);
+        assertInstanceOf(NullPointerException.class, exception.getCause());
+    }
+
+    @Test
+    public void blockedProviderTimesOut() {
+        CompletableFuture<List<View>> blockedViews = new CompletableFuture<>();
+        SysONViewDescriptionProvider provider = new SysONViewDescriptionProvider(List.of(new TestViewDescriptionProvider(blockedViews::join)), Duration.ofMillis(100));
+        try {
+            CompletionException exception = assertThrows(CompletionException.class, provider::getViews);
+            assertInstanceOf(TimeoutException.class, exception.getCause());
+        } finally {
+            blockedViews.complete(List.of());
+        }
+    }
+
+    /**
+     * A view description provider returning the views of a supplier.
+     *
+     * @author agent
+     */
+    private static final class TestViewDescriptionProvider implements IViewDescriptionProvider {
+
+        private final Supplier<List<View>> views;
+
+        TestViewDescriptionProvider(Supplier<List<View>> views) {
+            this.views = views;
+        }
+
+        @Override
+        public String getViewDiagramId() {
+            return "TestView";
+        }
+
+        @Override
+        public IRepresentationDescriptionProvider getRepresentationDescriptionProvider() {
+            return null;
+        }
+
+        @Override
+        public List<View> getRepresentationDescriptions() {
+            return this.views.get();
+        }
+    }
+}
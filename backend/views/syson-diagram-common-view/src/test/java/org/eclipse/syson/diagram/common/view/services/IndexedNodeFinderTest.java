@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.common.view.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.NodeType;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link IndexedNodeFinder}, checking that it answers the queries like {@link NodeFinder}.
+ *
+ * @author agent
+ */
+public class IndexedNodeFinderTest {
+
+    private Diagram diagram;
+
+    private Node part;
+
+    private Node attribute;
+
+    private Node port;
+
+    private Node portLabel;
+
+    private Node otherPart;
+
+    @BeforeEach
+    public void setUp() {
+        this.attribute = this.createNode("attribute", "attributeElement", "attributeDescription", false, List.of(), List.of());
+        this.portLabel = this.createNode("portLabel", "portElement", "portLabelDescription", false, List.of(), List.of());
+        this.port = this.createNode("port", "portElement", "portDescription", true, List.of(this.portLabel), List.of());
+        this.part = this.createNode("part", "partElement", "partDescription", false, List.of(this.attribute), List.of(this.port));
+        this.otherPart = this.createNode("otherPart", "partElement", "partDescription", false, List.of(), List.of());
+        this.diagram = Diagram.newDiagram("diagram")
+                .targetObjectId("root")
+                .descriptionId("diagramDescription")
+                .label("diagram")
+                .nodes(List.of(this.part, this.otherPart))
+                .edges(List.of())
+                .layoutData(new DiagramLayoutData(Map.of(), Map.of(), Map.of()))
+                .build();
+    }
+
+    @Test
+    public void getParent() {
+        IndexedNodeFinder nodeFinder = new IndexedNodeFinder(this.diagram);
+
+        assertSame(this.diagram, nodeFinder.getParent(this.part));
+        assertSame(this.part, nodeFinder.getParent(this.attribute));
+        // The parent of a border node is not found, like with NodeFinder, but its children have a parent
+        assertNull(nodeFinder.getParent(this.port));
+        assertSame(this.port, nodeFinder.getParent(this.portLabel));
+
+        NodeFinder referenceFinder = new NodeFinder(this.diagram);
+        for (Node node : List.of(this.part, this.attribute, this.port, this.portLabel, this.otherPart)) {
+            assertSame(referenceFinder.getParent(node), nodeFinder.getParent(node));
+        }
+    }
+
+    @Test
+    public void getNodes() {
+        IndexedNodeFinder nodeFinder = new IndexedNodeFinder(this.diagram);
+
+        assertSame(this.port, nodeFinder.getNode("port").orElseThrow());
+        assertEquals(List.of(this.port, this.portLabel), nodeFinder.getNodesByTargetObjectId("portElement"));
+        assertEquals(List.of(this.part, this.otherPart), nodeFinder.getNodesByDescriptionId("partDescription"));
+        assertEquals(new NodeFinder(this.diagram).getAllNodesMatching(node -> true), nodeFinder.getAllNodesMatching(node -> true));
+        assertSame(this.portLabel, nodeFinder.getOneNodeMatching(node -> "portElement".equals(node.getTargetObjectId()) && !node.isBorderNode()).orElseThrow());
+    }
+
+    private Node createNode(String id, String targetObjectId, String descriptionId, boolean borderNode, List<Node> childNodes, List<Node> borderNodes) {
+        return Node.newNode(id)
+                .type(NodeType.NODE_RECTANGLE)
+                .targetObjectId(targetObjectId)
+                .targetObjectKind("")
+                .targetObjectLabel("")
+                .descriptionId(descriptionId)
+                .borderNode(borderNode)
+                .modifiers(Set.of())
+                .state(ViewModifier.Normal)
+                .collapsingState(CollapsingState.EXPANDED)
+                .outsideLabels(List.of())
+                .style(RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("white")
+                        .borderColor("black")
+                        .borderSize(1)
+                        .borderRadius(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategy(new FreeFormLayoutStrategy())
+                .childNodes(childNodes)
+                .borderNodes(borderNodes)
+                .customizedStyleProperties(Set.of())
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.common.view.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.NodeType;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.representations.Element;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ViewNodeService#isAncestorOf(Element, Element, DiagramRenderingCache)}, checking that the
+ * ancestors of a node are computed once per rendering.
+ *
+ * @author agent
+ */
+public class ViewNodeServiceTest {
+
+    private final ViewNodeService viewNodeService = new ViewNodeService(new IObjectService.NoOp());
+
+    private final Element parent = this.createNodeElement("parent");
+
+    private final Element child = this.createNodeElement("child");
+
+    @Test
+    public void ancestorsAreComputedOncePerRendering() {
+        AncestorsRenderingCache cache = new AncestorsRenderingCache(this.parent);
+
+        assertTrue(this.viewNodeService.isAncestorOf(this.parent, this.child, cache));
+        assertTrue(this.viewNodeService.isAncestorOf(this.parent, this.child, cache));
+        assertEquals(1, cache.getAncestorsCalls());
+
+        AncestorsRenderingCache nextCache = new AncestorsRenderingCache(this.parent);
+
+        assertTrue(this.viewNodeService.isAncestorOf(this.parent, this.child, nextCache));
+        assertEquals(1, nextCache.getAncestorsCalls());
+    }
+
+    @Test
+    public void ancestorsOfEachRendering() {
+        AncestorsRenderingCache cache = new AncestorsRenderingCache(this.parent);
+        AncestorsRenderingCache cacheWithoutAncestors = new AncestorsRenderingCache();
+
+        assertTrue(this.viewNodeService.isAncestorOf(this.parent, this.child, cache));
+        assertFalse(this.viewNodeService.isAncestorOf(this.parent, this.child, cacheWithoutAncestors));
+        assertTrue(this.viewNodeService.isAncestorOf(this.parent, this.child, cache));
+        assertFalse(this.viewNodeService.isAncestorOf(this.child, this.parent, cache));
+    }
+
+    private Element createNodeElement(String id) {
+        NodeElementProps props = NodeElementProps.newNodeElementProps(id)
+                .type(NodeType.NODE_RECTANGLE)
+                .targetObjectId(id)
+                .targetObjectKind("")
+                .targetObjectLabel("")
+                .descriptionId("description")
+                .borderNode(false)
+                .modifiers(Set.of())
+                .state(ViewModifier.Normal)
+                .collapsingState(CollapsingState.EXPANDED)
+                .style(RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("white")
+                        .borderColor("black")
+                        .borderSize(1)
+                        .borderRadius(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategy(new FreeFormLayoutStrategy())
+                .children(List.of())
+                .customizedStyleProperties(Set.of())
+                .build();
+        return new Element(NodeElementProps.TYPE, props);
+    }
+
+    /**
+     * A rendering cache in which every node has the same ancestors, counting the requests of the ancestors.
+     *
+     * @author agent
+     */
+    private static final class AncestorsRenderingCache extends DiagramRenderingCache {
+
+        private final List<Element> ancestors;
+
+        private int ancestorsCalls;
+
+        AncestorsRenderingCache(Element... ancestors) {
+            this.ancestors = List.of(ancestors);
+        }
+
+        @Override
+        public List<Element> getAncestors(String nodeId) {
+            this.ancestorsCalls++;
+            return this.ancestors;
+        }
+
+        int getAncestorsCalls() {
+            return this.ancestorsCalls;
+        }
+    }
+}
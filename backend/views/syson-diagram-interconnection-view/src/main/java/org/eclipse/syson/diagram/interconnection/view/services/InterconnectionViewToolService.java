@@ -26,6 +26,7 @@ import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchSe
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.view.emf.IViewRepresentationDescriptionSearchService;
+import org.eclipse.syson.diagram.common.view.services.AddExistingElementsBudgetService;
 import org.eclipse.syson.diagram.common.view.services.ViewToolService;
 import org.eclipse.syson.diagram.interconnection.view.InterconnectionViewDiagramDescriptionProvider;
 import org.eclipse.syson.services.ElementInitializerSwitch;
@@ -49,8 +50,9 @@ public class InterconnectionViewToolService extends ViewToolService {
     private final ElementInitializerSwitch elementInitializerSwitch;
 
     public InterconnectionViewToolService(IObjectService objectService, IRepresentationDescriptionSearchService representationDescriptionSearchService,
-            IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, IFeedbackMessageService feedbackMessageService) {
-        super(objectService, representationDescriptionSearchService, viewRepresentationDescriptionSearchService, feedbackMessageService);
+            IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, IFeedbackMessageService feedbackMessageService,
+            AddExistingElementsBudgetService addExistingElementsBudgetService) {
+        super(objectService, representationDescriptionSearchService, viewRepresentationDescriptionSearchService, feedbackMessageService, addExistingElementsBudgetService);
         this.elementInitializerSwitch = new ElementInitializerSwitch();
     }
 